@@ -1,12 +1,14 @@
 package com.ecommerce.backend;
 
+import com.ecommerce.backend.config.ChatProperties;
 import com.ecommerce.backend.config.GeminiProperties;
+import com.ecommerce.backend.config.ShopProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
 @SpringBootApplication
-@EnableConfigurationProperties(GeminiProperties.class)
+@EnableConfigurationProperties({GeminiProperties.class, ShopProperties.class, ChatProperties.class})
 public class BackendApplication {
 
     public static void main(String[] args) {
@@ -3,22 +3,41 @@ package com.ecommerce.backend.chat;
 import com.ecommerce.backend.chat.dto.ChatRequest;
 import com.ecommerce.backend.chat.dto.ChatResponse;
 import jakarta.validation.Valid;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/chat")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ChatController {
     private final ChatService chatService;
+    private final ChatExecutor chatExecutor;
+    private final ChatStreamer chatStreamer;
 
-    public ChatController(ChatService chatService) {
+    public ChatController(ChatService chatService, ChatExecutor chatExecutor, ChatStreamer chatStreamer) {
         this.chatService = chatService;
+        this.chatExecutor = chatExecutor;
+        this.chatStreamer = chatStreamer;
     }
 
     @PostMapping
-    public ChatResponse chat(@Valid @RequestBody ChatRequest request) {
-        return new ChatResponse(chatService.replyTo(request.message()));
+    public CompletableFuture<ChatResponse> chat(@Valid @RequestBody ChatRequest request) {
+        return chatExecutor.submit(() -> new ChatResponse(chatService.replyTo(request.message(), request.sessionId())));
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam String message, @RequestParam(required = false) String sessionId) {
+        if (message.isBlank()) {
+            throw new IllegalArgumentException("message is required");
+        }
+        return chatStreamer.stream(message, sessionId);
     }
 }
@@ -1,11 +1,17 @@
 package com.ecommerce.backend.chat;
 
+import com.ecommerce.backend.shop.cart.CartService;
 import java.util.Map;
+import java.util.concurrent.TimeoutException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ResponseStatusException;
 
 @RestControllerAdvice
 public class ChatExceptionHandler {
@@ -13,11 +19,18 @@ public class ChatExceptionHandler {
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public Map<String, String> handleValidation(MethodArgumentNotValidException ex) {
-        String message = ex.getBindingResult().getFieldErrors().stream()
-                .findFirst()
-                .map(fieldError -> fieldError.getField() + ": " + fieldError.getDefaultMessage())
-                .orElse("Invalid request.");
-        return Map.of("error", message);
+        return Map.of("error", firstFieldError(ex.getBindingResult()));
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Map<String, String> handleReactiveValidation(WebExchangeBindException ex) {
+        return Map.of("error", firstFieldError(ex.getBindingResult()));
+    }
+
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<Map<String, String>> handleStatus(ResponseStatusException ex) {
+        return ResponseEntity.status(ex.getStatusCode()).body(Map.of("error", String.valueOf(ex.getReason())));
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
@@ -26,6 +39,24 @@ public class ChatExceptionHandler {
         return Map.of("error", ex.getMessage());
     }
 
+    @ExceptionHandler(ChatExecutor.ChatOverloadedException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public Map<String, String> handleOverloaded(ChatExecutor.ChatOverloadedException ex) {
+        return Map.of("error", ex.getMessage());
+    }
+
+    @ExceptionHandler(CartService.CartConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public Map<String, String> handleCartConflict(CartService.CartConflictException ex) {
+        return Map.of("error", ex.getMessage());
+    }
+
+    @ExceptionHandler(TimeoutException.class)
+    @ResponseStatus(HttpStatus.GATEWAY_TIMEOUT)
+    public Map<String, String> handleTimeout(TimeoutException ex) {
+        return Map.of("error", "Chat assistant took too long to answer. Please try again.");
+    }
+
     @ExceptionHandler(IllegalStateException.class)
     @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
     public Map<String, String> handleState(IllegalStateException ex) {
@@ -37,4 +68,11 @@ public class ChatExceptionHandler {
     public Map<String, String> handleRuntime(RuntimeException ex) {
         return Map.of("error", ex.getMessage());
     }
+
+    private static String firstFieldError(BindingResult bindingResult) {
+        return bindingResult.getFieldErrors().stream()
+                .findFirst()
+                .map(fieldError -> fieldError.getField() + ": " + fieldError.getDefaultMessage())
+                .orElse("Invalid request.");
+    }
 }
@@ -0,0 +1,103 @@
+package com.ecommerce.backend.chat;
+
+import com.ecommerce.backend.config.ChatProperties;
+import com.ecommerce.backend.metrics.RequestTimings;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ChatExecutor {
+    private final ThreadPoolExecutor executor;
+    private final Duration deadline;
+
+    public ChatExecutor(ChatProperties chatProperties, Environment environment) {
+        this.deadline = chatProperties.getDeadline();
+        this.executor = new ThreadPoolExecutor(
+                chatProperties.getMaxConcurrent(),
+                chatProperties.getMaxConcurrent(),
+                60,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(chatProperties.getQueueCapacity()),
+                Threading.VIRTUAL.isActive(environment) ? virtualThreads() : namedThreads(),
+                (task, pool) -> {
+                    throw new ChatOverloadedException();
+                }
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        long deadlineAt = System.nanoTime() + deadline.toNanos();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> running = executor.submit(RequestTimings.propagate(() -> {
+            if (System.nanoTime() > deadlineAt) {
+                // Spent the whole deadline waiting in the queue; the caller has already been answered.
+                result.completeExceptionally(new ChatOverloadedException());
+                return;
+            }
+            try {
+                result.complete(task.get());
+            } catch (Throwable ex) {
+                result.completeExceptionally(ex);
+            }
+        }));
+        result.orTimeout(deadline.toMillis(), TimeUnit.MILLISECONDS).whenComplete((reply, failure) -> {
+            if (failure instanceof TimeoutException) {
+                // Interrupt the overdue call so it gives its worker back instead of finishing for nobody.
+                running.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    public void execute(Runnable task) {
+        executor.execute(RequestTimings.propagate(task));
+    }
+
+    public int activeCount() {
+        return executor.getActiveCount();
+    }
+
+    public int queuedCount() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static ThreadFactory namedThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "chat-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static ThreadFactory virtualThreads() {
+        // The pool still caps concurrency and queueing; virtual workers just stop pinning a platform thread per call.
+        return new VirtualThreadTaskExecutor("chat-").getVirtualThreadFactory();
+    }
+
+    public static class ChatOverloadedException extends RejectedExecutionException {
+        public ChatOverloadedException() {
+            super("Chat assistant is busy. Please try again shortly.");
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.ecommerce.backend.chat;
+
+import com.ecommerce.backend.chat.intent.IntentClassifier;
+import com.ecommerce.backend.shop.product.ShoppingQuery;
+import com.ecommerce.backend.shop.product.ShoppingQueryParser;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.stereotype.Component;
+
+@Component
+class ChatMessageParser {
+    // Generated ids always carry digits; requiring one keeps words like "ordered" from reading as ids.
+    private static final Pattern ORDER_ID = Pattern.compile("\\b(ORD(?=[A-Z]*[0-9])[0-9A-Z]{4,20})\\b", Pattern.CASE_INSENSITIVE);
+    private static final List<String> COUNT_CUES = List.of("how many", "count", "total", "what's in", "what is in");
+
+    private final IntentClassifier intentClassifier;
+    private final ShoppingQueryParser shoppingQueryParser;
+
+    ChatMessageParser(IntentClassifier intentClassifier, ShoppingQueryParser shoppingQueryParser) {
+        this.intentClassifier = intentClassifier;
+        this.shoppingQueryParser = shoppingQueryParser;
+    }
+
+    ParsedChatMessage parse(String message) {
+        ShoppingQuery shopping = shoppingQueryParser.parse(message);
+        String text = shopping.text();
+        String lower = text.toLowerCase(Locale.ROOT);
+
+        Matcher orderId = ORDER_ID.matcher(text);
+        return new ParsedChatMessage(
+                text,
+                intentClassifier.classify(text),
+                orderId.find() ? orderId.group(1).toUpperCase(Locale.ROOT) : null,
+                shopping,
+                COUNT_CUES.stream().anyMatch(lower::contains)
+        );
+    }
+}
@@ -0,0 +1,195 @@
+package com.ecommerce.backend.chat;
+
+import com.ecommerce.backend.config.ChatProperties;
+import com.ecommerce.backend.shop.product.ProductChangedEvent;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ChatResponseCache {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AsyncCache<String, CachedReply> cache;
+    private final Map<Integer, Set<String>> keysByProduct = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public ChatResponseCache(ChatProperties chatProperties) {
+        ChatProperties.ResponseCache settings = chatProperties.getResponseCache();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(settings.getMaximumSize())
+                .expireAfterWrite(settings.getTimeToLive())
+                .recordStats()
+                .<String, CachedReply>removalListener((key, reply, cause) -> {
+                    // A replacement registered its own mappings already; dropping them here would stop invalidation.
+                    if (cause != RemovalCause.REPLACED) {
+                        forget(key, reply);
+                    }
+                })
+                .buildAsync();
+    }
+
+    public static String fingerprint(String message, String productContext) {
+        return normalizeMessage(message) + "#" + Long.toHexString(hash(productContext));
+    }
+
+    public String getOrLoad(String key, List<Integer> productIds, Supplier<String> loader) {
+        CompletableFuture<CachedReply> pending = new CompletableFuture<>();
+        CompletableFuture<CachedReply> existing = cache.asMap().putIfAbsent(key, pending);
+        if (existing != null) {
+            if (existing.isDone()) {
+                hits.increment();
+            } else {
+                coalesced.increment();
+            }
+            return existing.join().reply();
+        }
+
+        misses.increment();
+        try {
+            String reply = loader.get();
+            CachedReply cached = remember(key, reply, productIds);
+            pending.complete(cached);
+            return reply;
+        } catch (Throwable ex) {
+            // Failed futures are dropped by the cache, so the next caller retries upstream.
+            pending.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    public CompletableFuture<String> getOrLoadAsync(
+            String key,
+            List<Integer> productIds,
+            Supplier<CompletableFuture<String>> loader
+    ) {
+        CompletableFuture<CachedReply> pending = new CompletableFuture<>();
+        CompletableFuture<CachedReply> existing = cache.asMap().putIfAbsent(key, pending);
+        if (existing != null) {
+            if (existing.isDone()) {
+                hits.increment();
+            } else {
+                coalesced.increment();
+            }
+            return existing.thenApply(CachedReply::reply);
+        }
+
+        misses.increment();
+        CompletableFuture<String> loading;
+        try {
+            loading = loader.get();
+        } catch (Throwable ex) {
+            pending.completeExceptionally(ex);
+            throw ex;
+        }
+        return loading.whenComplete((reply, failure) -> {
+            if (failure != null) {
+                pending.completeExceptionally(failure);
+            } else {
+                pending.complete(remember(key, reply, productIds));
+            }
+        });
+    }
+
+    public String getIfPresent(String key) {
+        CompletableFuture<CachedReply> existing = cache.getIfPresent(key);
+        if (existing == null || !existing.isDone() || existing.isCompletedExceptionally()) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return existing.join().reply();
+    }
+
+    public void put(String key, String reply, List<Integer> productIds) {
+        cache.put(key, CompletableFuture.completedFuture(remember(key, reply, productIds)));
+    }
+
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.affectsWholeCatalog()) {
+            cache.synchronous().invalidateAll();
+            return;
+        }
+        Set<String> keys = keysByProduct.remove(event.productId());
+        if (keys != null) {
+            cache.synchronous().invalidateAll(keys);
+        }
+    }
+
+    public Stats stats() {
+        long hitCount = hits.sum();
+        long lookups = hitCount + misses.sum() + coalesced.sum();
+        return new Stats(
+                hitCount,
+                misses.sum(),
+                coalesced.sum(),
+                cache.synchronous().stats().evictionCount(),
+                cache.synchronous().estimatedSize(),
+                lookups == 0 ? 0 : (double) (hitCount + coalesced.sum()) / lookups
+        );
+    }
+
+    private CachedReply remember(String key, String reply, List<Integer> productIds) {
+        productIds.forEach(id -> keysByProduct.computeIfAbsent(id, ignored -> ConcurrentHashMap.newKeySet()).add(key));
+        return new CachedReply(reply, List.copyOf(productIds));
+    }
+
+    private void forget(String key, CachedReply reply) {
+        // The listener runs asynchronously, so the key may have been cached again since it was removed.
+        if (reply == null || cache.asMap().containsKey(key)) {
+            return;
+        }
+        for (Integer productId : reply.productIds()) {
+            keysByProduct.computeIfPresent(productId, (id, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    private static String normalizeMessage(String message) {
+        StringBuilder normalized = new StringBuilder(message.length());
+        boolean pendingSpace = false;
+        for (int index = 0; index < message.length(); index++) {
+            char ch = message.charAt(index);
+            if (Character.isLetterOrDigit(ch)) {
+                if (pendingSpace && !normalized.isEmpty()) {
+                    normalized.append(' ');
+                }
+                normalized.append(Character.toLowerCase(ch));
+                pendingSpace = false;
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return normalized.toString();
+    }
+
+    private static long hash(String text) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int index = 0; index < text.length(); index++) {
+            hash ^= text.charAt(index);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private record CachedReply(String reply, List<Integer> productIds) {
+    }
+
+    public record Stats(long hits, long misses, long coalesced, long evictions, long size, double hitRate) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.ecommerce.backend.chat;
+
+import com.ecommerce.backend.chat.intent.ChatIntent;
+import com.ecommerce.backend.shop.cart.CartItem;
+import com.ecommerce.backend.shop.cart.CartService;
+import com.ecommerce.backend.shop.order.OrderService;
+import com.ecommerce.backend.shop.product.Product;
+import com.ecommerce.backend.shop.product.ProductService;
+import com.ecommerce.backend.shop.product.ShoppingQuery;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+@Component
+class ChatRouter {
+    private static final int PRICE_RANGE_LIMIT = 5;
+
+    private final OrderService orderService;
+    private final CartService cartService;
+    private final ProductService productService;
+
+    ChatRouter(OrderService orderService, CartService cartService, ProductService productService) {
+        this.orderService = orderService;
+        this.cartService = cartService;
+        this.productService = productService;
+    }
+
+    Optional<String> route(ParsedChatMessage message, String sessionId) {
+        boolean hasSession = sessionId != null && !sessionId.isBlank();
+        if (hasSession && message.orderId() != null && message.intent().matches(ChatIntent.ORDER_TRACKING)) {
+            return Optional.of(orderService.trackOrder(sessionId, message.orderId()).message());
+        }
+        if (hasSession && message.asksForCount() && message.intent().matches(ChatIntent.CART)) {
+            return Optional.of(describeCart(cartService.getSessionItems(sessionId)));
+        }
+        if (message.shopping().hasBudget() && message.intent().primary().orElse(null) == ChatIntent.PRODUCT_SEARCH) {
+            return Optional.of(describePriceRange(message.shopping()));
+        }
+        return Optional.empty();
+    }
+
+    private static String describeCart(List<CartItem> items) {
+        if (items.isEmpty()) {
+            return "Your cart is empty.";
+        }
+        int units = items.stream().mapToInt(CartItem::getQty).sum();
+        int total = items.stream().mapToInt(item -> item.getPrice() * item.getQty()).sum();
+        return "You have " + items.size() + (items.size() == 1 ? " product" : " products")
+                + " (" + units + (units == 1 ? " unit" : " units") + ") in your cart, totalling Rs " + total + ".";
+    }
+
+    // Ranked on the whole message, so product words beside the budget ("wireless headphones") still count.
+    private String describePriceRange(ShoppingQuery query) {
+        List<Product> products = productService.recommendProducts(query.text(), PRICE_RANGE_LIMIT);
+        String scope = (query.category() == null ? "" : " in " + query.category()) + describeBudget(query);
+        if (products.isEmpty()) {
+            return "I couldn't find products" + scope + ". Try widening your budget.";
+        }
+        return "Top picks" + scope + ":\n" + products.stream()
+                .map(product -> "- " + product.getName() + " | " + product.getCategory()
+                        + " | Rs " + product.getPrice() + " | Rating " + product.getRating())
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String describeBudget(ShoppingQuery query) {
+        if (query.minPrice() != null && query.maxPrice() != null) {
+            return " between Rs " + query.minPrice() + " and Rs " + query.maxPrice();
+        }
+        if (query.maxPrice() != null) {
+            return " under Rs " + query.maxPrice();
+        }
+        return " above Rs " + query.minPrice();
+    }
+}
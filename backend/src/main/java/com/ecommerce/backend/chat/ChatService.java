@@ -3,39 +3,96 @@ package com.ecommerce.backend.chat;
 import com.ecommerce.backend.shop.product.Product;
 import com.ecommerce.backend.shop.product.ProductService;
 import java.util.List;
-import java.util.Locale;
-import java.util.Set;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 
 @Service
 public class ChatService {
-    private static final Set<String> ECOMMERCE_KEYWORDS = Set.of(
-            "product", "products", "buy", "shopping", "shop", "price", "budget", "cart", "wishlist",
-            "order", "delivery", "shipping", "payment", "upi", "card", "checkout", "discount",
-            "electronics", "fashion", "home", "beauty", "books", "sports", "recommend", "track"
-    );
+    private static final String OUT_OF_SCOPE_REPLY =
+            "I can only help with this e-commerce app: products, prices, budget, cart, wishlist, payments, orders, and delivery tracking.";
 
     private final GeminiClient geminiClient;
     private final ProductService productService;
+    private final ChatResponseCache responseCache;
+    private final ChatMessageParser messageParser;
+    private final ChatRouter chatRouter;
 
-    public ChatService(GeminiClient geminiClient, ProductService productService) {
+    public ChatService(
+            GeminiClient geminiClient,
+            ProductService productService,
+            ChatResponseCache responseCache,
+            ChatMessageParser messageParser,
+            ChatRouter chatRouter
+    ) {
         this.geminiClient = geminiClient;
         this.productService = productService;
+        this.responseCache = responseCache;
+        this.messageParser = messageParser;
+        this.chatRouter = chatRouter;
     }
 
-    public String replyTo(String message) {
-        String normalized = message == null ? "" : message.toLowerCase(Locale.ROOT);
-        if (!isEcommerceQuestion(normalized)) {
-            return "I can only help with this e-commerce app: products, prices, budget, cart, wishlist, payments, orders, and delivery tracking.";
+    public String replyTo(String message, String sessionId) {
+        Optional<String> direct = directReply(message, sessionId);
+        if (direct.isPresent()) {
+            return direct.get();
         }
 
+        PromptContext context = buildContext(message);
+        return responseCache.getOrLoad(context.cacheKey(), context.productIds(),
+                () -> geminiClient.generateReply(context.prompt()));
+    }
+
+    public void streamReplyTo(String message, String sessionId, Consumer<String> onChunk, BooleanSupplier cancelled) {
+        Optional<String> direct = directReply(message, sessionId);
+        if (direct.isPresent()) {
+            onChunk.accept(direct.get());
+            return;
+        }
+
+        PromptContext context = buildContext(message);
+        String cached = responseCache.getIfPresent(context.cacheKey());
+        if (cached != null) {
+            onChunk.accept(cached);
+            return;
+        }
+
+        StringBuilder reply = new StringBuilder();
+        geminiClient.streamReply(context.prompt(), chunk -> {
+            reply.append(chunk);
+            onChunk.accept(chunk);
+        }, cancelled);
+        if (!cancelled.getAsBoolean() && !reply.isEmpty()) {
+            responseCache.put(context.cacheKey(), reply.toString(), context.productIds());
+        }
+    }
+
+    Optional<String> directReply(String message, String sessionId) {
+        ParsedChatMessage parsed = messageParser.parse(message);
+        if (!parsed.intent().isEcommerce()) {
+            return Optional.of(OUT_OF_SCOPE_REPLY);
+        }
+        return chatRouter.route(parsed, sessionId);
+    }
+
+    PromptContext buildContext(String message) {
         List<Product> recommendedProducts = productService.recommendProducts(message, 5);
         String productContext = recommendedProducts.stream()
                 .map(product -> "- " + product.getName() + " | Category: " + product.getCategory() + " | Price: Rs " + product.getPrice())
                 .collect(Collectors.joining("\n"));
+        List<Integer> productIds = recommendedProducts.stream().map(Product::getId).toList();
+
+        return new PromptContext(
+                buildPrompt(message, productContext),
+                ChatResponseCache.fingerprint(message, productContext),
+                productIds
+        );
+    }
 
-        String prompt = """
+    private String buildPrompt(String message, String productContext) {
+        return """
                 You are the in-app assistant for an e-commerce project.
                 Strict rule: answer only e-commerce topics for this app.
                 If user asks non e-commerce topics, politely refuse and redirect to shopping help.
@@ -48,15 +105,8 @@ public class ChatService {
                 USER_MESSAGE:
                 %s
                 """.formatted(productContext, message);
-
-        return geminiClient.generateReply(prompt);
     }
 
-    private boolean isEcommerceQuestion(String normalizedMessage) {
-        if (normalizedMessage.isBlank()) {
-            return false;
-        }
-
-        return ECOMMERCE_KEYWORDS.stream().anyMatch(normalizedMessage::contains);
+    record PromptContext(String prompt, String cacheKey, List<Integer> productIds) {
     }
 }
@@ -0,0 +1,86 @@
+package com.ecommerce.backend.chat;
+
+import com.ecommerce.backend.config.ChatProperties;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ChatStreamer {
+    private static final Logger log = LoggerFactory.getLogger(ChatStreamer.class);
+
+    private final ChatService chatService;
+    private final ChatExecutor chatExecutor;
+    private final long timeoutMillis;
+
+    public ChatStreamer(ChatService chatService, ChatExecutor chatExecutor, ChatProperties chatProperties) {
+        this.chatService = chatService;
+        this.chatExecutor = chatExecutor;
+        this.timeoutMillis = chatProperties.getDeadline().toMillis();
+    }
+
+    public SseEmitter stream(String message, String sessionId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        AtomicBoolean cancelled = new AtomicBoolean();
+        emitter.onCompletion(() -> cancelled.set(true));
+        emitter.onTimeout(() -> cancelled.set(true));
+        emitter.onError(error -> cancelled.set(true));
+
+        chatExecutor.execute(() -> relay(message, sessionId, emitter, cancelled));
+        return emitter;
+    }
+
+    private void relay(String message, String sessionId, SseEmitter emitter, AtomicBoolean cancelled) {
+        long startedAt = System.nanoTime();
+        long[] firstChunkAt = {0};
+        try {
+            chatService.streamReplyTo(message, sessionId, chunk -> {
+                if (firstChunkAt[0] == 0) {
+                    firstChunkAt[0] = System.nanoTime();
+                    send(emitter, "meta", Map.of("ttftMs", elapsedMillis(startedAt, firstChunkAt[0])));
+                }
+                send(emitter, "chunk", Map.of("text", chunk));
+            }, cancelled::get);
+
+            if (cancelled.get()) {
+                log.debug("Chat stream cancelled by client after {} ms", elapsedMillis(startedAt, System.nanoTime()));
+                return;
+            }
+            long finishedAt = System.nanoTime();
+            long ttftMillis = firstChunkAt[0] == 0 ? -1 : elapsedMillis(startedAt, firstChunkAt[0]);
+            log.info("Chat stream finished: ttft={} ms, total={} ms", ttftMillis, elapsedMillis(startedAt, finishedAt));
+            send(emitter, "done", Map.of("ttftMs", ttftMillis, "totalMs", elapsedMillis(startedAt, finishedAt)));
+            emitter.complete();
+        } catch (UncheckedIOException ex) {
+            // The client went away mid-send; the reader loop has already stopped pulling from upstream.
+            cancelled.set(true);
+        } catch (RuntimeException ex) {
+            log.warn("Chat stream failed: {}", ex.getMessage());
+            try {
+                emitter.send(SseEmitter.event().name("error").data(Map.of("error", String.valueOf(ex.getMessage()))));
+                emitter.complete();
+            } catch (IOException | IllegalStateException sendFailure) {
+                emitter.completeWithError(ex);
+            }
+        }
+    }
+
+    private static void send(SseEmitter emitter, String event, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(event).data(data));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static long elapsedMillis(long fromNanos, long toNanos) {
+        return (toNanos - fromNanos) / 1_000_000;
+    }
+}
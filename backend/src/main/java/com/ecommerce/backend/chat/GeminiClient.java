@@ -2,26 +2,97 @@ package com.ecommerce.backend.chat;
 
 import com.ecommerce.backend.chat.dto.GeminiGenerateContentRequest;
 import com.ecommerce.backend.chat.dto.GeminiGenerateContentResponse;
+import com.ecommerce.backend.config.DownstreamLimiter;
 import com.ecommerce.backend.config.GeminiProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import org.apache.hc.core5.http.io.EofSensorInputStream;
 import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
 
 @Component
 public class GeminiClient {
+    private static final String SSE_DATA_PREFIX = "data:";
+
     private final RestClient restClient;
     private final GeminiProperties geminiProperties;
+    private final ObjectMapper objectMapper;
+    private final GeminiMetrics metrics;
+    private final DownstreamLimiter limiter;
 
-    public GeminiClient(RestClient geminiRestClient, GeminiProperties geminiProperties) {
+    public GeminiClient(
+            RestClient geminiRestClient,
+            GeminiProperties geminiProperties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Nullable DownstreamLimiter geminiLimiter
+    ) {
         this.restClient = geminiRestClient;
         this.geminiProperties = geminiProperties;
+        this.objectMapper = objectMapper;
+        this.metrics = new GeminiMetrics(meterRegistry);
+        this.limiter = geminiLimiter;
     }
 
     public String generateReply(String userMessage) {
-        if (geminiProperties.getApiKey() == null || geminiProperties.getApiKey().isBlank()) {
-            throw new IllegalStateException("Gemini API key is missing. Set GEMINI_API_KEY.");
+        requireApiKey();
+
+        long startedAt = System.nanoTime();
+        String outcome = "error";
+        Throwable failure = null;
+        try (DownstreamLimiter.Permit permit = acquire()) {
+            String reply = callGenerate(userMessage);
+            outcome = "success";
+            return reply;
+        } catch (RuntimeException ex) {
+            failure = ex;
+            throw ex;
+        } finally {
+            metrics.record("generate", outcome, failure, startedAt);
         }
+    }
+
+    public void streamReply(String userMessage, Consumer<String> onChunk, BooleanSupplier cancelled) {
+        requireApiKey();
+
+        long startedAt = System.nanoTime();
+        String outcome = "error";
+        Throwable failure = null;
+        boolean[] firstChunkSeen = {false};
+        Consumer<String> timedOnChunk = chunk -> {
+            if (!firstChunkSeen[0]) {
+                firstChunkSeen[0] = true;
+                metrics.recordFirstChunk(startedAt);
+            }
+            onChunk.accept(chunk);
+        };
+        try (DownstreamLimiter.Permit permit = acquire()) {
+            callStream(userMessage, timedOnChunk, cancelled);
+            outcome = cancelled.getAsBoolean() ? "cancelled" : "success";
+        } catch (RuntimeException ex) {
+            failure = ex;
+            throw ex;
+        } finally {
+            metrics.record("stream", outcome, failure, startedAt);
+        }
+    }
+
+    // Only virtual-thread mode caps Gemini calls here; otherwise the request thread pool bounds them.
+    private DownstreamLimiter.Permit acquire() {
+        return limiter == null ? () -> { } : limiter.acquire();
+    }
+
+    private String callGenerate(String userMessage) {
 
         GeminiGenerateContentRequest body = GeminiGenerateContentRequest.fromUserMessage(userMessage);
 
@@ -47,4 +118,69 @@ public class GeminiClient {
         return response.firstText()
                 .orElseThrow(() -> new RuntimeException("Gemini API returned no text response."));
     }
+
+    private void callStream(String userMessage, Consumer<String> onChunk, BooleanSupplier cancelled) {
+        GeminiGenerateContentRequest body = GeminiGenerateContentRequest.fromUserMessage(userMessage);
+        try {
+            restClient.post()
+                    .uri(uriBuilder -> uriBuilder
+                            .path("/v1beta/models/{model}:streamGenerateContent")
+                            .queryParam("alt", "sse")
+                            .queryParam("key", geminiProperties.getApiKey())
+                            .build(geminiProperties.getModel()))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .body(body)
+                    .exchange((request, response) -> {
+                        if (response.getStatusCode().isError()) {
+                            throw new RuntimeException("Gemini API returned status " + response.getStatusCode().value() + ".");
+                        }
+                        InputStream stream = response.getBody();
+                        BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+                        boolean reachedEnd = false;
+                        try {
+                            String line = null;
+                            while (!cancelled.getAsBoolean() && (line = reader.readLine()) != null) {
+                                relayEvent(line, onChunk);
+                            }
+                            reachedEnd = line == null;
+                        } finally {
+                            if (!reachedEnd) {
+                                abortUpstream(stream);
+                            }
+                            reader.close();
+                        }
+                        return null;
+                    });
+        } catch (RestClientException ex) {
+            throw new RuntimeException("Failed to call Gemini API.", ex);
+        }
+    }
+
+    private void relayEvent(String line, Consumer<String> onChunk) throws IOException {
+        if (!line.startsWith(SSE_DATA_PREFIX)) {
+            return;
+        }
+        String json = line.substring(SSE_DATA_PREFIX.length()).trim();
+        if (json.isEmpty()) {
+            return;
+        }
+        objectMapper.readValue(json, GeminiGenerateContentResponse.class)
+                .firstText()
+                .ifPresent(onChunk);
+    }
+
+    private static void abortUpstream(InputStream stream) throws IOException {
+        // Pooled (Apache) streams drain the rest of the body on close; abort drops the connection instead,
+        // which is what cancels generation upstream. JDK and HttpURLConnection streams abort on close.
+        if (stream instanceof EofSensorInputStream sensor) {
+            sensor.abort();
+        }
+    }
+
+    private void requireApiKey() {
+        if (geminiProperties.getApiKey() == null || geminiProperties.getApiKey().isBlank()) {
+            throw new IllegalStateException("Gemini API key is missing. Set GEMINI_API_KEY.");
+        }
+    }
 }
@@ -0,0 +1,44 @@
+package com.ecommerce.backend.chat;
+
+import com.ecommerce.backend.metrics.RequestTimings;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+
+final class GeminiMetrics {
+    private final MeterRegistry meterRegistry;
+    private final Timer firstChunkTimer;
+
+    GeminiMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.firstChunkTimer = Timer.builder("gemini.stream.first-chunk")
+                .description("Time until the first streamed Gemini chunk arrives")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    void recordFirstChunk(long startedAt) {
+        firstChunkTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    void record(String operation, String outcome, Throwable failure, long startedAt) {
+        long elapsed = System.nanoTime() - startedAt;
+        RequestTimings.recordGemini(elapsed);
+        Timer.builder("gemini.requests")
+                .description("Gemini API calls by operation and outcome")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .tag("error", failure == null ? "none" : rootCause(failure).getClass().getSimpleName())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+    }
+
+    private static Throwable rootCause(Throwable failure) {
+        Throwable cause = failure;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
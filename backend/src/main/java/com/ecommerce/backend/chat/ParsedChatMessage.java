@@ -0,0 +1,13 @@
+package com.ecommerce.backend.chat;
+
+import com.ecommerce.backend.chat.intent.IntentMatch;
+import com.ecommerce.backend.shop.product.ShoppingQuery;
+
+record ParsedChatMessage(
+        String text,
+        IntentMatch intent,
+        String orderId,
+        ShoppingQuery shopping,
+        boolean asksForCount
+) {
+}
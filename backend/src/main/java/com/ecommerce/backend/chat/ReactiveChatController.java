@@ -0,0 +1,43 @@
+package com.ecommerce.backend.chat;
+
+import com.ecommerce.backend.chat.dto.ChatRequest;
+import com.ecommerce.backend.chat.dto.ChatResponse;
+import jakarta.validation.Valid;
+import java.util.Map;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/chat")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveChatController {
+    private final ReactiveChatService chatService;
+    private final ReactiveChatStreamer chatStreamer;
+
+    public ReactiveChatController(ReactiveChatService chatService, ReactiveChatStreamer chatStreamer) {
+        this.chatService = chatService;
+        this.chatStreamer = chatStreamer;
+    }
+
+    @PostMapping
+    public Mono<ChatResponse> chat(@Valid @RequestBody ChatRequest request) {
+        return chatService.replyTo(request.message(), request.sessionId()).map(ChatResponse::new);
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Map<String, Object>>> stream(@RequestParam String message, @RequestParam(required = false) String sessionId) {
+        if (message.isBlank()) {
+            throw new IllegalArgumentException("message is required");
+        }
+        return chatStreamer.stream(message, sessionId);
+    }
+}
@@ -0,0 +1,102 @@
+package com.ecommerce.backend.chat;
+
+import com.ecommerce.backend.config.ChatProperties;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveChatService {
+    private final ChatService chatService;
+    private final ReactiveGeminiClient geminiClient;
+    private final ChatResponseCache responseCache;
+    private final Duration deadline;
+    private final int maxInFlight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public ReactiveChatService(
+            ChatService chatService,
+            ReactiveGeminiClient geminiClient,
+            ChatResponseCache responseCache,
+            ChatProperties chatProperties
+    ) {
+        this.chatService = chatService;
+        this.geminiClient = geminiClient;
+        this.responseCache = responseCache;
+        this.deadline = chatProperties.getDeadline();
+        // No worker pool to queue on here, so the pool size plus its queue becomes the admission limit.
+        this.maxInFlight = chatProperties.getMaxConcurrent() + chatProperties.getQueueCapacity();
+    }
+
+    public Mono<String> replyTo(String message, String sessionId) {
+        return admit(directReply(message, sessionId)).flatMap(direct -> direct
+                .map(Mono::just)
+                .orElseGet(() -> promptContext(message).flatMap(this::generate))
+        ).timeout(deadline).doFinally(signal -> inFlight.decrementAndGet());
+    }
+
+    public Flux<String> streamReplyTo(String message, String sessionId) {
+        return admit(directReply(message, sessionId)).flatMapMany(direct -> direct
+                .map(Flux::just)
+                .orElseGet(() -> promptContext(message).flatMapMany(this::streamGenerated))
+        ).transform(this::withinDeadline).doFinally(signal -> inFlight.decrementAndGet());
+    }
+
+    private Mono<String> generate(ChatService.PromptContext context) {
+        return Mono.fromFuture(() -> responseCache.getOrLoadAsync(
+                context.cacheKey(),
+                context.productIds(),
+                () -> geminiClient.generateReply(context.prompt()).toFuture()
+        ));
+    }
+
+    private Flux<String> streamGenerated(ChatService.PromptContext context) {
+        String cached = responseCache.getIfPresent(context.cacheKey());
+        if (cached != null) {
+            return Flux.just(cached);
+        }
+
+        StringBuilder reply = new StringBuilder();
+        return geminiClient.streamReply(context.prompt())
+                .doOnNext(reply::append)
+                .doOnComplete(() -> {
+                    if (!reply.isEmpty()) {
+                        responseCache.put(context.cacheKey(), reply.toString(), context.productIds());
+                    }
+                });
+    }
+
+    private <T> Mono<T> admit(Mono<T> work) {
+        return Mono.defer(() -> {
+            if (inFlight.incrementAndGet() > maxInFlight) {
+                return Mono.error(new ChatExecutor.ChatOverloadedException());
+            }
+            return work;
+        });
+    }
+
+    // Routing and prompt building may read through the blocking repositories, so they stay off the event loop.
+    private Mono<Optional<String>> directReply(String message, String sessionId) {
+        return Mono.fromCallable(() -> chatService.directReply(message, sessionId)).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<ChatService.PromptContext> promptContext(String message) {
+        return Mono.fromCallable(() -> chatService.buildContext(message)).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Flux<String> withinDeadline(Flux<String> chunks) {
+        return Flux.defer(() -> {
+            long deadlineAt = System.nanoTime() + deadline.toNanos();
+            return chunks.timeout(
+                    Mono.delay(deadline),
+                    chunk -> Mono.delay(Duration.ofNanos(Math.max(0, deadlineAt - System.nanoTime())))
+            );
+        });
+    }
+}
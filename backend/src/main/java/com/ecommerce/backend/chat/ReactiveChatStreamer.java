@@ -0,0 +1,62 @@
+package com.ecommerce.backend.chat;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveChatStreamer {
+    private static final Logger log = LoggerFactory.getLogger(ReactiveChatStreamer.class);
+
+    private final ReactiveChatService chatService;
+
+    public ReactiveChatStreamer(ReactiveChatService chatService) {
+        this.chatService = chatService;
+    }
+
+    public Flux<ServerSentEvent<Map<String, Object>>> stream(String message, String sessionId) {
+        return Flux.defer(() -> {
+            long startedAt = System.nanoTime();
+            AtomicLong firstChunkAt = new AtomicLong();
+            Flux<ServerSentEvent<Map<String, Object>>> chunks = chatService.streamReplyTo(message, sessionId)
+                    .concatMap(chunk -> {
+                        ServerSentEvent<Map<String, Object>> text = event("chunk", Map.of("text", chunk));
+                        if (firstChunkAt.get() != 0) {
+                            return Flux.just(text);
+                        }
+                        firstChunkAt.set(System.nanoTime());
+                        return Flux.just(event("meta", Map.of("ttftMs", elapsedMillis(startedAt, firstChunkAt.get()))), text);
+                    });
+
+            Mono<ServerSentEvent<Map<String, Object>>> done = Mono.fromSupplier(() -> {
+                long finishedAt = System.nanoTime();
+                long ttftMillis = firstChunkAt.get() == 0 ? -1 : elapsedMillis(startedAt, firstChunkAt.get());
+                log.info("Chat stream finished: ttft={} ms, total={} ms", ttftMillis, elapsedMillis(startedAt, finishedAt));
+                return event("done", Map.of("ttftMs", ttftMillis, "totalMs", elapsedMillis(startedAt, finishedAt)));
+            });
+
+            return chunks.concatWith(done)
+                    .onErrorResume(ex -> {
+                        log.warn("Chat stream failed: {}", ex.getMessage());
+                        return Mono.just(event("error", Map.of("error", String.valueOf(ex.getMessage()))));
+                    })
+                    .doOnCancel(() -> log.debug("Chat stream cancelled by client after {} ms",
+                            elapsedMillis(startedAt, System.nanoTime())));
+        });
+    }
+
+    private static ServerSentEvent<Map<String, Object>> event(String name, Map<String, Object> data) {
+        return ServerSentEvent.<Map<String, Object>>builder(data).event(name).build();
+    }
+
+    private static long elapsedMillis(long fromNanos, long toNanos) {
+        return (toNanos - fromNanos) / 1_000_000;
+    }
+}
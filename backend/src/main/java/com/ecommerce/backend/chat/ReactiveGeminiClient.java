@@ -0,0 +1,145 @@
+package com.ecommerce.backend.chat;
+
+import com.ecommerce.backend.chat.dto.GeminiGenerateContentRequest;
+import com.ecommerce.backend.chat.dto.GeminiGenerateContentResponse;
+import com.ecommerce.backend.config.GeminiProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveGeminiClient {
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_EVENT = new ParameterizedTypeReference<>() {
+    };
+
+    private final WebClient webClient;
+    private final ConnectionProvider connectionProvider;
+    private final GeminiProperties geminiProperties;
+    private final ObjectMapper objectMapper;
+    private final GeminiMetrics metrics;
+
+    public ReactiveGeminiClient(
+            WebClient.Builder webClientBuilder,
+            GeminiProperties geminiProperties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        GeminiProperties.Http settings = geminiProperties.getHttp();
+        this.connectionProvider = ConnectionProvider.builder("gemini")
+                .maxConnections(settings.getMaxConnections())
+                .pendingAcquireTimeout(settings.getAcquireTimeout())
+                .maxIdleTime(settings.getIdleTimeout())
+                .maxLifeTime(settings.getKeepAlive())
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) settings.getConnectTimeout().toMillis())
+                .responseTimeout(settings.getReadTimeout());
+        if (settings.isHttp2() && geminiProperties.getBaseUrl().startsWith("https:")) {
+            // Multiplexes concurrent generations over a few TLS connections; ALPN falls back to HTTP/1.1.
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+
+        this.webClient = webClientBuilder
+                .baseUrl(geminiProperties.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+        this.geminiProperties = geminiProperties;
+        this.objectMapper = objectMapper;
+        this.metrics = new GeminiMetrics(meterRegistry);
+    }
+
+    public Mono<String> generateReply(String userMessage) {
+        return Mono.defer(() -> {
+            requireApiKey();
+            long startedAt = System.nanoTime();
+            return webClient.post()
+                    .uri(uriBuilder -> uriBuilder
+                            .path("/v1beta/models/{model}:generateContent")
+                            .queryParam("key", geminiProperties.getApiKey())
+                            .build(geminiProperties.getModel()))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(GeminiGenerateContentRequest.fromUserMessage(userMessage))
+                    .retrieve()
+                    .bodyToMono(GeminiGenerateContentResponse.class)
+                    .onErrorMap(WebClientException.class, ex -> new RuntimeException("Failed to call Gemini API.", ex))
+                    .switchIfEmpty(Mono.error(() -> new RuntimeException("Gemini API returned an empty response.")))
+                    .map(response -> response.firstText()
+                            .orElseThrow(() -> new RuntimeException("Gemini API returned no text response.")))
+                    .doOnSuccess(reply -> metrics.record("generate", "success", null, startedAt))
+                    .doOnError(ex -> metrics.record("generate", "error", ex, startedAt))
+                    .doOnCancel(() -> metrics.record("generate", "cancelled", null, startedAt));
+        });
+    }
+
+    public Flux<String> streamReply(String userMessage) {
+        return Flux.defer(() -> {
+            requireApiKey();
+            long startedAt = System.nanoTime();
+            AtomicBoolean firstChunkSeen = new AtomicBoolean();
+            // Cancelling the subscription closes the connection, which is what stops generation upstream.
+            return webClient.post()
+                    .uri(uriBuilder -> uriBuilder
+                            .path("/v1beta/models/{model}:streamGenerateContent")
+                            .queryParam("alt", "sse")
+                            .queryParam("key", geminiProperties.getApiKey())
+                            .build(geminiProperties.getModel()))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.TEXT_EVENT_STREAM)
+                    .bodyValue(GeminiGenerateContentRequest.fromUserMessage(userMessage))
+                    .retrieve()
+                    .onStatus(HttpStatusCode::isError, response -> Mono.error(
+                            new RuntimeException("Gemini API returned status " + response.statusCode().value() + ".")))
+                    .bodyToFlux(SSE_EVENT)
+                    .onErrorMap(WebClientException.class, ex -> new RuntimeException("Failed to call Gemini API.", ex))
+                    .concatMap(event -> Mono.justOrEmpty(firstText(event.data())))
+                    .doOnNext(chunk -> {
+                        if (firstChunkSeen.compareAndSet(false, true)) {
+                            metrics.recordFirstChunk(startedAt);
+                        }
+                    })
+                    .doOnComplete(() -> metrics.record("stream", "success", null, startedAt))
+                    .doOnError(ex -> metrics.record("stream", "error", ex, startedAt))
+                    .doOnCancel(() -> metrics.record("stream", "cancelled", null, startedAt));
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connectionProvider.dispose();
+    }
+
+    private String firstText(String json) {
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json.trim(), GeminiGenerateContentResponse.class).firstText().orElse(null);
+        } catch (JsonProcessingException ex) {
+            throw new RuntimeException("Gemini API returned an unreadable stream event.", ex);
+        }
+    }
+
+    private void requireApiKey() {
+        if (geminiProperties.getApiKey() == null || geminiProperties.getApiKey().isBlank()) {
+            throw new IllegalStateException("Gemini API key is missing. Set GEMINI_API_KEY.");
+        }
+    }
+}
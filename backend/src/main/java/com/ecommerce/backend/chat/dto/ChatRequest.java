@@ -2,5 +2,8 @@ package com.ecommerce.backend.chat.dto;
 
 import jakarta.validation.constraints.NotBlank;
 
-public record ChatRequest(@NotBlank(message = "message is required") String message) {
+public record ChatRequest(
+        @NotBlank(message = "message is required") String message,
+        String sessionId
+) {
 }
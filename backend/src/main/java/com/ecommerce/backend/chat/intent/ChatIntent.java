@@ -0,0 +1,11 @@
+package com.ecommerce.backend.chat.intent;
+
+public enum ChatIntent {
+    ORDER_TRACKING,
+    PAYMENT,
+    CART,
+    WISHLIST,
+    DELIVERY,
+    PRODUCT_SEARCH,
+    GENERAL
+}
@@ -0,0 +1,5 @@
+package com.ecommerce.backend.chat.intent;
+
+public interface IntentClassifier {
+    IntentMatch classify(String message);
+}
@@ -0,0 +1,37 @@
+package com.ecommerce.backend.chat.intent;
+
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+public record IntentMatch(long mask) {
+    private static final ChatIntent[] INTENTS = ChatIntent.values();
+
+    public static final IntentMatch NONE = new IntentMatch(0L);
+
+    public boolean isEcommerce() {
+        return mask != 0L;
+    }
+
+    public boolean matches(ChatIntent intent) {
+        return (mask & bit(intent)) != 0L;
+    }
+
+    public Optional<ChatIntent> primary() {
+        return mask == 0L ? Optional.empty() : Optional.of(INTENTS[Long.numberOfTrailingZeros(mask)]);
+    }
+
+    public Set<ChatIntent> intents() {
+        EnumSet<ChatIntent> intents = EnumSet.noneOf(ChatIntent.class);
+        for (ChatIntent intent : INTENTS) {
+            if (matches(intent)) {
+                intents.add(intent);
+            }
+        }
+        return intents;
+    }
+
+    static long bit(ChatIntent intent) {
+        return 1L << intent.ordinal();
+    }
+}
@@ -0,0 +1,140 @@
+package com.ecommerce.backend.chat.intent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/** Aho-Corasick matcher that ORs the bit masks of every keyword found in one allocation-free pass. */
+final class KeywordAutomaton {
+    private final int[] edgeStart;
+    private final char[] edgeLabels;
+    private final int[] edgeTargets;
+    private final int[] failure;
+    private final long[] output;
+
+    private KeywordAutomaton(int[] edgeStart, char[] edgeLabels, int[] edgeTargets, int[] failure, long[] output) {
+        this.edgeStart = edgeStart;
+        this.edgeLabels = edgeLabels;
+        this.edgeTargets = edgeTargets;
+        this.failure = failure;
+        this.output = output;
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    long match(CharSequence text) {
+        long matched = 0L;
+        int state = 0;
+        for (int index = 0; index < text.length(); index++) {
+            char ch = Character.toLowerCase(text.charAt(index));
+            int next = transition(state, ch);
+            while (next < 0 && state != 0) {
+                state = failure[state];
+                next = transition(state, ch);
+            }
+            state = next < 0 ? 0 : next;
+            matched |= output[state];
+        }
+        return matched;
+    }
+
+    int stateCount() {
+        return failure.length;
+    }
+
+    private int transition(int state, char ch) {
+        int low = edgeStart[state];
+        int high = edgeStart[state + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char label = edgeLabels[mid];
+            if (label < ch) {
+                low = mid + 1;
+            } else if (label > ch) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+
+    static final class Builder {
+        private final List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        private final List<Long> masks = new ArrayList<>();
+
+        private Builder() {
+            addState();
+        }
+
+        Builder add(String keyword, long mask) {
+            if (keyword == null || keyword.isBlank()) {
+                return this;
+            }
+            int state = 0;
+            for (char ch : keyword.strip().toCharArray()) {
+                char lower = Character.toLowerCase(ch);
+                Integer next = children.get(state).get(lower);
+                if (next == null) {
+                    next = addState();
+                    children.get(state).put(lower, next);
+                }
+                state = next;
+            }
+            masks.set(state, masks.get(state) | mask);
+            return this;
+        }
+
+        KeywordAutomaton build() {
+            int states = children.size();
+            int edges = children.stream().mapToInt(Map::size).sum();
+            int[] edgeStart = new int[states + 1];
+            char[] edgeLabels = new char[edges];
+            int[] edgeTargets = new int[edges];
+            int cursor = 0;
+            for (int state = 0; state < states; state++) {
+                edgeStart[state] = cursor;
+                for (Map.Entry<Character, Integer> edge : children.get(state).entrySet()) {
+                    edgeLabels[cursor] = edge.getKey();
+                    edgeTargets[cursor] = edge.getValue();
+                    cursor++;
+                }
+            }
+            edgeStart[states] = cursor;
+
+            int[] failure = new int[states];
+            long[] output = new long[states];
+            Arrays.setAll(output, masks::get);
+            KeywordAutomaton automaton = new KeywordAutomaton(edgeStart, edgeLabels, edgeTargets, failure, output);
+
+            ArrayDeque<Integer> queue = new ArrayDeque<>(children.get(0).values());
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                for (Map.Entry<Character, Integer> edge : children.get(state).entrySet()) {
+                    int child = edge.getValue();
+                    int fallback = failure[state];
+                    int target = automaton.transition(fallback, edge.getKey());
+                    while (target < 0 && fallback != 0) {
+                        fallback = failure[fallback];
+                        target = automaton.transition(fallback, edge.getKey());
+                    }
+                    failure[child] = target < 0 ? 0 : target;
+                    output[child] |= output[failure[child]];
+                    queue.add(child);
+                }
+            }
+            return automaton;
+        }
+
+        private int addState() {
+            children.add(new TreeMap<>());
+            masks.add(0L);
+            return children.size() - 1;
+        }
+    }
+}
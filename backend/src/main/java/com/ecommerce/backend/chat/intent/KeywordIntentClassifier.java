@@ -0,0 +1,29 @@
+package com.ecommerce.backend.chat.intent;
+
+import com.ecommerce.backend.config.ChatProperties;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+@Component
+public class KeywordIntentClassifier implements IntentClassifier {
+    private final KeywordAutomaton automaton;
+
+    public KeywordIntentClassifier(ChatProperties chatProperties) {
+        KeywordAutomaton.Builder builder = KeywordAutomaton.builder();
+        for (Map.Entry<ChatIntent, List<String>> entry : chatProperties.getIntents().entrySet()) {
+            long mask = IntentMatch.bit(entry.getKey());
+            entry.getValue().forEach(keyword -> builder.add(keyword, mask));
+        }
+        this.automaton = builder.build();
+    }
+
+    @Override
+    public IntentMatch classify(String message) {
+        if (message == null || message.isBlank()) {
+            return IntentMatch.NONE;
+        }
+        long mask = automaton.match(message);
+        return mask == 0L ? IntentMatch.NONE : new IntentMatch(mask);
+    }
+}
@@ -0,0 +1,74 @@
+package com.ecommerce.backend.config;
+
+import com.ecommerce.backend.chat.intent.ChatIntent;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "chat")
+public class ChatProperties {
+    private int maxConcurrent = 16;
+    private int queueCapacity = 64;
+    private Duration deadline = Duration.ofSeconds(25);
+    private final ResponseCache responseCache = new ResponseCache();
+    private Map<ChatIntent, List<String>> intents = new EnumMap<>(ChatIntent.class);
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public void setMaxConcurrent(int maxConcurrent) {
+        this.maxConcurrent = maxConcurrent;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public Duration getDeadline() {
+        return deadline;
+    }
+
+    public void setDeadline(Duration deadline) {
+        this.deadline = deadline;
+    }
+
+    public Map<ChatIntent, List<String>> getIntents() {
+        return intents;
+    }
+
+    public void setIntents(Map<ChatIntent, List<String>> intents) {
+        this.intents = intents;
+    }
+
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    public static class ResponseCache {
+        private long maximumSize = 2_000;
+        private Duration timeToLive = Duration.ofMinutes(30);
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+    }
+}
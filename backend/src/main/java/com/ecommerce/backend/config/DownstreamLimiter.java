@@ -0,0 +1,75 @@
+package com.ecommerce.backend.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps concurrent calls to one downstream. Request threads are cheap under virtual threads, so without this a
+ * burst would queue thousands of callers on the Mongo or Gemini connection pool instead of failing fast.
+ */
+public class DownstreamLimiter implements MeterBinder {
+    private final String name;
+    private final int maxConcurrent;
+    private final Duration acquireTimeout;
+    private final Semaphore permits;
+    private final LongAdder rejected = new LongAdder();
+
+    public DownstreamLimiter(String name, int maxConcurrent, Duration acquireTimeout) {
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.acquireTimeout = acquireTimeout;
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    public Permit acquire() {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new DownstreamBusyException(name);
+        }
+        if (!acquired) {
+            rejected.increment();
+            throw new DownstreamBusyException(name);
+        }
+        return permits::release;
+    }
+
+    public int inUse() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int waiting() {
+        return permits.getQueueLength();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("downstream.calls.active", this, DownstreamLimiter::inUse)
+                .tag("downstream", name).register(registry);
+        Gauge.builder("downstream.calls.waiting", this, DownstreamLimiter::waiting)
+                .tag("downstream", name).register(registry);
+        Gauge.builder("downstream.calls.max", this, limiter -> limiter.maxConcurrent)
+                .tag("downstream", name).register(registry);
+        FunctionCounter.builder("downstream.calls.rejected", rejected, LongAdder::sum)
+                .tag("downstream", name).register(registry);
+    }
+
+    public interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    public static class DownstreamBusyException extends IllegalStateException {
+        public DownstreamBusyException(String downstream) {
+            super("Too many concurrent " + downstream + " calls. Please try again shortly.");
+        }
+    }
+}
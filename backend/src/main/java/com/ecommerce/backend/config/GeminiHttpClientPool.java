@@ -0,0 +1,146 @@
+package com.ecommerce.backend.config;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+public class GeminiHttpClientPool implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(GeminiHttpClientPool.class);
+
+    private final GeminiProperties.ClientType type;
+    private final ClientHttpRequestFactory requestFactory;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient pooledClient;
+    private final int maxConnections;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private GeminiHttpClientPool(
+            GeminiProperties.ClientType type,
+            ClientHttpRequestFactory requestFactory,
+            PoolingHttpClientConnectionManager connectionManager,
+            CloseableHttpClient pooledClient,
+            int maxConnections
+    ) {
+        this.type = type;
+        this.requestFactory = requestFactory;
+        this.connectionManager = connectionManager;
+        this.pooledClient = pooledClient;
+        this.maxConnections = maxConnections;
+    }
+
+    public static GeminiHttpClientPool create(GeminiProperties.Http settings) {
+        return create(settings, settings.getReadTimeout());
+    }
+
+    public static GeminiHttpClientPool create(GeminiProperties.Http settings, Duration callDeadline) {
+        // A read that outlives the caller's deadline only holds a connection for an answer nobody is waiting for.
+        Duration readTimeout = settings.getReadTimeout().compareTo(callDeadline) > 0 ? callDeadline : settings.getReadTimeout();
+        return switch (settings.getClient()) {
+            case SIMPLE -> simple(settings, readTimeout);
+            case JDK -> jdk(settings, readTimeout);
+            case POOLED -> pooled(settings, readTimeout);
+        };
+    }
+
+    private static GeminiHttpClientPool simple(GeminiProperties.Http settings, Duration readTimeout) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(settings.getConnectTimeout());
+        requestFactory.setReadTimeout(readTimeout);
+        return new GeminiHttpClientPool(GeminiProperties.ClientType.SIMPLE, requestFactory, null, null, -1);
+    }
+
+    private static GeminiHttpClientPool jdk(GeminiProperties.Http settings, Duration readTimeout) {
+        // Pool size and idle timeout are JVM-wide for the JDK client and read once, so they are not taken from settings;
+        // set them as JVM flags: -Djdk.httpclient.connectionPoolSize=... -Djdk.httpclient.keepalive.timeout=...
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(settings.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(settings.getConnectTimeout())
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        return new GeminiHttpClientPool(GeminiProperties.ClientType.JDK, requestFactory, null, null, settings.getMaxConnections());
+    }
+
+    private static GeminiHttpClientPool pooled(GeminiProperties.Http settings, Duration readTimeout) {
+        if (settings.isHttp2()) {
+            // Classic Apache connections are HTTP/1.1 only; http2 still applies to the jdk and reactive clients.
+            log.info("Pooled Gemini client uses HTTP/1.1; gemini.http.http2 only applies to the jdk and reactive clients");
+        }
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(settings.getMaxConnections())
+                .setMaxConnPerRoute(settings.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(settings.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setTimeToLive(TimeValue.of(settings.getKeepAlive()))
+                        .build())
+                .build();
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(settings.getAcquireTimeout()))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .evictIdleConnections(TimeValue.of(settings.getIdleTimeout()))
+                .evictExpiredConnections()
+                .build();
+        return new GeminiHttpClientPool(
+                GeminiProperties.ClientType.POOLED,
+                new HttpComponentsClientHttpRequestFactory(httpClient),
+                connectionManager,
+                httpClient,
+                settings.getMaxConnections()
+        );
+    }
+
+    public ClientHttpRequestFactory requestFactory() {
+        return requestFactory;
+    }
+
+    public ClientHttpRequestInterceptor inFlightTracker() {
+        return (request, body, execution) -> {
+            inFlight.incrementAndGet();
+            try {
+                return execution.execute(request, body);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        };
+    }
+
+    public Stats stats() {
+        if (connectionManager == null) {
+            return new Stats(type, inFlight.get(), -1, 0, maxConnections);
+        }
+        PoolStats totals = connectionManager.getTotalStats();
+        return new Stats(type, totals.getLeased(), totals.getAvailable(), totals.getPending(), totals.getMax());
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        if (pooledClient != null) {
+            pooledClient.close();
+        }
+    }
+
+    public record Stats(GeminiProperties.ClientType client, int leased, int idle, int pending, int max) {
+    }
+}
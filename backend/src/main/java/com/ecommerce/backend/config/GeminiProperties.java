@@ -1,11 +1,14 @@
 package com.ecommerce.backend.config;
 
+import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 @ConfigurationProperties(prefix = "gemini")
 public class GeminiProperties {
     private String apiKey;
     private String model = "gemini-1.5-flash";
+    private String baseUrl = "https://generativelanguage.googleapis.com";
+    private final Http http = new Http();
 
     public String getApiKey() {
         return apiKey;
@@ -22,4 +25,97 @@ public class GeminiProperties {
     public void setModel(String model) {
         this.model = model;
     }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public void setBaseUrl(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public Http getHttp() {
+        return http;
+    }
+
+    public enum ClientType {
+        SIMPLE,
+        JDK,
+        POOLED
+    }
+
+    public static class Http {
+        private ClientType client = ClientType.POOLED;
+        private boolean http2;
+        private Duration connectTimeout = Duration.ofSeconds(10);
+        private Duration readTimeout = Duration.ofSeconds(30);
+        private int maxConnections = 64;
+        private Duration acquireTimeout = Duration.ofSeconds(5);
+        private Duration idleTimeout = Duration.ofSeconds(30);
+        private Duration keepAlive = Duration.ofMinutes(5);
+
+        public ClientType getClient() {
+            return client;
+        }
+
+        public void setClient(ClientType client) {
+            this.client = client;
+        }
+
+        public boolean isHttp2() {
+            return http2;
+        }
+
+        public void setHttp2(boolean http2) {
+            this.http2 = http2;
+        }
+
+        public Duration getConnectTimeout() {
+            return connectTimeout;
+        }
+
+        public void setConnectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+        }
+
+        public Duration getReadTimeout() {
+            return readTimeout;
+        }
+
+        public void setReadTimeout(Duration readTimeout) {
+            this.readTimeout = readTimeout;
+        }
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public Duration getAcquireTimeout() {
+            return acquireTimeout;
+        }
+
+        public void setAcquireTimeout(Duration acquireTimeout) {
+            this.acquireTimeout = acquireTimeout;
+        }
+
+        public Duration getIdleTimeout() {
+            return idleTimeout;
+        }
+
+        public void setIdleTimeout(Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+        }
+
+        public Duration getKeepAlive() {
+            return keepAlive;
+        }
+
+        public void setKeepAlive(Duration keepAlive) {
+            this.keepAlive = keepAlive;
+        }
+    }
 }
@@ -1,22 +1,32 @@
 package com.ecommerce.backend.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
 @Configuration
 public class HttpClientConfig {
 
     @Bean
-    RestClient geminiRestClient() {
-        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-        requestFactory.setConnectTimeout(10_000);
-        requestFactory.setReadTimeout(30_000);
+    GeminiHttpClientPool geminiHttpClientPool(GeminiProperties geminiProperties, ChatProperties chatProperties) {
+        return GeminiHttpClientPool.create(geminiProperties.getHttp(), chatProperties.getDeadline());
+    }
 
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    DownstreamLimiter geminiLimiter(GeminiProperties geminiProperties) {
+        GeminiProperties.Http http = geminiProperties.getHttp();
+        return new DownstreamLimiter("gemini", http.getMaxConnections(), http.getAcquireTimeout());
+    }
+
+    @Bean
+    RestClient geminiRestClient(GeminiProperties geminiProperties, GeminiHttpClientPool geminiHttpClientPool) {
         return RestClient.builder()
-                .baseUrl("https://generativelanguage.googleapis.com")
-                .requestFactory(requestFactory)
+                .baseUrl(geminiProperties.getBaseUrl())
+                .requestFactory(geminiHttpClientPool.requestFactory())
+                .requestInterceptor(geminiHttpClientPool.inFlightTracker())
                 .build();
     }
 }
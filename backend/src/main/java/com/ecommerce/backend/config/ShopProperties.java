@@ -0,0 +1,419 @@
+package com.ecommerce.backend.config;
+
+import com.ecommerce.backend.shop.product.catalog.CatalogFormat;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "shop")
+public class ShopProperties {
+    private final ProductCache productCache = new ProductCache();
+    private final Cart cart = new Cart();
+    private final Checkout checkout = new Checkout();
+    private final Embedding embedding = new Embedding();
+    private final CatalogImport catalogImport = new CatalogImport();
+    private final Indexes indexes = new Indexes();
+    private final Metrics metrics = new Metrics();
+    private final Mongo mongo = new Mongo();
+    private final VirtualThreads virtualThreads = new VirtualThreads();
+    private final Session session = new Session();
+
+    public ProductCache getProductCache() {
+        return productCache;
+    }
+
+    public Cart getCart() {
+        return cart;
+    }
+
+    public Checkout getCheckout() {
+        return checkout;
+    }
+
+    public Embedding getEmbedding() {
+        return embedding;
+    }
+
+    public CatalogImport getCatalogImport() {
+        return catalogImport;
+    }
+
+    public Indexes getIndexes() {
+        return indexes;
+    }
+
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    public Mongo getMongo() {
+        return mongo;
+    }
+
+    public VirtualThreads getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public Session getSession() {
+        return session;
+    }
+
+    public static class ProductCache {
+        private long maximumSize = 10_000;
+        private Duration timeToLive = Duration.ofMinutes(10);
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+    }
+
+    public static class Cart {
+        private String storage = "line-items";
+        private boolean migrateOnStartup;
+        private boolean deleteMigratedItems;
+        private int migrationBatchSize = 500;
+
+        public String getStorage() {
+            return storage;
+        }
+
+        public void setStorage(String storage) {
+            this.storage = storage;
+        }
+
+        public boolean isMigrateOnStartup() {
+            return migrateOnStartup;
+        }
+
+        public void setMigrateOnStartup(boolean migrateOnStartup) {
+            this.migrateOnStartup = migrateOnStartup;
+        }
+
+        public boolean isDeleteMigratedItems() {
+            return deleteMigratedItems;
+        }
+
+        public void setDeleteMigratedItems(boolean deleteMigratedItems) {
+            this.deleteMigratedItems = deleteMigratedItems;
+        }
+
+        public int getMigrationBatchSize() {
+            return migrationBatchSize;
+        }
+
+        public void setMigrationBatchSize(int migrationBatchSize) {
+            this.migrationBatchSize = migrationBatchSize;
+        }
+    }
+
+    public static class Checkout {
+        private boolean transactional;
+        private Integer nodeId;
+
+        public boolean isTransactional() {
+            return transactional;
+        }
+
+        public void setTransactional(boolean transactional) {
+            this.transactional = transactional;
+        }
+
+        public Integer getNodeId() {
+            return nodeId;
+        }
+
+        public void setNodeId(Integer nodeId) {
+            this.nodeId = nodeId;
+        }
+    }
+
+    public static class Embedding {
+        private String embedder = "hashing";
+        private int dimensions = 256;
+        private int probes = 8;
+        private double minSimilarity = 0.1;
+
+        public String getEmbedder() {
+            return embedder;
+        }
+
+        public void setEmbedder(String embedder) {
+            this.embedder = embedder;
+        }
+
+        public int getDimensions() {
+            return dimensions;
+        }
+
+        public void setDimensions(int dimensions) {
+            this.dimensions = dimensions;
+        }
+
+        public int getProbes() {
+            return probes;
+        }
+
+        public void setProbes(int probes) {
+            this.probes = probes;
+        }
+
+        public double getMinSimilarity() {
+            return minSimilarity;
+        }
+
+        public void setMinSimilarity(double minSimilarity) {
+            this.minSimilarity = minSimilarity;
+        }
+    }
+
+    public static class CatalogImport {
+        private String source;
+        private CatalogFormat format;
+        private int batchSize = 1_000;
+        private boolean seedSampleCatalog = true;
+
+        public String getSource() {
+            return source;
+        }
+
+        public void setSource(String source) {
+            this.source = source;
+        }
+
+        public CatalogFormat getFormat() {
+            return format;
+        }
+
+        public void setFormat(CatalogFormat format) {
+            this.format = format;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public boolean isSeedSampleCatalog() {
+            return seedSampleCatalog;
+        }
+
+        public void setSeedSampleCatalog(boolean seedSampleCatalog) {
+            this.seedSampleCatalog = seedSampleCatalog;
+        }
+    }
+
+    public static class Indexes {
+        private boolean ensureOnStartup = true;
+        private VerifyMode verify = VerifyMode.WARN;
+
+        public boolean isEnsureOnStartup() {
+            return ensureOnStartup;
+        }
+
+        public void setEnsureOnStartup(boolean ensureOnStartup) {
+            this.ensureOnStartup = ensureOnStartup;
+        }
+
+        public VerifyMode getVerify() {
+            return verify;
+        }
+
+        public void setVerify(VerifyMode verify) {
+            this.verify = verify;
+        }
+
+        public enum VerifyMode {
+            OFF,
+            WARN,
+            FAIL
+        }
+    }
+
+    public static class Metrics {
+        private Duration slowRequestThreshold = Duration.ofMillis(500);
+
+        public Duration getSlowRequestThreshold() {
+            return slowRequestThreshold;
+        }
+
+        public void setSlowRequestThreshold(Duration slowRequestThreshold) {
+            this.slowRequestThreshold = slowRequestThreshold;
+        }
+    }
+
+    public static class Mongo {
+        private int maxConcurrent = 100;
+        private Duration acquireTimeout = Duration.ofSeconds(2);
+
+        public int getMaxConcurrent() {
+            return maxConcurrent;
+        }
+
+        public void setMaxConcurrent(int maxConcurrent) {
+            this.maxConcurrent = maxConcurrent;
+        }
+
+        public Duration getAcquireTimeout() {
+            return acquireTimeout;
+        }
+
+        public void setAcquireTimeout(Duration acquireTimeout) {
+            this.acquireTimeout = acquireTimeout;
+        }
+    }
+
+    public static class VirtualThreads {
+        private Duration pinnedThreshold = Duration.ofMillis(20);
+
+        public Duration getPinnedThreshold() {
+            return pinnedThreshold;
+        }
+
+        public void setPinnedThreshold(Duration pinnedThreshold) {
+            this.pinnedThreshold = pinnedThreshold;
+        }
+    }
+
+    public static class Session {
+        private int maxConcurrent = 32;
+        private int queueCapacity = 256;
+        private Duration deadline = Duration.ofSeconds(2);
+        private int recentOrders = 5;
+        private int maxBatchOperations = 100;
+        private Duration cartTtl = Duration.ofDays(30);
+        private Duration wishlistTtl = Duration.ofDays(90);
+        private Duration touchResolution = Duration.ofHours(1);
+        private boolean archiveWishlists;
+        private boolean sweepEnabled = true;
+        private Duration sweepInterval = Duration.ofMinutes(10);
+        private int sweepBatchSize = 500;
+        private int sweepMaxBatches = 20;
+        private Duration sweepPause = Duration.ofMillis(200);
+
+        public int getMaxConcurrent() {
+            return maxConcurrent;
+        }
+
+        public void setMaxConcurrent(int maxConcurrent) {
+            this.maxConcurrent = maxConcurrent;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public Duration getDeadline() {
+            return deadline;
+        }
+
+        public void setDeadline(Duration deadline) {
+            this.deadline = deadline;
+        }
+
+        public int getRecentOrders() {
+            return recentOrders;
+        }
+
+        public void setRecentOrders(int recentOrders) {
+            this.recentOrders = recentOrders;
+        }
+
+        public int getMaxBatchOperations() {
+            return maxBatchOperations;
+        }
+
+        public void setMaxBatchOperations(int maxBatchOperations) {
+            this.maxBatchOperations = maxBatchOperations;
+        }
+
+        public Duration getCartTtl() {
+            return cartTtl;
+        }
+
+        public void setCartTtl(Duration cartTtl) {
+            this.cartTtl = cartTtl;
+        }
+
+        public Duration getWishlistTtl() {
+            return wishlistTtl;
+        }
+
+        public void setWishlistTtl(Duration wishlistTtl) {
+            this.wishlistTtl = wishlistTtl;
+        }
+
+        public Duration getTouchResolution() {
+            return touchResolution;
+        }
+
+        public void setTouchResolution(Duration touchResolution) {
+            this.touchResolution = touchResolution;
+        }
+
+        public boolean isArchiveWishlists() {
+            return archiveWishlists;
+        }
+
+        public void setArchiveWishlists(boolean archiveWishlists) {
+            this.archiveWishlists = archiveWishlists;
+        }
+
+        public boolean isSweepEnabled() {
+            return sweepEnabled;
+        }
+
+        public void setSweepEnabled(boolean sweepEnabled) {
+            this.sweepEnabled = sweepEnabled;
+        }
+
+        public Duration getSweepInterval() {
+            return sweepInterval;
+        }
+
+        public void setSweepInterval(Duration sweepInterval) {
+            this.sweepInterval = sweepInterval;
+        }
+
+        public int getSweepBatchSize() {
+            return sweepBatchSize;
+        }
+
+        public void setSweepBatchSize(int sweepBatchSize) {
+            this.sweepBatchSize = sweepBatchSize;
+        }
+
+        public int getSweepMaxBatches() {
+            return sweepMaxBatches;
+        }
+
+        public void setSweepMaxBatches(int sweepMaxBatches) {
+            this.sweepMaxBatches = sweepMaxBatches;
+        }
+
+        public Duration getSweepPause() {
+            return sweepPause;
+        }
+
+        public void setSweepPause(Duration sweepPause) {
+            this.sweepPause = sweepPause;
+        }
+    }
+}
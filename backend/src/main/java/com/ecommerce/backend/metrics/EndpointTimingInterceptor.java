@@ -0,0 +1,69 @@
+package com.ecommerce.backend.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+class EndpointTimingInterceptor implements AsyncHandlerInterceptor {
+    static final String TIMINGS_ATTRIBUTE = RequestTimings.class.getName();
+
+    private static final Logger log = LoggerFactory.getLogger(EndpointTimingInterceptor.class);
+
+    private final MeterRegistry meterRegistry;
+    private final long slowRequestNanos;
+
+    EndpointTimingInterceptor(MeterRegistry meterRegistry, Duration slowRequestThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.slowRequestNanos = slowRequestThreshold.toNanos();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Async requests come through here twice; keep the timings (and start time) of the first dispatch.
+        RequestTimings timings = (RequestTimings) request.getAttribute(TIMINGS_ATTRIBUTE);
+        if (timings == null) {
+            timings = new RequestTimings(System.nanoTime());
+            request.setAttribute(TIMINGS_ATTRIBUTE, timings);
+        }
+        timings.bind();
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestTimings.unbind();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestTimings.unbind();
+        RequestTimings timings = (RequestTimings) request.getAttribute(TIMINGS_ATTRIBUTE);
+        if (timings == null || !(handler instanceof HandlerMethod method)) {
+            return;
+        }
+        long finishedAt = System.nanoTime();
+        long elapsed = finishedAt - timings.startedAt();
+        String endpoint = method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+
+        Timer.builder("shop.endpoint.requests")
+                .description("Latency per controller method")
+                .tag("endpoint", endpoint)
+                .tag("status", String.valueOf(response.getStatus()))
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+
+        if (elapsed >= slowRequestNanos) {
+            log.warn("Slow request {} {} -> {} ({}) took {} ms: {}",
+                    request.getMethod(), request.getRequestURI(), endpoint, response.getStatus(),
+                    elapsed / 1_000_000, timings.breakdown(finishedAt));
+        }
+    }
+}
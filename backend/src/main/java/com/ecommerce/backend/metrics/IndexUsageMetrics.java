@@ -0,0 +1,89 @@
+package com.ecommerce.backend.metrics;
+
+import com.ecommerce.backend.mongo.IndexManager;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exposes {@code $indexStats} access counts per index. Indexes are registered once the application is ready;
+ * scrapes re-read the counts at most once a minute.
+ */
+@Component
+class IndexUsageMetrics {
+    private static final Logger log = LoggerFactory.getLogger(IndexUsageMetrics.class);
+    private static final long REFRESH_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final IndexManager indexManager;
+    private final MeterRegistry meterRegistry;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile Map<String, Long> accesses = Map.of();
+    private volatile long refreshedAt;
+
+    IndexUsageMetrics(IndexManager indexManager, MeterRegistry meterRegistry) {
+        this.indexManager = indexManager;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerIndexes() {
+        List<IndexManager.IndexUsage> usage;
+        try {
+            usage = indexManager.usage();
+        } catch (RuntimeException ex) {
+            log.warn("Index usage metrics are unavailable: {}", ex.getMessage());
+            return;
+        }
+        accesses = byKey(usage);
+        refreshedAt = System.nanoTime();
+        for (IndexManager.IndexUsage index : usage) {
+            String key = key(index);
+            FunctionCounter.builder("mongo.index.accesses", this, metrics -> metrics.accesses(key))
+                    .description("Operations that used the index since the server last started")
+                    .tags("collection", index.collection(), "index", index.index())
+                    .register(meterRegistry);
+        }
+    }
+
+    private double accesses(String key) {
+        if (System.nanoTime() - refreshedAt > REFRESH_NANOS) {
+            refresh();
+        }
+        return accesses.getOrDefault(key, 0L);
+    }
+
+    private void refresh() {
+        // A concurrent scrape keeps the previous counts rather than queueing behind the Mongo round trip.
+        if (!refreshLock.tryLock()) {
+            return;
+        }
+        try {
+            if (System.nanoTime() - refreshedAt <= REFRESH_NANOS) {
+                return;
+            }
+            refreshedAt = System.nanoTime();
+            accesses = byKey(indexManager.usage());
+        } catch (RuntimeException ex) {
+            log.debug("Could not refresh index usage", ex);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private static Map<String, Long> byKey(List<IndexManager.IndexUsage> usage) {
+        return usage.stream().collect(Collectors.toMap(IndexUsageMetrics::key, IndexManager.IndexUsage::accesses, Long::sum));
+    }
+
+    private static String key(IndexManager.IndexUsage index) {
+        return index.collection() + "/" + index.index();
+    }
+}
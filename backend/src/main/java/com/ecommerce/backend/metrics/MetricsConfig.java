@@ -0,0 +1,33 @@
+package com.ecommerce.backend.metrics;
+
+import com.ecommerce.backend.config.ShopProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+    private final MeterRegistry meterRegistry;
+    private final ShopProperties shopProperties;
+
+    public MetricsConfig(MeterRegistry meterRegistry, ShopProperties shopProperties) {
+        this.meterRegistry = meterRegistry;
+        this.shopProperties = shopProperties;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new EndpointTimingInterceptor(
+                meterRegistry,
+                shopProperties.getMetrics().getSlowRequestThreshold()
+        )).addPathPatterns("/api/**");
+    }
+
+    @Bean
+    MongoClientSettingsBuilderCustomizer requestMongoTimings() {
+        return settings -> settings.addCommandListener(new MongoCommandTimings());
+    }
+}
@@ -0,0 +1,19 @@
+package com.ecommerce.backend.metrics;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandSucceededEvent;
+import java.util.concurrent.TimeUnit;
+
+class MongoCommandTimings implements CommandListener {
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        RequestTimings.recordMongo(event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        RequestTimings.recordMongo(event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+}
@@ -0,0 +1,113 @@
+package com.ecommerce.backend.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Where one request's time went. Bound to the serving thread and carried onto chat worker threads,
+ * so Mongo and Gemini calls made on its behalf are charged to it.
+ */
+public final class RequestTimings {
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final long startedAt;
+    private final AtomicLong mongoNanos = new AtomicLong();
+    private final AtomicLong mongoCommands = new AtomicLong();
+    private final AtomicLong geminiNanos = new AtomicLong();
+    private final AtomicLong queuedNanos = new AtomicLong();
+    private volatile long bodyWriteStartedAt;
+
+    RequestTimings(long startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    public static void recordMongo(long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.mongoNanos.addAndGet(nanos);
+            timings.mongoCommands.incrementAndGet();
+        }
+    }
+
+    public static void recordGemini(long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.geminiNanos.addAndGet(nanos);
+        }
+    }
+
+    public static Runnable propagate(Runnable task) {
+        RequestTimings timings = CURRENT.get();
+        if (timings == null) {
+            return task;
+        }
+        long submittedAt = System.nanoTime();
+        return () -> {
+            timings.queuedNanos.addAndGet(System.nanoTime() - submittedAt);
+            CURRENT.set(timings);
+            try {
+                task.run();
+            } finally {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        RequestTimings timings = CURRENT.get();
+        if (timings == null) {
+            return task;
+        }
+        long submittedAt = System.nanoTime();
+        return () -> {
+            timings.queuedNanos.addAndGet(System.nanoTime() - submittedAt);
+            CURRENT.set(timings);
+            try {
+                return task.get();
+            } finally {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    void bind() {
+        CURRENT.set(this);
+    }
+
+    static void unbind() {
+        CURRENT.remove();
+    }
+
+    void markBodyWriteStarted(long now) {
+        if (bodyWriteStartedAt == 0) {
+            bodyWriteStartedAt = now;
+        }
+    }
+
+    long startedAt() {
+        return startedAt;
+    }
+
+    String breakdown(long finishedAt) {
+        long bodyWriteAt = bodyWriteStartedAt == 0 ? finishedAt : bodyWriteStartedAt;
+        long handler = bodyWriteAt - startedAt;
+        long mongo = mongoNanos.get();
+        long gemini = geminiNanos.get();
+        long queued = queuedNanos.get();
+        long other = Math.max(0, handler - mongo - gemini - queued);
+        return "handler " + millis(handler)
+                + " [mongo " + millis(mongo) + " in " + mongoCommands.get() + " commands"
+                + ", gemini " + millis(gemini)
+                + ", chat queue " + millis(queued)
+                + ", other " + millis(other) + "]"
+                + ", serialization " + millis(finishedAt - bodyWriteAt);
+    }
+
+    private static String millis(long nanos) {
+        return nanos / 1_000_000 + " ms";
+    }
+}
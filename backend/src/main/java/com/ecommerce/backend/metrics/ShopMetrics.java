@@ -0,0 +1,104 @@
+package com.ecommerce.backend.metrics;
+
+import com.ecommerce.backend.chat.ChatExecutor;
+import com.ecommerce.backend.chat.ChatResponseCache;
+import com.ecommerce.backend.config.GeminiHttpClientPool;
+import com.ecommerce.backend.shop.product.CatalogSnapshots;
+import com.ecommerce.backend.shop.product.ProductCache;
+import com.ecommerce.backend.shop.session.SessionService;
+import com.ecommerce.backend.shop.session.SessionSweeper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+@Component
+class ShopMetrics implements MeterBinder {
+    private final ProductCache productCache;
+    private final ChatResponseCache chatResponseCache;
+    private final GeminiHttpClientPool geminiHttpClientPool;
+    private final ChatExecutor chatExecutor;
+    private final CatalogSnapshots catalogSnapshots;
+    private final SessionService sessionService;
+    private final SessionSweeper sessionSweeper;
+
+    ShopMetrics(
+            ProductCache productCache,
+            ChatResponseCache chatResponseCache,
+            GeminiHttpClientPool geminiHttpClientPool,
+            ChatExecutor chatExecutor,
+            CatalogSnapshots catalogSnapshots,
+            SessionService sessionService,
+            SessionSweeper sessionSweeper
+    ) {
+        this.productCache = productCache;
+        this.chatResponseCache = chatResponseCache;
+        this.geminiHttpClientPool = geminiHttpClientPool;
+        this.chatExecutor = chatExecutor;
+        this.catalogSnapshots = catalogSnapshots;
+        this.sessionService = sessionService;
+        this.sessionSweeper = sessionSweeper;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("shop.cache.requests", productCache, cache -> cache.stats().hits())
+                .tags("cache", "products", "result", "hit").register(registry);
+        FunctionCounter.builder("shop.cache.requests", productCache, cache -> cache.stats().misses())
+                .tags("cache", "products", "result", "miss").register(registry);
+        FunctionCounter.builder("shop.cache.evictions", productCache, cache -> cache.stats().evictions())
+                .tag("cache", "products").register(registry);
+        Gauge.builder("shop.cache.size", productCache, cache -> cache.stats().size())
+                .tag("cache", "products").register(registry);
+
+        FunctionCounter.builder("shop.cache.requests", chatResponseCache, cache -> cache.stats().hits())
+                .tags("cache", "chat-replies", "result", "hit").register(registry);
+        FunctionCounter.builder("shop.cache.requests", chatResponseCache, cache -> cache.stats().misses())
+                .tags("cache", "chat-replies", "result", "miss").register(registry);
+        FunctionCounter.builder("shop.cache.requests", chatResponseCache, cache -> cache.stats().coalesced())
+                .tags("cache", "chat-replies", "result", "coalesced").register(registry);
+        FunctionCounter.builder("shop.cache.evictions", chatResponseCache, cache -> cache.stats().evictions())
+                .tag("cache", "chat-replies").register(registry);
+        Gauge.builder("shop.cache.size", chatResponseCache, cache -> cache.stats().size())
+                .tag("cache", "chat-replies").register(registry);
+
+        FunctionCounter.builder("shop.cache.requests", catalogSnapshots, snapshots -> snapshots.stats().hits())
+                .tags("cache", "catalog-snapshots", "result", "hit").register(registry);
+        FunctionCounter.builder("shop.cache.requests", catalogSnapshots, snapshots -> snapshots.stats().misses())
+                .tags("cache", "catalog-snapshots", "result", "miss").register(registry);
+        Gauge.builder("shop.catalog.version", catalogSnapshots, snapshots -> snapshots.stats().version())
+                .register(registry);
+
+        Gauge.builder("gemini.connections", geminiHttpClientPool, pool -> pool.stats().leased())
+                .tag("state", "leased").register(registry);
+        Gauge.builder("gemini.connections", geminiHttpClientPool, pool -> pool.stats().idle())
+                .tag("state", "idle").register(registry);
+        Gauge.builder("gemini.connections", geminiHttpClientPool, pool -> pool.stats().pending())
+                .tag("state", "pending").register(registry);
+        Gauge.builder("gemini.connections.max", geminiHttpClientPool, pool -> pool.stats().max())
+                .register(registry);
+
+        Gauge.builder("chat.executor.active", chatExecutor, ChatExecutor::activeCount).register(registry);
+        Gauge.builder("chat.executor.queued", chatExecutor, ChatExecutor::queuedCount).register(registry);
+        Gauge.builder("session.executor.active", sessionService, SessionService::activeCount).register(registry);
+        Gauge.builder("session.executor.queued", sessionService, SessionService::queuedCount).register(registry);
+
+        String action = sessionSweeper.archivesWishlists() ? "archived" : "deleted";
+        FunctionCounter.builder("session.reclaimed.documents", sessionSweeper, sweeper -> sweeper.stats().reclaimedDocuments())
+                .tags("collection", "wishlist_items", "action", action).register(registry);
+        FunctionCounter.builder("session.reclaimed.bytes", sessionSweeper, sweeper -> sweeper.stats().reclaimedBytes())
+                .tags("collection", "wishlist_items", "action", action).register(registry);
+        FunctionCounter.builder("session.backfilled.documents", sessionSweeper, sweeper -> sweeper.stats().backfilled())
+                .register(registry);
+        FunctionCounter.builder("session.sweeps.yielded", sessionSweeper, sweeper -> sweeper.stats().yieldedRuns())
+                .register(registry);
+        // TTL deletes happen on the server; these show them as collections shrinking.
+        for (String collection : sessionSweeper.collections()) {
+            Gauge.builder("session.collection.documents", sessionSweeper, sweeper -> sweeper.size(collection).documents())
+                    .tag("collection", collection).register(registry);
+            Gauge.builder("session.collection.bytes", sessionSweeper, sweeper -> sweeper.size(collection).bytes())
+                    .tag("collection", collection).register(registry);
+        }
+    }
+}
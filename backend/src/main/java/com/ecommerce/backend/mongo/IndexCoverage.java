@@ -0,0 +1,96 @@
+package com.ecommerce.backend.mongo;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.bson.Document;
+
+/**
+ * Decides whether an index can serve a {@link QueryShape} without a collection scan or an
+ * in-memory sort, following the equality-sort-range rule: all equality fields first (in any
+ * order), then the sort keys in order with a consistent direction, then the range fields.
+ */
+final class IndexCoverage {
+
+    private IndexCoverage() {
+    }
+
+    static boolean supports(Document indexKeys, QueryShape shape) {
+        Set<String> equality = new LinkedHashSet<>();
+        Set<String> ranges = new LinkedHashSet<>();
+        collectPredicates(shape.filter(), equality, ranges, false);
+        List<String> keys = new ArrayList<>(indexKeys.keySet());
+        if (keys.isEmpty()) {
+            return false;
+        }
+        if (equality.contains("_id") && keys.get(0).equals("_id")) {
+            return true;
+        }
+
+        int position = 0;
+        while (position < keys.size() && equality.contains(keys.get(position))) {
+            position++;
+        }
+        if (position != equality.size()) {
+            return false;
+        }
+
+        Set<String> sortFields = new HashSet<>();
+        Integer directionFactor = null;
+        for (Map.Entry<String, Object> sortKey : shape.sort().entrySet()) {
+            if (equality.contains(sortKey.getKey())) {
+                continue;
+            }
+            if (position >= keys.size() || !keys.get(position).equals(sortKey.getKey())) {
+                return false;
+            }
+            int factor = direction(indexKeys.get(keys.get(position))) * direction(sortKey.getValue());
+            if (directionFactor != null && directionFactor != factor) {
+                return false;
+            }
+            directionFactor = factor;
+            sortFields.add(sortKey.getKey());
+            position++;
+        }
+
+        if (equality.isEmpty() && sortFields.isEmpty() && !ranges.contains(keys.get(0))) {
+            return false;
+        }
+        Set<String> trailing = new HashSet<>(keys.subList(position, keys.size()));
+        for (String range : ranges) {
+            if (!sortFields.contains(range) && !trailing.contains(range)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void collectPredicates(Document filter, Set<String> equality, Set<String> ranges, boolean insideOr) {
+        for (Map.Entry<String, Object> entry : filter.entrySet()) {
+            String field = entry.getKey();
+            Object value = entry.getValue();
+            if (field.equals("$or") || field.equals("$and")) {
+                for (Object clause : (List<?>) value) {
+                    collectPredicates((Document) clause, equality, ranges, true);
+                }
+                continue;
+            }
+            boolean operator = value instanceof Document document
+                    && !document.isEmpty()
+                    && document.keySet().iterator().next().startsWith("$");
+            if (operator || insideOr) {
+                ranges.add(field);
+            } else {
+                equality.add(field);
+            }
+        }
+        ranges.removeAll(equality);
+    }
+
+    private static int direction(Object value) {
+        return value instanceof Number number && number.intValue() < 0 ? -1 : 1;
+    }
+}
@@ -0,0 +1,155 @@
+package com.ecommerce.backend.mongo;
+
+import com.ecommerce.backend.config.ShopProperties;
+import com.ecommerce.backend.shop.cart.CartItem;
+import com.ecommerce.backend.shop.cart.SessionCart;
+import com.mongodb.MongoCommandException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.stereotype.Component;
+
+@Component
+public class IndexManager implements SmartInitializingSingleton {
+    private static final Logger log = LoggerFactory.getLogger(IndexManager.class);
+    private static final int INDEX_OPTIONS_CONFLICT = 85;
+    // Single-field indexes the server expires documents by; the annotation declares the key, the TTL is configured.
+    private static final Map<Class<?>, String> EXPIRING_FIELDS = Map.of(
+            CartItem.class, "lastTouchedAt",
+            SessionCart.class, "updatedAt"
+    );
+
+    private final MongoTemplate mongoTemplate;
+    private final ShopProperties.Indexes settings;
+    private final Duration cartTtl;
+    private final IndexResolver indexResolver;
+
+    public IndexManager(MongoTemplate mongoTemplate, ShopProperties shopProperties) {
+        this.mongoTemplate = mongoTemplate;
+        this.settings = shopProperties.getIndexes();
+        this.cartTtl = shopProperties.getSession().getCartTtl();
+        this.indexResolver = new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (settings.isEnsureOnStartup()) {
+            ensureIndexes();
+        }
+        if (settings.getVerify() != ShopProperties.Indexes.VerifyMode.OFF) {
+            verify(settings.getVerify());
+        }
+    }
+
+    public void ensureIndexes() {
+        long startedAt = System.nanoTime();
+        int ensured = 0;
+        for (Class<?> entity : RepositoryQueryShapes.ENTITIES) {
+            IndexOperations indexOperations = mongoTemplate.indexOps(entity);
+            for (IndexDefinition definition : indexResolver.resolveIndexFor(TypeInformation.of(entity))) {
+                ensure(entity, indexOperations, definition);
+                ensured++;
+            }
+        }
+        log.info("Ensured {} Mongo indexes in {} ms", ensured, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private void ensure(Class<?> entity, IndexOperations indexOperations, IndexDefinition definition) {
+        String field = EXPIRING_FIELDS.get(entity);
+        if (field == null || !definition.getIndexKeys().keySet().equals(Set.of(field))) {
+            indexOperations.ensureIndex(definition);
+            return;
+        }
+
+        String name = definition.getIndexOptions().getString("name");
+        try {
+            indexOperations.ensureIndex(new Index().on(field, Sort.Direction.ASC).named(name).expire(cartTtl));
+        } catch (DataAccessException ex) {
+            if (!(ex.getMostSpecificCause() instanceof MongoCommandException command)
+                    || command.getErrorCode() != INDEX_OPTIONS_CONFLICT) {
+                throw ex;
+            }
+            // The index exists with another TTL; change it in place instead of rebuilding it.
+            mongoTemplate.executeCommand(new Document("collMod", mongoTemplate.getCollectionName(entity))
+                    .append("index", new Document("name", name).append("expireAfterSeconds", cartTtl.toSeconds())));
+            log.info("Changed the TTL of {}.{} to {}", mongoTemplate.getCollectionName(entity), name, cartTtl);
+        }
+    }
+
+    public List<QueryShape> verify(ShopProperties.Indexes.VerifyMode mode) {
+        Map<Class<?>, List<Document>> liveIndexes = new LinkedHashMap<>();
+        List<QueryShape> unsupported = new ArrayList<>();
+        for (QueryShape shape : RepositoryQueryShapes.all()) {
+            List<Document> indexes = liveIndexes.computeIfAbsent(shape.entity(), this::liveIndexKeys);
+            if (indexes.stream().noneMatch(keys -> IndexCoverage.supports(keys, shape))) {
+                unsupported.add(shape);
+            }
+        }
+
+        if (unsupported.isEmpty()) {
+            log.info("All {} repository query shapes have a supporting index", RepositoryQueryShapes.all().size());
+            return unsupported;
+        }
+        String names = unsupported.stream().map(QueryShape::name).toList().toString();
+        if (mode == ShopProperties.Indexes.VerifyMode.FAIL) {
+            throw new IllegalStateException("Repository queries without a supporting index: " + names);
+        }
+        log.warn("Repository queries without a supporting index: {}", names);
+        return unsupported;
+    }
+
+    public List<IndexUsage> usage() {
+        List<IndexUsage> usage = new ArrayList<>();
+        for (Class<?> entity : RepositoryQueryShapes.ENTITIES) {
+            String collection = mongoTemplate.getCollectionName(entity);
+            for (Document stats : mongoTemplate.getCollection(collection)
+                    .aggregate(List.of(new Document("$indexStats", new Document())))) {
+                Document accesses = stats.get("accesses", Document.class);
+                Number ops = accesses == null ? null : accesses.get("ops", Number.class);
+                Date since = accesses == null ? null : accesses.getDate("since");
+                usage.add(new IndexUsage(
+                        collection,
+                        stats.getString("name"),
+                        ops == null ? 0 : ops.longValue(),
+                        since == null ? null : since.toInstant()
+                ));
+            }
+        }
+        return usage;
+    }
+
+    private List<Document> liveIndexKeys(Class<?> entity) {
+        List<Document> indexes = new ArrayList<>();
+        for (IndexInfo info : mongoTemplate.indexOps(entity).getIndexInfo()) {
+            Document keys = new Document();
+            for (IndexField field : info.getIndexFields()) {
+                keys.append(field.getKey(), field.getDirection() == null || field.getDirection().isAscending() ? 1 : -1);
+            }
+            indexes.add(keys);
+        }
+        return indexes;
+    }
+
+    public record IndexUsage(String collection, String index, long accesses, Instant since) {
+    }
+}
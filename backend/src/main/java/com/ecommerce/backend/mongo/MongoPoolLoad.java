@@ -0,0 +1,89 @@
+package com.ecommerce.backend.mongo;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckOutStartedEvent;
+import com.mongodb.event.ConnectionCheckedInEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionPoolClosedEvent;
+import com.mongodb.event.ConnectionPoolCreatedEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tells background jobs when request traffic is queueing for a Mongo connection, independent of the threading mode.
+ */
+@Component
+public class MongoPoolLoad implements ConnectionPoolListener, MongoClientSettingsBuilderCustomizer {
+    private final Map<ServerId, Pool> pools = new ConcurrentHashMap<>();
+
+    @Override
+    public void customize(MongoClientSettings.Builder settings) {
+        settings.applyToConnectionPoolSettings(pool -> pool.addConnectionPoolListener(this));
+    }
+
+    public boolean saturated() {
+        for (Pool pool : pools.values()) {
+            if (pool.pending.get() > 0 && pool.checkedOut.get() >= pool.maxSize) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void connectionPoolCreated(ConnectionPoolCreatedEvent event) {
+        pools.put(event.getServerId(), new Pool(event.getSettings().getMaxSize()));
+    }
+
+    @Override
+    public void connectionPoolClosed(ConnectionPoolClosedEvent event) {
+        pools.remove(event.getServerId());
+    }
+
+    @Override
+    public void connectionCheckOutStarted(ConnectionCheckOutStartedEvent event) {
+        update(event.getServerId(), pool -> pool.pending.incrementAndGet());
+    }
+
+    @Override
+    public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+        update(event.getConnectionId().getServerId(), pool -> {
+            pool.pending.decrementAndGet();
+            pool.checkedOut.incrementAndGet();
+        });
+    }
+
+    @Override
+    public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+        update(event.getServerId(), pool -> pool.pending.decrementAndGet());
+    }
+
+    @Override
+    public void connectionCheckedIn(ConnectionCheckedInEvent event) {
+        update(event.getConnectionId().getServerId(), pool -> pool.checkedOut.decrementAndGet());
+    }
+
+    private void update(ServerId serverId, Consumer<Pool> change) {
+        Pool pool = pools.get(serverId);
+        if (pool != null) {
+            change.accept(pool);
+        }
+    }
+
+    private static final class Pool {
+        private final int maxSize;
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicInteger checkedOut = new AtomicInteger();
+
+        private Pool(int maxSize) {
+            this.maxSize = maxSize;
+        }
+    }
+}
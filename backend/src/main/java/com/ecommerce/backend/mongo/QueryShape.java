@@ -0,0 +1,19 @@
+package com.ecommerce.backend.mongo;
+
+import org.bson.Document;
+
+/**
+ * A repository query as the server sees it: an example filter (operators mark range
+ * predicates, plain values mark equality) and a sort. Used both for static index coverage
+ * checks and as the concrete query handed to {@code explain}.
+ */
+public record QueryShape(String name, Class<?> entity, Document filter, Document sort) {
+
+    public static QueryShape of(String name, Class<?> entity, Document filter) {
+        return new QueryShape(name, entity, filter, new Document());
+    }
+
+    public static QueryShape of(String name, Class<?> entity, Document filter, Document sort) {
+        return new QueryShape(name, entity, filter, sort);
+    }
+}
@@ -0,0 +1,68 @@
+package com.ecommerce.backend.mongo;
+
+import com.ecommerce.backend.config.DownstreamLimiter;
+import com.ecommerce.backend.config.ShopProperties;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+/**
+ * Runs every blocking repository call under the {@code mongo} permit when requests run on virtual threads; the
+ * platform-thread pool already bounds them otherwise. Reactive repositories are left alone.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class RepositoryConcurrencyConfig {
+
+    @Bean
+    DownstreamLimiter mongoLimiter(ShopProperties shopProperties) {
+        ShopProperties.Mongo settings = shopProperties.getMongo();
+        return new DownstreamLimiter("mongo", settings.getMaxConcurrent(), settings.getAcquireTimeout());
+    }
+
+    @Bean
+    static RepositoryLimitPostProcessor repositoryLimitPostProcessor() {
+        return new RepositoryLimitPostProcessor();
+    }
+
+    static class RepositoryLimitPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+        private volatile DownstreamLimiter limiter;
+        private BeanFactory beanFactory;
+
+        RepositoryLimitPostProcessor() {
+            ClassFilter blockingRepositories = type -> Repository.class.isAssignableFrom(type)
+                    && !ReactiveCrudRepository.class.isAssignableFrom(type);
+            MethodInterceptor limit = invocation -> {
+                try (DownstreamLimiter.Permit permit = limiter().acquire()) {
+                    return invocation.proceed();
+                }
+            };
+            this.advisor = new DefaultPointcutAdvisor(new ComposablePointcut(blockingRepositories), limit);
+            setBeforeExistingAdvisors(true);
+        }
+
+        @Override
+        public void setBeanFactory(BeanFactory beanFactory) {
+            super.setBeanFactory(beanFactory);
+            this.beanFactory = beanFactory;
+        }
+
+        private DownstreamLimiter limiter() {
+            DownstreamLimiter current = limiter;
+            if (current == null) {
+                current = beanFactory.getBean("mongoLimiter", DownstreamLimiter.class);
+                limiter = current;
+            }
+            return current;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.ecommerce.backend.mongo;
+
+import com.ecommerce.backend.shop.cart.CartItem;
+import com.ecommerce.backend.shop.cart.SessionCart;
+import com.ecommerce.backend.shop.order.Order;
+import com.ecommerce.backend.shop.product.Product;
+import com.ecommerce.backend.shop.product.catalog.ImportCheckpoint;
+import com.ecommerce.backend.shop.wishlist.WishlistItem;
+import java.time.Instant;
+import java.util.List;
+import org.bson.Document;
+
+public final class RepositoryQueryShapes {
+    public static final List<Class<?>> ENTITIES = List.of(
+            Product.class, CartItem.class, SessionCart.class, WishlistItem.class, Order.class, ImportCheckpoint.class
+    );
+
+    private static final String SESSION = "session-1";
+
+    private RepositoryQueryShapes() {
+    }
+
+    public static List<QueryShape> all() {
+        return List.of(
+                QueryShape.of("ProductRepository.findMatching(category, afterId)", Product.class,
+                        eq("category", "Books").append("_id", range("$gt", 10)), sort("_id", 1)),
+                QueryShape.of("ProductRepository.findMatching(afterId)", Product.class,
+                        new Document("_id", range("$gt", 10)), sort("_id", 1)),
+                QueryShape.of("ProductRepository.findInPriceRange", Product.class,
+                        eq("category", "Books").append("price", range("$lte", 1_000)),
+                        sort("rating", -1).append("price", 1).append("_id", 1)),
+
+                QueryShape.of("CartItemRepository.findBySessionIdOrderByProductIdAsc", CartItem.class,
+                        eq("sessionId", SESSION), sort("productId", 1)),
+                QueryShape.of("CartItemRepository.findBySessionIdAndProductIdGreaterThanOrderByProductIdAsc", CartItem.class,
+                        eq("sessionId", SESSION).append("productId", range("$gt", 10)), sort("productId", 1)),
+                QueryShape.of("CartItemRepository.incrementQty / deleteBySessionIdAndProductId / applyChanges", CartItem.class,
+                        eq("sessionId", SESSION).append("productId", 10)),
+                QueryShape.of("CartItemRepository.deleteBySessionId / SessionActivity.touch", CartItem.class, eq("sessionId", SESSION)),
+                QueryShape.of("SessionSweeper.backfill", CartItem.class, eq("lastTouchedAt", null)),
+                QueryShape.of("CartMigrationJob.migrate", CartItem.class, new Document(), sort("sessionId", 1).append("productId", 1)),
+                QueryShape.of("SessionCartStore.findById / SessionActivity.touch", SessionCart.class, eq("_id", SESSION)),
+
+                QueryShape.of("WishlistItemRepository.findBySessionIdOrderByProductIdAsc", WishlistItem.class,
+                        eq("sessionId", SESSION), sort("productId", 1)),
+                QueryShape.of("WishlistItemRepository.findBySessionIdAndProductIdGreaterThanOrderByProductIdAsc", WishlistItem.class,
+                        eq("sessionId", SESSION).append("productId", range("$gt", 10)), sort("productId", 1)),
+                QueryShape.of("WishlistItemRepository.findBySessionIdAndProductId / applyChanges", WishlistItem.class,
+                        eq("sessionId", SESSION).append("productId", 10)),
+                QueryShape.of("SessionActivity.touch", WishlistItem.class, eq("sessionId", SESSION)),
+                QueryShape.of("SessionSweeper.backfill", WishlistItem.class, eq("lastTouchedAt", null)),
+                QueryShape.of("SessionSweeper.sweepWishlists", WishlistItem.class,
+                        new Document("lastTouchedAt", range("$lt", Instant.EPOCH)), sort("lastTouchedAt", 1)),
+
+                QueryShape.of("OrderRepository.findBySessionIdOrderByCreatedAtDesc", Order.class,
+                        eq("sessionId", SESSION), sort("createdAt", -1)),
+                QueryShape.of("OrderRepository.findPage", Order.class,
+                        eq("sessionId", SESSION).append("$or", List.of(
+                                new Document("createdAt", range("$lt", Instant.EPOCH)),
+                                eq("createdAt", Instant.EPOCH).append("_id", range("$lt", "ORD"))
+                        )),
+                        sort("createdAt", -1).append("_id", -1)),
+                QueryShape.of("OrderRepository.findByIdAndSessionId", Order.class, eq("_id", "ORD1").append("sessionId", SESSION)),
+                QueryShape.of("OrderRepository.findBySessionIdAndIdempotencyKey", Order.class,
+                        eq("sessionId", SESSION).append("idempotencyKey", "key-1")),
+
+                QueryShape.of("CatalogImporter.loadCheckpoint", ImportCheckpoint.class, eq("_id", "file [products.json]"))
+        );
+    }
+
+    private static Document eq(String field, Object value) {
+        return new Document(field, value);
+    }
+
+    private static Document range(String operator, Object value) {
+        return new Document(operator, value);
+    }
+
+    private static Document sort(String field, int direction) {
+        return new Document(field, direction);
+    }
+}
@@ -2,8 +2,10 @@ package com.ecommerce.backend.shop.cart;
 
 import com.ecommerce.backend.shop.cart.dto.AddCartItemRequest;
 import com.ecommerce.backend.shop.cart.dto.CartItemResponse;
+import com.ecommerce.backend.shop.dto.CursorPage;
 import jakarta.validation.Valid;
 import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,6 +19,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping("/api/cart")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class CartController {
     private final CartService cartService;
 
@@ -29,6 +32,15 @@ public class CartController {
         return cartService.listItems(sessionId);
     }
 
+    @GetMapping("/page")
+    public CursorPage<CartItemResponse> listItemPage(
+            @RequestParam String sessionId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return cartService.listItemPage(sessionId, cursor, limit);
+    }
+
     @PostMapping("/items")
     @ResponseStatus(HttpStatus.CREATED)
     public CartItemResponse addItem(@Valid @RequestBody AddCartItemRequest request) {
@@ -1,9 +1,13 @@
 package com.ecommerce.backend.shop.cart;
 
+import java.time.Instant;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Document(collection = "cart_items")
+@CompoundIndex(name = "session_product", def = "{'sessionId': 1, 'productId': 1}", unique = true)
 public class CartItem {
     @Id
     private String id;
@@ -15,6 +19,9 @@ public class CartItem {
     private int price;
     private double rating;
     private int qty;
+    // TTL-indexed (shop.session.cart-ttl) by IndexManager.
+    @Indexed(name = "last_touched")
+    private Instant lastTouchedAt;
 
     public CartItem() {
     }
@@ -110,4 +117,12 @@ public class CartItem {
     public void setQty(int qty) {
         this.qty = qty;
     }
+
+    public Instant getLastTouchedAt() {
+        return lastTouchedAt;
+    }
+
+    public void setLastTouchedAt(Instant lastTouchedAt) {
+        this.lastTouchedAt = lastTouchedAt;
+    }
 }
@@ -0,0 +1,30 @@
+package com.ecommerce.backend.shop.cart;
+
+import com.ecommerce.backend.shop.product.Product;
+import java.time.Instant;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+final class CartItemQueries {
+    static final FindAndModifyOptions UPSERT_RETURNING_NEW = FindAndModifyOptions.options().upsert(true).returnNew(true);
+
+    private CartItemQueries() {
+    }
+
+    static Query line(String sessionId, Integer productId) {
+        return Query.query(Criteria.where("sessionId").is(sessionId).and("productId").is(productId));
+    }
+
+    static Update addQty(Product product, int qty) {
+        return new Update()
+                .inc("qty", qty)
+                .set("lastTouchedAt", Instant.now())
+                .setOnInsert("name", product.getName())
+                .setOnInsert("category", product.getCategory())
+                .setOnInsert("description", product.getDescription())
+                .setOnInsert("price", product.getPrice())
+                .setOnInsert("rating", product.getRating());
+    }
+}
@@ -1,13 +1,13 @@
 package com.ecommerce.backend.shop.cart;
 
 import java.util.List;
-import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
-public interface CartItemRepository extends MongoRepository<CartItem, String> {
+public interface CartItemRepository extends MongoRepository<CartItem, String>, CartItemRepositoryCustom {
     List<CartItem> findBySessionIdOrderByProductIdAsc(String sessionId);
 
-    Optional<CartItem> findBySessionIdAndProductId(String sessionId, Integer productId);
+    List<CartItem> findBySessionIdAndProductIdGreaterThanOrderByProductIdAsc(String sessionId, Integer afterProductId, Limit limit);
 
     void deleteBySessionIdAndProductId(String sessionId, Integer productId);
 
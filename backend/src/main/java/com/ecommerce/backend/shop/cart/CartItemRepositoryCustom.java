@@ -0,0 +1,12 @@
+package com.ecommerce.backend.shop.cart;
+
+import com.ecommerce.backend.shop.dto.ItemChange;
+import com.ecommerce.backend.shop.product.Product;
+import java.util.List;
+import java.util.Map;
+
+public interface CartItemRepositoryCustom {
+    CartItem incrementQty(String sessionId, Product product, int qty);
+
+    void applyChanges(String sessionId, List<ItemChange> changes, Map<Integer, Product> products);
+}
@@ -0,0 +1,64 @@
+package com.ecommerce.backend.shop.cart;
+
+import com.ecommerce.backend.shop.dto.ItemChange;
+import com.ecommerce.backend.shop.product.Product;
+import com.mongodb.bulk.BulkWriteError;
+import java.util.List;
+import java.util.Map;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+class CartItemRepositoryCustomImpl implements CartItemRepositoryCustom {
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongoTemplate;
+
+    CartItemRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public CartItem incrementQty(String sessionId, Product product, int qty) {
+        Query query = CartItemQueries.line(sessionId, product.getId());
+        Update update = CartItemQueries.addQty(product, qty);
+
+        try {
+            return mongoTemplate.findAndModify(query, update, CartItemQueries.UPSERT_RETURNING_NEW, CartItem.class);
+        } catch (DuplicateKeyException ex) {
+            // A concurrent upsert inserted the line first; the retry matches it and only increments.
+            return mongoTemplate.findAndModify(query, update, CartItemQueries.UPSERT_RETURNING_NEW, CartItem.class);
+        }
+    }
+
+    @Override
+    public void applyChanges(String sessionId, List<ItemChange> changes, Map<Integer, Product> products) {
+        try {
+            write(sessionId, changes, products);
+        } catch (BulkOperationException ex) {
+            // Ordered bulk: everything before the failed write was applied. A duplicate key there means a concurrent
+            // upsert inserted the line first, so resume from it; the retried upsert matches and only increments.
+            BulkWriteError first = ex.getErrors().get(0);
+            if (first.getCode() != DUPLICATE_KEY) {
+                throw ex;
+            }
+            write(sessionId, changes.subList(first.getIndex(), changes.size()), products);
+        }
+    }
+
+    private void write(String sessionId, List<ItemChange> changes, Map<Integer, Product> products) {
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, CartItem.class);
+        for (ItemChange change : changes) {
+            Query line = CartItemQueries.line(sessionId, change.productId());
+            if (change.isRemoval()) {
+                operations.remove(line);
+            } else {
+                operations.upsert(line, CartItemQueries.addQty(products.get(change.productId()), change.qty()));
+            }
+        }
+        operations.execute();
+    }
+}
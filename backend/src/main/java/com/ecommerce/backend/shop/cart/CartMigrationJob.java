@@ -0,0 +1,137 @@
+package com.ecommerce.backend.shop.cart;
+
+import com.ecommerce.backend.config.ShopProperties;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "shop.cart", name = "storage", havingValue = "session-document")
+public class CartMigrationJob {
+    private static final Logger log = LoggerFactory.getLogger(CartMigrationJob.class);
+    static final String MIGRATED_AT = "migratedAt";
+
+    private final MongoTemplate mongoTemplate;
+    private final ShopProperties.Cart settings;
+
+    public CartMigrationJob(MongoTemplate mongoTemplate, ShopProperties shopProperties) {
+        this.mongoTemplate = mongoTemplate;
+        this.settings = shopProperties.getCart();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (settings.isMigrateOnStartup()) {
+            migrate();
+        }
+    }
+
+    public long migrate() {
+        // Kept rows are marked once their merge is confirmed, so a rerun never adds the same qty twice.
+        Query query = Query.query(Criteria.where(MIGRATED_AT).exists(false)).with(Sort.by("sessionId", "productId"));
+        List<List<CartItem>> batch = new ArrayList<>();
+        long migratedSessions = 0;
+
+        List<CartItem> current = new ArrayList<>();
+        try (Stream<CartItem> items = mongoTemplate.stream(query, CartItem.class)) {
+            Iterator<CartItem> iterator = items.iterator();
+            while (iterator.hasNext()) {
+                CartItem item = iterator.next();
+                if (!current.isEmpty() && !current.get(0).getSessionId().equals(item.getSessionId())) {
+                    batch.add(current);
+                    current = new ArrayList<>();
+                    if (batch.size() >= settings.getMigrationBatchSize()) {
+                        migratedSessions += flush(batch);
+                    }
+                }
+                current.add(item);
+            }
+        }
+        if (!current.isEmpty()) {
+            batch.add(current);
+        }
+        if (!batch.isEmpty()) {
+            migratedSessions += flush(batch);
+        }
+
+        log.info("Migrated {} carts from cart_items to carts", migratedSessions);
+        return migratedSessions;
+    }
+
+    private long flush(List<List<CartItem>> carts) {
+        // Ordered, so a failure leaves a clean prefix applied; a line counts once both of its writes ran.
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, SessionCart.class);
+        List<Integer> lastOpOfLine = new ArrayList<>();
+        int ops = 0;
+        for (List<CartItem> cart : carts) {
+            String sessionId = cart.get(0).getSessionId();
+            operations.upsert(
+                    Query.query(Criteria.where("_id").is(sessionId)),
+                    new Update().setOnInsert("items", List.of()).set("updatedAt", Instant.now())
+            );
+            ops++;
+            for (CartItem item : cart) {
+                // Exactly one of the two filters matches: add to the existing line or push a new one.
+                operations.updateOne(
+                        Query.query(Criteria.where("_id").is(sessionId).and("items.productId").is(item.getProductId())),
+                        new Update().inc("items.$.qty", item.getQty())
+                );
+                operations.updateOne(
+                        Query.query(Criteria.where("_id").is(sessionId).and("items.productId").ne(item.getProductId())),
+                        new Update().push("items", new SessionCart.Line(item.getProductId(), item.getQty(), item.getPrice()))
+                );
+                ops += 2;
+                lastOpOfLine.add(ops - 1);
+            }
+        }
+
+        int applied = ops;
+        try {
+            operations.execute();
+        } catch (BulkOperationException ex) {
+            applied = ex.getErrors().get(0).getIndex();
+            log.warn("Cart migration stopped after {} of {} writes; unconfirmed lines stay in cart_items", applied, ops, ex);
+        }
+
+        List<String> confirmedIds = new ArrayList<>();
+        long confirmedSessions = 0;
+        int line = 0;
+        for (List<CartItem> cart : carts) {
+            boolean whole = true;
+            for (CartItem item : cart) {
+                if (lastOpOfLine.get(line++) < applied) {
+                    confirmedIds.add(item.getId());
+                } else {
+                    whole = false;
+                }
+            }
+            confirmedSessions += whole ? 1 : 0;
+        }
+        carts.clear();
+
+        if (!confirmedIds.isEmpty()) {
+            Query confirmed = Query.query(Criteria.where("_id").in(confirmedIds));
+            if (settings.isDeleteMigratedItems()) {
+                mongoTemplate.remove(confirmed, CartItem.class);
+            } else {
+                mongoTemplate.updateMulti(confirmed, new Update().set(MIGRATED_AT, Instant.now()), CartItem.class);
+            }
+        }
+        return confirmedSessions;
+    }
+}
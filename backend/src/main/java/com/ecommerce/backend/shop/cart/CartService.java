@@ -2,71 +2,84 @@ package com.ecommerce.backend.shop.cart;
 
 import com.ecommerce.backend.shop.cart.dto.AddCartItemRequest;
 import com.ecommerce.backend.shop.cart.dto.CartItemResponse;
+import com.ecommerce.backend.shop.dto.CursorPage;
+import com.ecommerce.backend.shop.dto.ItemChange;
 import com.ecommerce.backend.shop.product.Product;
 import com.ecommerce.backend.shop.product.ProductService;
+import com.ecommerce.backend.shop.session.SessionActivity;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 
 @Service
 public class CartService {
-    private final CartItemRepository cartItemRepository;
+    private final CartStore cartStore;
     private final ProductService productService;
+    private final SessionActivity sessionActivity;
 
-    public CartService(CartItemRepository cartItemRepository, ProductService productService) {
-        this.cartItemRepository = cartItemRepository;
+    public CartService(CartStore cartStore, ProductService productService, SessionActivity sessionActivity) {
+        this.cartStore = cartStore;
         this.productService = productService;
+        this.sessionActivity = sessionActivity;
     }
 
     public List<CartItemResponse> listItems(String sessionId) {
         String normalizedSessionId = requireSessionId(sessionId);
-        return cartItemRepository.findBySessionIdOrderByProductIdAsc(normalizedSessionId).stream()
-                .map(this::toResponse)
+        return cartStore.findItems(normalizedSessionId).stream()
+                .map(CartService::toResponse)
                 .collect(Collectors.toList());
     }
 
+    public CursorPage<CartItemResponse> listItemPage(String sessionId, String cursor, Integer limit) {
+        int pageSize = CursorPage.resolveLimit(limit);
+        List<CartItem> items = cartStore.findItemsAfter(requireSessionId(sessionId), CursorPage.integerCursor(cursor), pageSize + 1);
+        return CursorPage.of(items, pageSize, item -> String.valueOf(item.getProductId()), CartService::toResponse);
+    }
+
     public CartItemResponse addItem(AddCartItemRequest request) {
         String sessionId = requireSessionId(request.sessionId());
         Integer productId = request.productId();
         Integer qtyToAdd = request.qty();
 
         Product product = productService.getById(productId);
-        CartItem item = cartItemRepository.findBySessionIdAndProductId(sessionId, productId)
-                .orElseGet(() -> new CartItem(
-                        sessionId,
-                        product.getId(),
-                        product.getName(),
-                        product.getCategory(),
-                        product.getDescription(),
-                        product.getPrice(),
-                        product.getRating(),
-                        0
-                ));
-
-        item.setQty(item.getQty() + qtyToAdd);
-        return toResponse(cartItemRepository.save(item));
+        CartItem item = cartStore.addQty(sessionId, product, qtyToAdd);
+        sessionActivity.touch(sessionId);
+        return toResponse(item);
     }
 
     public void removeItem(String sessionId, Integer productId) {
-        cartItemRepository.deleteBySessionIdAndProductId(requireSessionId(sessionId), productId);
+        String normalizedSessionId = requireSessionId(sessionId);
+        cartStore.removeItem(normalizedSessionId, productId);
+        sessionActivity.touch(normalizedSessionId);
+    }
+
+    // products must hold every product the changes add; SessionService resolves them once for the whole batch.
+    public void applyChanges(String sessionId, List<ItemChange> changes, Map<Integer, Product> products) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        String normalizedSessionId = requireSessionId(sessionId);
+        cartStore.applyChanges(normalizedSessionId, changes, products);
+        sessionActivity.touch(normalizedSessionId);
     }
 
     public List<CartItem> getSessionItems(String sessionId) {
-        return cartItemRepository.findBySessionIdOrderByProductIdAsc(requireSessionId(sessionId));
+        return cartStore.findItems(requireSessionId(sessionId));
     }
 
     public void clearSessionItems(String sessionId) {
-        cartItemRepository.deleteBySessionId(requireSessionId(sessionId));
+        cartStore.clear(requireSessionId(sessionId));
     }
 
-    private static String requireSessionId(String sessionId) {
+    static String requireSessionId(String sessionId) {
         if (sessionId == null || sessionId.isBlank()) {
             throw new IllegalArgumentException("sessionId is required");
         }
         return sessionId.trim();
     }
 
-    private CartItemResponse toResponse(CartItem item) {
+    static CartItemResponse toResponse(CartItem item) {
         return new CartItemResponse(
                 item.getProductId(),
                 item.getName(),
@@ -77,4 +90,10 @@ public class CartService {
                 item.getQty()
         );
     }
+
+    public static class CartConflictException extends IllegalStateException {
+        public CartConflictException(Throwable cause) {
+            super("Cart changed concurrently, please retry", cause);
+        }
+    }
 }
@@ -0,0 +1,20 @@
+package com.ecommerce.backend.shop.cart;
+
+import com.ecommerce.backend.shop.dto.ItemChange;
+import com.ecommerce.backend.shop.product.Product;
+import java.util.List;
+import java.util.Map;
+
+interface CartStore {
+    List<CartItem> findItems(String sessionId);
+
+    List<CartItem> findItemsAfter(String sessionId, Integer afterProductId, int limit);
+
+    CartItem addQty(String sessionId, Product product, int qty);
+
+    void removeItem(String sessionId, Integer productId);
+
+    void clear(String sessionId);
+
+    void applyChanges(String sessionId, List<ItemChange> changes, Map<Integer, Product> products);
+}
@@ -0,0 +1,50 @@
+package com.ecommerce.backend.shop.cart;
+
+import com.ecommerce.backend.shop.dto.ItemChange;
+import com.ecommerce.backend.shop.product.Product;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.domain.Limit;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "shop.cart", name = "storage", havingValue = "line-items", matchIfMissing = true)
+class LineItemCartStore implements CartStore {
+    private final CartItemRepository cartItemRepository;
+
+    LineItemCartStore(CartItemRepository cartItemRepository) {
+        this.cartItemRepository = cartItemRepository;
+    }
+
+    @Override
+    public List<CartItem> findItems(String sessionId) {
+        return cartItemRepository.findBySessionIdOrderByProductIdAsc(sessionId);
+    }
+
+    @Override
+    public List<CartItem> findItemsAfter(String sessionId, Integer afterProductId, int limit) {
+        return cartItemRepository.findBySessionIdAndProductIdGreaterThanOrderByProductIdAsc(
+                sessionId, afterProductId == null ? Integer.MIN_VALUE : afterProductId, Limit.of(limit));
+    }
+
+    @Override
+    public CartItem addQty(String sessionId, Product product, int qty) {
+        return cartItemRepository.incrementQty(sessionId, product, qty);
+    }
+
+    @Override
+    public void removeItem(String sessionId, Integer productId) {
+        cartItemRepository.deleteBySessionIdAndProductId(sessionId, productId);
+    }
+
+    @Override
+    public void clear(String sessionId) {
+        cartItemRepository.deleteBySessionId(sessionId);
+    }
+
+    @Override
+    public void applyChanges(String sessionId, List<ItemChange> changes, Map<Integer, Product> products) {
+        cartItemRepository.applyChanges(sessionId, changes, products);
+    }
+}
@@ -0,0 +1,56 @@
+package com.ecommerce.backend.shop.cart;
+
+import com.ecommerce.backend.shop.cart.dto.AddCartItemRequest;
+import com.ecommerce.backend.shop.cart.dto.CartItemResponse;
+import com.ecommerce.backend.shop.dto.CursorPage;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/cart")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCartController {
+    private final ReactiveCartService cartService;
+
+    public ReactiveCartController(ReactiveCartService cartService) {
+        this.cartService = cartService;
+    }
+
+    @GetMapping
+    public Flux<CartItemResponse> listItems(@RequestParam String sessionId) {
+        return cartService.listItems(sessionId);
+    }
+
+    @GetMapping("/page")
+    public Mono<CursorPage<CartItemResponse>> listItemPage(
+            @RequestParam String sessionId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return cartService.listItemPage(sessionId, cursor, limit);
+    }
+
+    @PostMapping("/items")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<CartItemResponse> addItem(@Valid @RequestBody AddCartItemRequest request) {
+        return cartService.addItem(request);
+    }
+
+    @DeleteMapping("/items/{productId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> removeItem(@RequestParam String sessionId, @PathVariable Integer productId) {
+        return cartService.removeItem(sessionId, productId);
+    }
+}
@@ -0,0 +1,16 @@
+package com.ecommerce.backend.shop.cart;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveCartItemRepository extends ReactiveMongoRepository<CartItem, String>, ReactiveCartItemRepositoryCustom {
+    Flux<CartItem> findBySessionIdOrderByProductIdAsc(String sessionId);
+
+    Flux<CartItem> findBySessionIdAndProductIdGreaterThanOrderByProductIdAsc(String sessionId, Integer afterProductId, Limit limit);
+
+    Mono<Void> deleteBySessionIdAndProductId(String sessionId, Integer productId);
+
+    Mono<Long> deleteBySessionId(String sessionId);
+}
@@ -0,0 +1,8 @@
+package com.ecommerce.backend.shop.cart;
+
+import com.ecommerce.backend.shop.product.Product;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveCartItemRepositoryCustom {
+    Mono<CartItem> incrementQty(String sessionId, Product product, int qty);
+}
@@ -0,0 +1,26 @@
+package com.ecommerce.backend.shop.cart;
+
+import com.ecommerce.backend.shop.product.Product;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+class ReactiveCartItemRepositoryCustomImpl implements ReactiveCartItemRepositoryCustom {
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    ReactiveCartItemRepositoryCustomImpl(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Mono<CartItem> incrementQty(String sessionId, Product product, int qty) {
+        Query query = CartItemQueries.line(sessionId, product.getId());
+        Update update = CartItemQueries.addQty(product, qty);
+        Mono<CartItem> upsert = mongoTemplate.findAndModify(query, update, CartItemQueries.UPSERT_RETURNING_NEW, CartItem.class);
+        // A concurrent upsert may insert the line first; the retry matches it and only increments.
+        return upsert.onErrorResume(DuplicateKeyException.class, ex ->
+                mongoTemplate.findAndModify(query, update, CartItemQueries.UPSERT_RETURNING_NEW, CartItem.class));
+    }
+}
@@ -0,0 +1,78 @@
+package com.ecommerce.backend.shop.cart;
+
+import com.ecommerce.backend.config.ShopProperties;
+import com.ecommerce.backend.shop.cart.dto.AddCartItemRequest;
+import com.ecommerce.backend.shop.cart.dto.CartItemResponse;
+import com.ecommerce.backend.shop.dto.CursorPage;
+import com.ecommerce.backend.shop.product.ReactiveProductService;
+import com.ecommerce.backend.shop.session.ReactiveSessionActivity;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCartService {
+    private final ReactiveCartItemRepository cartItemRepository;
+    private final ReactiveProductService productService;
+    private final ReactiveSessionActivity sessionActivity;
+
+    public ReactiveCartService(
+            ReactiveCartItemRepository cartItemRepository,
+            ReactiveProductService productService,
+            ReactiveSessionActivity sessionActivity,
+            ShopProperties shopProperties
+    ) {
+        if (!"line-items".equals(shopProperties.getCart().getStorage())) {
+            throw new IllegalStateException("Reactive mode only supports shop.cart.storage=line-items");
+        }
+        this.cartItemRepository = cartItemRepository;
+        this.productService = productService;
+        this.sessionActivity = sessionActivity;
+    }
+
+    public Flux<CartItemResponse> listItems(String sessionId) {
+        return getSessionItems(sessionId).map(CartService::toResponse);
+    }
+
+    public Mono<CursorPage<CartItemResponse>> listItemPage(String sessionId, String cursor, Integer limit) {
+        return Mono.defer(() -> {
+            int pageSize = CursorPage.resolveLimit(limit);
+            Integer afterProductId = CursorPage.integerCursor(cursor);
+            return cartItemRepository.findBySessionIdAndProductIdGreaterThanOrderByProductIdAsc(
+                            CartService.requireSessionId(sessionId),
+                            afterProductId == null ? Integer.MIN_VALUE : afterProductId,
+                            Limit.of(pageSize + 1))
+                    .collectList()
+                    .map(items -> CursorPage.of(items, pageSize, item -> String.valueOf(item.getProductId()), CartService::toResponse));
+        });
+    }
+
+    public Mono<CartItemResponse> addItem(AddCartItemRequest request) {
+        return Mono.defer(() -> {
+            String sessionId = CartService.requireSessionId(request.sessionId());
+            return productService.getById(request.productId())
+                    .flatMap(product -> cartItemRepository.incrementQty(sessionId, product, request.qty()))
+                    .flatMap(item -> sessionActivity.touch(sessionId).thenReturn(item))
+                    .map(CartService::toResponse);
+        });
+    }
+
+    public Mono<Void> removeItem(String sessionId, Integer productId) {
+        return Mono.defer(() -> {
+            String normalizedSessionId = CartService.requireSessionId(sessionId);
+            return cartItemRepository.deleteBySessionIdAndProductId(normalizedSessionId, productId)
+                    .then(sessionActivity.touch(normalizedSessionId));
+        });
+    }
+
+    public Flux<CartItem> getSessionItems(String sessionId) {
+        return Flux.defer(() -> cartItemRepository.findBySessionIdOrderByProductIdAsc(CartService.requireSessionId(sessionId)));
+    }
+
+    public Mono<Void> clearSessionItems(String sessionId) {
+        return Mono.defer(() -> cartItemRepository.deleteBySessionId(CartService.requireSessionId(sessionId))).then();
+    }
+}
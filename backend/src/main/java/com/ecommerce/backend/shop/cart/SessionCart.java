@@ -0,0 +1,90 @@
+package com.ecommerce.backend.shop.cart;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Document(collection = "carts")
+public class SessionCart {
+    @Id
+    private String sessionId;
+    private List<Line> items = new ArrayList<>();
+    // TTL-indexed (shop.session.cart-ttl) by IndexManager.
+    @Indexed(name = "updated_at")
+    private Instant updatedAt;
+
+    public SessionCart() {
+    }
+
+    public SessionCart(String sessionId, List<Line> items, Instant updatedAt) {
+        this.sessionId = sessionId;
+        this.items = items;
+        this.updatedAt = updatedAt;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public void setSessionId(String sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    public List<Line> getItems() {
+        return items;
+    }
+
+    public void setItems(List<Line> items) {
+        this.items = items;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public static class Line {
+        private Integer productId;
+        private int qty;
+        private int priceSnapshot;
+
+        public Line() {
+        }
+
+        public Line(Integer productId, int qty, int priceSnapshot) {
+            this.productId = productId;
+            this.qty = qty;
+            this.priceSnapshot = priceSnapshot;
+        }
+
+        public Integer getProductId() {
+            return productId;
+        }
+
+        public void setProductId(Integer productId) {
+            this.productId = productId;
+        }
+
+        public int getQty() {
+            return qty;
+        }
+
+        public void setQty(int qty) {
+            this.qty = qty;
+        }
+
+        public int getPriceSnapshot() {
+            return priceSnapshot;
+        }
+
+        public void setPriceSnapshot(int priceSnapshot) {
+            this.priceSnapshot = priceSnapshot;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.ecommerce.backend.shop.cart;
+
+import com.ecommerce.backend.shop.dto.ItemChange;
+import com.ecommerce.backend.shop.product.Product;
+import com.ecommerce.backend.shop.product.ProductService;
+import com.mongodb.bulk.BulkWriteError;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "shop.cart", name = "storage", havingValue = "session-document")
+class SessionCartStore implements CartStore {
+    private static final int DUPLICATE_KEY = 11000;
+    private static final int MAX_ADD_ATTEMPTS = 3;
+    private static final FindAndModifyOptions RETURN_NEW = FindAndModifyOptions.options().returnNew(true);
+
+    private final MongoTemplate mongoTemplate;
+    private final ProductService productService;
+
+    SessionCartStore(MongoTemplate mongoTemplate, ProductService productService) {
+        this.mongoTemplate = mongoTemplate;
+        this.productService = productService;
+    }
+
+    @Override
+    public List<CartItem> findItems(String sessionId) {
+        SessionCart cart = mongoTemplate.findById(sessionId, SessionCart.class);
+        if (cart == null || cart.getItems() == null || cart.getItems().isEmpty()) {
+            return List.of();
+        }
+        return join(sessionId, cart.getItems());
+    }
+
+    @Override
+    public List<CartItem> findItemsAfter(String sessionId, Integer afterProductId, int limit) {
+        SessionCart cart = mongoTemplate.findById(sessionId, SessionCart.class);
+        if (cart == null || cart.getItems() == null) {
+            return List.of();
+        }
+        List<SessionCart.Line> lines = cart.getItems().stream()
+                .filter(line -> afterProductId == null || line.getProductId() > afterProductId)
+                .sorted(Comparator.comparing(SessionCart.Line::getProductId))
+                .limit(limit)
+                .toList();
+        return lines.isEmpty() ? List.of() : join(sessionId, lines);
+    }
+
+    @Override
+    public CartItem addQty(String sessionId, Product product, int qty) {
+        for (int attempt = 1; ; attempt++) {
+            SessionCart cart = incrementExistingLine(sessionId, product.getId(), qty);
+            if (cart != null) {
+                return storedLine(sessionId, cart, product);
+            }
+            try {
+                cart = mongoTemplate.findAndModify(
+                        Query.query(Criteria.where("_id").is(sessionId).and("items.productId").ne(product.getId())),
+                        new Update()
+                                .push("items", new SessionCart.Line(product.getId(), qty, product.getPrice()))
+                                .set("updatedAt", Instant.now()),
+                        FindAndModifyOptions.options().upsert(true).returnNew(true),
+                        SessionCart.class
+                );
+                return storedLine(sessionId, cart, product);
+            } catch (DuplicateKeyException ex) {
+                // The cart already holds this product (added concurrently), so the upsert collided on _id. Go back to
+                // the increment; if the line was removed again in between, the next push succeeds.
+                if (attempt == MAX_ADD_ATTEMPTS) {
+                    throw new CartService.CartConflictException(ex);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void removeItem(String sessionId, Integer productId) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(sessionId)),
+                new Update()
+                        .pull("items", new Document("productId", productId))
+                        .set("updatedAt", Instant.now()),
+                SessionCart.class
+        );
+    }
+
+    @Override
+    public void clear(String sessionId) {
+        mongoTemplate.remove(Query.query(Criteria.where("_id").is(sessionId)), SessionCart.class);
+    }
+
+    @Override
+    public void applyChanges(String sessionId, List<ItemChange> changes, Map<Integer, Product> products) {
+        try {
+            write(sessionId, changes, products);
+        } catch (BulkOperationException ex) {
+            // Only the leading upsert can collide (the cart document was created concurrently); an ordered bulk stops
+            // there, so nothing was applied and the whole batch can be replayed.
+            BulkWriteError first = ex.getErrors().get(0);
+            if (first.getIndex() != 0 || first.getCode() != DUPLICATE_KEY) {
+                throw ex;
+            }
+            write(sessionId, changes, products);
+        }
+    }
+
+    private void write(String sessionId, List<ItemChange> changes, Map<Integer, Product> products) {
+        // Per add exactly one of the two filters matches: bump the existing line or push a new one.
+        Query cart = Query.query(Criteria.where("_id").is(sessionId));
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, SessionCart.class);
+        operations.upsert(cart, new Update().setOnInsert("items", List.of()).set("updatedAt", Instant.now()));
+        for (ItemChange change : changes) {
+            Integer productId = change.productId();
+            if (change.isRemoval()) {
+                operations.updateOne(cart, new Update().pull("items", new Document("productId", productId)));
+                continue;
+            }
+            operations.updateOne(
+                    Query.query(Criteria.where("_id").is(sessionId).and("items.productId").is(productId)),
+                    new Update().inc("items.$.qty", change.qty())
+            );
+            operations.updateOne(
+                    Query.query(Criteria.where("_id").is(sessionId).and("items.productId").ne(productId)),
+                    new Update().push("items", new SessionCart.Line(productId, change.qty(), products.get(productId).getPrice()))
+            );
+        }
+        operations.execute();
+    }
+
+    private static CartItem storedLine(String sessionId, SessionCart cart, Product product) {
+        SessionCart.Line line = cart.getItems().stream()
+                .filter(candidate -> product.getId().equals(candidate.getProductId()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Cart line was not stored for product " + product.getId()));
+        return toCartItem(sessionId, line, product);
+    }
+
+    private SessionCart incrementExistingLine(String sessionId, Integer productId, int qty) {
+        return mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(sessionId).and("items.productId").is(productId)),
+                new Update().inc("items.$.qty", qty).set("updatedAt", Instant.now()),
+                RETURN_NEW,
+                SessionCart.class
+        );
+    }
+
+    private List<CartItem> join(String sessionId, List<SessionCart.Line> lines) {
+        Map<Integer, Product> products = productService.getByIds(lines.stream().map(SessionCart.Line::getProductId).toList());
+        return lines.stream()
+                .sorted(Comparator.comparing(SessionCart.Line::getProductId))
+                .map(line -> toCartItem(sessionId, line, products.get(line.getProductId())))
+                .toList();
+    }
+
+    private static CartItem toCartItem(String sessionId, SessionCart.Line line, Product product) {
+        return new CartItem(
+                sessionId,
+                line.getProductId(),
+                product == null ? null : product.getName(),
+                product == null ? null : product.getCategory(),
+                product == null ? null : product.getDescription(),
+                line.getPriceSnapshot(),
+                product == null ? 0 : product.getRating(),
+                line.getQty()
+        );
+    }
+}
@@ -0,0 +1,43 @@
+package com.ecommerce.backend.shop.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPage<T>(List<T> items, String nextCursor) {
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    public static int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        return limit;
+    }
+
+    public static Integer integerCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(cursor.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("cursor is invalid");
+        }
+    }
+
+    /**
+     * Builds a page from up to {@code limit + 1} fetched rows; the extra row only signals that
+     * another page exists.
+     */
+    public static <S, T> CursorPage<T> of(List<S> fetched, int limit, Function<S, String> cursorOf, Function<S, T> mapper) {
+        boolean hasMore = fetched.size() > limit;
+        List<S> page = hasMore ? fetched.subList(0, limit) : fetched;
+        return new CursorPage<>(
+                page.stream().map(mapper).toList(),
+                hasMore ? cursorOf.apply(page.get(limit - 1)) : null
+        );
+    }
+}
@@ -0,0 +1,25 @@
+package com.ecommerce.backend.shop.dto;
+
+import java.util.List;
+
+/**
+ * One add or remove in a batched cart or wishlist update. A removal has {@code qty} 0; wishlist adds ignore it.
+ */
+public record ItemChange(Integer productId, int qty) {
+
+    public static ItemChange add(Integer productId, int qty) {
+        return new ItemChange(productId, qty);
+    }
+
+    public static ItemChange remove(Integer productId) {
+        return new ItemChange(productId, 0);
+    }
+
+    public static List<Integer> addedProductIds(List<ItemChange> changes) {
+        return changes.stream().filter(change -> !change.isRemoval()).map(ItemChange::productId).distinct().toList();
+    }
+
+    public boolean isRemoval() {
+        return qty == 0;
+    }
+}
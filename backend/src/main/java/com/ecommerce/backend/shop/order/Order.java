@@ -3,13 +3,22 @@ package com.ecommerce.backend.shop.order;
 import java.time.Instant;
 import java.util.List;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Document(collection = "orders")
+@CompoundIndex(name = "session_created_id", def = "{'sessionId': 1, 'createdAt': -1, '_id': -1}")
+@CompoundIndex(
+        name = "session_idempotency_key",
+        def = "{'sessionId': 1, 'idempotencyKey': 1}",
+        unique = true,
+        partialFilter = "{'idempotencyKey': {'$exists': true}}"
+)
 public class Order {
     @Id
     private String id;
     private String sessionId;
+    private String idempotencyKey;
     private List<LineItem> items;
     private int total;
     private String paymentMethod;
@@ -53,6 +62,14 @@ public class Order {
         this.sessionId = sessionId;
     }
 
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
     public List<LineItem> getItems() {
         return items;
     }
@@ -1,15 +1,18 @@
 package com.ecommerce.backend.shop.order;
 
+import com.ecommerce.backend.shop.dto.CursorPage;
 import com.ecommerce.backend.shop.order.dto.OrderResponse;
 import com.ecommerce.backend.shop.order.dto.OrderTrackResponse;
 import com.ecommerce.backend.shop.order.dto.PlaceOrderRequest;
 import jakarta.validation.Valid;
 import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -17,6 +20,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping("/api/orders")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class OrderController {
     private final OrderService orderService;
 
@@ -26,8 +30,11 @@ public class OrderController {
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public OrderResponse placeOrder(@Valid @RequestBody PlaceOrderRequest request) {
-        return orderService.placeOrder(request);
+    public OrderResponse placeOrder(
+            @Valid @RequestBody PlaceOrderRequest request,
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey
+    ) {
+        return orderService.placeOrder(request, idempotencyKey);
     }
 
     @GetMapping
@@ -35,6 +42,20 @@ public class OrderController {
         return orderService.listOrders(sessionId);
     }
 
+    @GetMapping("/page")
+    public CursorPage<?> listOrderPage(
+            @RequestParam String sessionId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "full") String view
+    ) {
+        return switch (view) {
+            case "full" -> orderService.listOrderPage(sessionId, cursor, limit);
+            case "summary" -> orderService.listOrderSummaries(sessionId, cursor, limit);
+            default -> throw new IllegalArgumentException("view must be full or summary");
+        };
+    }
+
     @GetMapping("/track/{orderId}")
     public OrderTrackResponse trackOrder(@PathVariable String orderId, @RequestParam String sessionId) {
         return orderService.trackOrder(sessionId, orderId);
@@ -0,0 +1,56 @@
+package com.ecommerce.backend.shop.order;
+
+import com.ecommerce.backend.config.ShopProperties;
+import java.security.SecureRandom;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderIdGenerator {
+    private static final String PREFIX = "ORD";
+    private static final char[] CROCKFORD_BASE32 = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final long EPOCH_MILLIS = 1_704_067_200_000L;
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE = (1L << NODE_BITS) - 1;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    private static final int ENCODED_LENGTH = 13;
+
+    private final long nodeId;
+    private long lastTimestamp = -1;
+    private long sequence;
+
+    public OrderIdGenerator(ShopProperties shopProperties) {
+        Integer configured = shopProperties.getCheckout().getNodeId();
+        this.nodeId = configured != null ? configured & MAX_NODE : new SecureRandom().nextInt((int) MAX_NODE + 1);
+    }
+
+    public String nextId() {
+        return nextId(System.currentTimeMillis());
+    }
+
+    synchronized String nextId(long nowMillis) {
+        long timestamp = Math.max(nowMillis - EPOCH_MILLIS, lastTimestamp);
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            if (sequence == 0) {
+                // Sequence exhausted for this millisecond: borrow the next one so ids stay strictly increasing.
+                timestamp++;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastTimestamp = timestamp;
+
+        long value = (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+        return PREFIX + encode(value);
+    }
+
+    private static String encode(long value) {
+        char[] encoded = new char[ENCODED_LENGTH];
+        for (int index = ENCODED_LENGTH - 1; index >= 0; index--) {
+            encoded[index] = CROCKFORD_BASE32[(int) (value & 31)];
+            value >>>= 5;
+        }
+        return new String(encoded);
+    }
+}
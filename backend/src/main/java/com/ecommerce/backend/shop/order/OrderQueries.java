@@ -0,0 +1,29 @@
+package com.ecommerce.backend.shop.order;
+
+import java.time.Instant;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+final class OrderQueries {
+
+    private OrderQueries() {
+    }
+
+    static Query page(String sessionId, Instant beforeCreatedAt, String beforeId, int limit, boolean withItems) {
+        Query query = Query.query(Criteria.where("sessionId").is(sessionId));
+        if (beforeCreatedAt != null) {
+            query.addCriteria(new Criteria().orOperator(
+                    Criteria.where("createdAt").lt(beforeCreatedAt),
+                    Criteria.where("createdAt").is(beforeCreatedAt).and("_id").lt(beforeId)
+            ));
+        }
+        if (!withItems) {
+            query.fields().include("_id", "total", "paymentMethod", "status", "createdAt");
+        }
+
+        query.with(Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("_id")));
+        query.limit(limit);
+        return query;
+    }
+}
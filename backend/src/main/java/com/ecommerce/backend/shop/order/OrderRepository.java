@@ -4,8 +4,10 @@ import java.util.List;
 import java.util.Optional;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
-public interface OrderRepository extends MongoRepository<Order, String> {
+public interface OrderRepository extends MongoRepository<Order, String>, OrderRepositoryCustom {
     List<Order> findBySessionIdOrderByCreatedAtDesc(String sessionId);
 
     Optional<Order> findByIdAndSessionId(String id, String sessionId);
+
+    Optional<Order> findBySessionIdAndIdempotencyKey(String sessionId, String idempotencyKey);
 }
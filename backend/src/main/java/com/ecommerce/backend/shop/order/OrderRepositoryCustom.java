@@ -0,0 +1,8 @@
+package com.ecommerce.backend.shop.order;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface OrderRepositoryCustom {
+    List<Order> findPage(String sessionId, Instant beforeCreatedAt, String beforeId, int limit, boolean withItems);
+}
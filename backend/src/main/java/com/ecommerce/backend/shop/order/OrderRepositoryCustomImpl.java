@@ -0,0 +1,18 @@
+package com.ecommerce.backend.shop.order;
+
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    OrderRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public List<Order> findPage(String sessionId, Instant beforeCreatedAt, String beforeId, int limit, boolean withItems) {
+        return mongoTemplate.find(OrderQueries.page(sessionId, beforeCreatedAt, beforeId, limit, withItems), Order.class);
+    }
+}
@@ -2,35 +2,87 @@ package com.ecommerce.backend.shop.order;
 
 import com.ecommerce.backend.shop.cart.CartItem;
 import com.ecommerce.backend.shop.cart.CartService;
+import com.ecommerce.backend.shop.dto.CursorPage;
 import com.ecommerce.backend.shop.order.dto.OrderItemResponse;
 import com.ecommerce.backend.shop.order.dto.OrderResponse;
+import com.ecommerce.backend.shop.order.dto.OrderSummaryResponse;
 import com.ecommerce.backend.shop.order.dto.OrderTrackResponse;
 import com.ecommerce.backend.shop.order.dto.PlaceOrderRequest;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.List;
 import java.util.Locale;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 public class OrderService {
     private final OrderRepository orderRepository;
     private final CartService cartService;
-
-    public OrderService(OrderRepository orderRepository, CartService cartService) {
+    private final OrderIdGenerator orderIdGenerator;
+    private final ObjectProvider<TransactionTemplate> transactionTemplate;
+
+    public OrderService(
+            OrderRepository orderRepository,
+            CartService cartService,
+            OrderIdGenerator orderIdGenerator,
+            ObjectProvider<TransactionTemplate> transactionTemplate
+    ) {
         this.orderRepository = orderRepository;
         this.cartService = cartService;
+        this.orderIdGenerator = orderIdGenerator;
+        this.transactionTemplate = transactionTemplate;
     }
 
-    public OrderResponse placeOrder(PlaceOrderRequest request) {
+    public OrderResponse placeOrder(PlaceOrderRequest request, String idempotencyKey) {
         String sessionId = requireSessionId(request.sessionId());
         String paymentMethod = requirePaymentMethod(request.paymentMethod());
+        String key = idempotencyKey == null || idempotencyKey.isBlank() ? null : idempotencyKey.trim();
+
+        if (key != null) {
+            Order existing = orderRepository.findBySessionIdAndIdempotencyKey(sessionId, key).orElse(null);
+            if (existing != null) {
+                return toResponse(existing);
+            }
+        }
+
+        try {
+            return toResponse(inTransaction(() -> checkout(sessionId, paymentMethod, key)));
+        } catch (DuplicateKeyException ex) {
+            if (key == null) {
+                throw ex;
+            }
+            // A concurrent retry with the same key won the insert; answer with its order.
+            return orderRepository.findBySessionIdAndIdempotencyKey(sessionId, key)
+                    .map(OrderService::toResponse)
+                    .orElseThrow(() -> ex);
+        }
+    }
 
+    private Order checkout(String sessionId, String paymentMethod, String idempotencyKey) {
         List<CartItem> cartItems = cartService.getSessionItems(sessionId);
         if (cartItems.isEmpty()) {
+            // The first attempt with this key may have committed, and cleared the cart, after our lookup.
+            Order placed = idempotencyKey == null
+                    ? null
+                    : orderRepository.findBySessionIdAndIdempotencyKey(sessionId, idempotencyKey).orElse(null);
+            if (placed != null) {
+                return placed;
+            }
             throw new IllegalArgumentException("Cart is empty.");
         }
 
+        Order savedOrder = orderRepository.insert(newOrder(orderIdGenerator.nextId(), sessionId, paymentMethod, idempotencyKey, cartItems));
+        cartService.clearSessionItems(sessionId);
+        return savedOrder;
+    }
+
+    static Order newOrder(String orderId, String sessionId, String paymentMethod, String idempotencyKey, List<CartItem> cartItems) {
         List<Order.LineItem> orderItems = cartItems.stream()
                 .map(item -> new Order.LineItem(item.getProductId(), item.getName(), item.getPrice(), item.getQty()))
                 .collect(Collectors.toList());
@@ -39,7 +91,6 @@ public class OrderService {
                 .mapToInt(item -> item.getPrice() * item.getQty())
                 .sum();
 
-        String orderId = "ORD" + String.valueOf(System.currentTimeMillis()).substring(6);
         Order order = new Order(
                 orderId,
                 sessionId,
@@ -49,53 +100,123 @@ public class OrderService {
                 "Order Confirmed",
                 Instant.now()
         );
+        order.setIdempotencyKey(idempotencyKey);
+        return order;
+    }
 
-        Order savedOrder = orderRepository.save(order);
-        cartService.clearSessionItems(sessionId);
-        return toResponse(savedOrder);
+    private <T> T inTransaction(Supplier<T> work) {
+        TransactionTemplate template = transactionTemplate.getIfAvailable();
+        if (template == null) {
+            return work.get();
+        }
+        return template.execute(status -> work.get());
     }
 
     public List<OrderResponse> listOrders(String sessionId) {
         return orderRepository.findBySessionIdOrderByCreatedAtDesc(requireSessionId(sessionId)).stream()
-                .map(this::toResponse)
+                .map(OrderService::toResponse)
                 .collect(Collectors.toList());
     }
 
+    public CursorPage<OrderResponse> listOrderPage(String sessionId, String cursor, Integer limit) {
+        int pageSize = CursorPage.resolveLimit(limit);
+        return CursorPage.of(findOrderPage(sessionId, cursor, pageSize, true), pageSize, OrderService::encodeCursor, OrderService::toResponse);
+    }
+
+    public CursorPage<OrderSummaryResponse> listOrderSummaries(String sessionId, String cursor, Integer limit) {
+        int pageSize = CursorPage.resolveLimit(limit);
+        return CursorPage.of(findOrderPage(sessionId, cursor, pageSize, false), pageSize, OrderService::encodeCursor, OrderService::toSummary);
+    }
+
+    private List<Order> findOrderPage(String sessionId, String cursor, int pageSize, boolean withItems) {
+        String normalizedSessionId = requireSessionId(sessionId);
+        OrderCursor after = decodeCursor(cursor);
+        if (after == null) {
+            return orderRepository.findPage(normalizedSessionId, null, null, pageSize + 1, withItems);
+        }
+        return orderRepository.findPage(normalizedSessionId, after.createdAt(), after.id(), pageSize + 1, withItems);
+    }
+
+    static OrderCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("cursor is invalid");
+        }
+        int separator = decoded.indexOf('|');
+        if (separator <= 0 || separator == decoded.length() - 1) {
+            throw new IllegalArgumentException("cursor is invalid");
+        }
+        Instant createdAt;
+        try {
+            createdAt = Instant.ofEpochMilli(Long.parseLong(decoded.substring(0, separator)));
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("cursor is invalid");
+        }
+        return new OrderCursor(createdAt, decoded.substring(separator + 1));
+    }
+
+    static String encodeCursor(Order order) {
+        String raw = order.getCreatedAt().toEpochMilli() + "|" + order.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
     public OrderTrackResponse trackOrder(String sessionId, String orderId) {
         String normalizedSessionId = requireSessionId(sessionId);
+        String normalizedOrderId = requireOrderId(orderId);
+
+        return orderRepository.findByIdAndSessionId(normalizedOrderId, normalizedSessionId)
+                .map(OrderService::toTrackResponse)
+                .orElseGet(() -> notFound(normalizedOrderId));
+    }
+
+    static String requireOrderId(String orderId) {
         if (orderId == null || orderId.isBlank()) {
             throw new IllegalArgumentException("orderId is required");
         }
-        String normalizedOrderId = orderId.trim().toUpperCase(Locale.ROOT);
+        return orderId.trim().toUpperCase(Locale.ROOT);
+    }
 
-        return orderRepository.findByIdAndSessionId(normalizedOrderId, normalizedSessionId)
-                .map(order -> new OrderTrackResponse(
-                        order.getId(),
-                        order.getStatus(),
-                        "Order " + order.getId() + ": " + order.getStatus() + " and currently in transit."
-                ))
-                .orElseGet(() -> new OrderTrackResponse(
-                        normalizedOrderId,
-                        "NOT_FOUND",
-                        "Order not found. Please check order ID from your recent orders."
-                ));
-    }
-
-    private static String requireSessionId(String sessionId) {
+    static OrderTrackResponse toTrackResponse(Order order) {
+        return new OrderTrackResponse(
+                order.getId(),
+                order.getStatus(),
+                "Order " + order.getId() + ": " + order.getStatus() + " and currently in transit."
+        );
+    }
+
+    static OrderTrackResponse notFound(String orderId) {
+        return new OrderTrackResponse(
+                orderId,
+                "NOT_FOUND",
+                "Order not found. Please check order ID from your recent orders."
+        );
+    }
+
+    static String requireSessionId(String sessionId) {
         if (sessionId == null || sessionId.isBlank()) {
             throw new IllegalArgumentException("sessionId is required");
         }
         return sessionId.trim();
     }
 
-    private static String requirePaymentMethod(String paymentMethod) {
+    static String requirePaymentMethod(String paymentMethod) {
         if (paymentMethod == null || paymentMethod.isBlank()) {
             throw new IllegalArgumentException("paymentMethod is required");
         }
         return paymentMethod.trim();
     }
 
-    private OrderResponse toResponse(Order order) {
+    static OrderSummaryResponse toSummary(Order order) {
+        return new OrderSummaryResponse(order.getId(), order.getTotal(), order.getPaymentMethod(), order.getStatus(), order.getCreatedAt());
+    }
+
+    static OrderResponse toResponse(Order order) {
         List<OrderItemResponse> items = order.getItems().stream()
                 .map(item -> new OrderItemResponse(item.getId(), item.getName(), item.getPrice(), item.getQty()))
                 .collect(Collectors.toList());
@@ -109,4 +230,7 @@ public class OrderService {
                 order.getCreatedAt()
         );
     }
+
+    record OrderCursor(Instant createdAt, String id) {
+    }
 }
@@ -0,0 +1,64 @@
+package com.ecommerce.backend.shop.order;
+
+import com.ecommerce.backend.shop.dto.CursorPage;
+import com.ecommerce.backend.shop.order.dto.OrderResponse;
+import com.ecommerce.backend.shop.order.dto.OrderTrackResponse;
+import com.ecommerce.backend.shop.order.dto.PlaceOrderRequest;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/orders")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveOrderController {
+    private final ReactiveOrderService orderService;
+
+    public ReactiveOrderController(ReactiveOrderService orderService) {
+        this.orderService = orderService;
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<OrderResponse> placeOrder(
+            @Valid @RequestBody PlaceOrderRequest request,
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey
+    ) {
+        return orderService.placeOrder(request, idempotencyKey);
+    }
+
+    @GetMapping
+    public Flux<OrderResponse> listOrders(@RequestParam String sessionId) {
+        return orderService.listOrders(sessionId);
+    }
+
+    @GetMapping("/page")
+    public Mono<? extends CursorPage<?>> listOrderPage(
+            @RequestParam String sessionId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "full") String view
+    ) {
+        return switch (view) {
+            case "full" -> orderService.listOrderPage(sessionId, cursor, limit);
+            case "summary" -> orderService.listOrderSummaries(sessionId, cursor, limit);
+            default -> throw new IllegalArgumentException("view must be full or summary");
+        };
+    }
+
+    @GetMapping("/track/{orderId}")
+    public Mono<OrderTrackResponse> trackOrder(@PathVariable String orderId, @RequestParam String sessionId) {
+        return orderService.trackOrder(sessionId, orderId);
+    }
+}
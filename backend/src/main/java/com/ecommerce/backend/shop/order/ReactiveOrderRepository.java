@@ -0,0 +1,13 @@
+package com.ecommerce.backend.shop.order;
+
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveOrderRepository extends ReactiveMongoRepository<Order, String>, ReactiveOrderRepositoryCustom {
+    Flux<Order> findBySessionIdOrderByCreatedAtDesc(String sessionId);
+
+    Mono<Order> findByIdAndSessionId(String id, String sessionId);
+
+    Mono<Order> findBySessionIdAndIdempotencyKey(String sessionId, String idempotencyKey);
+}
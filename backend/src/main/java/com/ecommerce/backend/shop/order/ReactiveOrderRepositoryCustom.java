@@ -0,0 +1,8 @@
+package com.ecommerce.backend.shop.order;
+
+import java.time.Instant;
+import reactor.core.publisher.Flux;
+
+public interface ReactiveOrderRepositoryCustom {
+    Flux<Order> findPage(String sessionId, Instant beforeCreatedAt, String beforeId, int limit, boolean withItems);
+}
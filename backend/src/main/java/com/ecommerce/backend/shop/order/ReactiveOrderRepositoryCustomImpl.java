@@ -0,0 +1,18 @@
+package com.ecommerce.backend.shop.order;
+
+import java.time.Instant;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Flux;
+
+class ReactiveOrderRepositoryCustomImpl implements ReactiveOrderRepositoryCustom {
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    ReactiveOrderRepositoryCustomImpl(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Flux<Order> findPage(String sessionId, Instant beforeCreatedAt, String beforeId, int limit, boolean withItems) {
+        return mongoTemplate.find(OrderQueries.page(sessionId, beforeCreatedAt, beforeId, limit, withItems), Order.class);
+    }
+}
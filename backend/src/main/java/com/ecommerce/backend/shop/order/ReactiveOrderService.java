@@ -0,0 +1,112 @@
+package com.ecommerce.backend.shop.order;
+
+import com.ecommerce.backend.shop.cart.ReactiveCartService;
+import com.ecommerce.backend.shop.dto.CursorPage;
+import com.ecommerce.backend.shop.order.dto.OrderResponse;
+import com.ecommerce.backend.shop.order.dto.OrderSummaryResponse;
+import com.ecommerce.backend.shop.order.dto.OrderTrackResponse;
+import com.ecommerce.backend.shop.order.dto.PlaceOrderRequest;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveOrderService {
+    private final ReactiveOrderRepository orderRepository;
+    private final ReactiveCartService cartService;
+    private final OrderIdGenerator orderIdGenerator;
+    private final ObjectProvider<TransactionalOperator> transactionalOperator;
+
+    public ReactiveOrderService(
+            ReactiveOrderRepository orderRepository,
+            ReactiveCartService cartService,
+            OrderIdGenerator orderIdGenerator,
+            ObjectProvider<TransactionalOperator> transactionalOperator
+    ) {
+        this.orderRepository = orderRepository;
+        this.cartService = cartService;
+        this.orderIdGenerator = orderIdGenerator;
+        this.transactionalOperator = transactionalOperator;
+    }
+
+    public Mono<OrderResponse> placeOrder(PlaceOrderRequest request, String idempotencyKey) {
+        return Mono.defer(() -> {
+            String sessionId = OrderService.requireSessionId(request.sessionId());
+            String paymentMethod = OrderService.requirePaymentMethod(request.paymentMethod());
+            String key = idempotencyKey == null || idempotencyKey.isBlank() ? null : idempotencyKey.trim();
+
+            Mono<Order> existing = key == null ? Mono.empty() : orderRepository.findBySessionIdAndIdempotencyKey(sessionId, key);
+            Mono<Order> placed = inTransaction(checkout(sessionId, paymentMethod, key))
+                    .onErrorResume(DuplicateKeyException.class, ex -> key == null
+                            ? Mono.error(ex)
+                            // A concurrent retry with the same key won the insert; answer with its order.
+                            : orderRepository.findBySessionIdAndIdempotencyKey(sessionId, key).switchIfEmpty(Mono.error(ex)));
+            return existing.switchIfEmpty(placed).map(OrderService::toResponse);
+        });
+    }
+
+    private Mono<Order> checkout(String sessionId, String paymentMethod, String idempotencyKey) {
+        return cartService.getSessionItems(sessionId).collectList().flatMap(cartItems -> {
+            if (cartItems.isEmpty()) {
+                // The first attempt with this key may have committed, and cleared the cart, after our lookup.
+                Mono<Order> placed = idempotencyKey == null
+                        ? Mono.empty()
+                        : orderRepository.findBySessionIdAndIdempotencyKey(sessionId, idempotencyKey);
+                return placed.switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Cart is empty.")));
+            }
+            Order order = OrderService.newOrder(orderIdGenerator.nextId(), sessionId, paymentMethod, idempotencyKey, cartItems);
+            return orderRepository.insert(order).flatMap(saved -> cartService.clearSessionItems(sessionId).thenReturn(saved));
+        });
+    }
+
+    private <T> Mono<T> inTransaction(Mono<T> work) {
+        TransactionalOperator operator = transactionalOperator.getIfAvailable();
+        return operator == null ? work : operator.transactional(work);
+    }
+
+    public Flux<OrderResponse> listOrders(String sessionId) {
+        return Flux.defer(() -> orderRepository.findBySessionIdOrderByCreatedAtDesc(OrderService.requireSessionId(sessionId)))
+                .map(OrderService::toResponse);
+    }
+
+    public Mono<CursorPage<OrderResponse>> listOrderPage(String sessionId, String cursor, Integer limit) {
+        return Mono.defer(() -> {
+            int pageSize = CursorPage.resolveLimit(limit);
+            return findOrderPage(sessionId, cursor, pageSize, true)
+                    .map(orders -> CursorPage.of(orders, pageSize, OrderService::encodeCursor, OrderService::toResponse));
+        });
+    }
+
+    public Mono<CursorPage<OrderSummaryResponse>> listOrderSummaries(String sessionId, String cursor, Integer limit) {
+        return Mono.defer(() -> {
+            int pageSize = CursorPage.resolveLimit(limit);
+            return findOrderPage(sessionId, cursor, pageSize, false)
+                    .map(orders -> CursorPage.of(orders, pageSize, OrderService::encodeCursor, OrderService::toSummary));
+        });
+    }
+
+    private Mono<List<Order>> findOrderPage(String sessionId, String cursor, int pageSize, boolean withItems) {
+        String normalizedSessionId = OrderService.requireSessionId(sessionId);
+        OrderService.OrderCursor after = OrderService.decodeCursor(cursor);
+        Flux<Order> page = after == null
+                ? orderRepository.findPage(normalizedSessionId, null, null, pageSize + 1, withItems)
+                : orderRepository.findPage(normalizedSessionId, after.createdAt(), after.id(), pageSize + 1, withItems);
+        return page.collectList();
+    }
+
+    public Mono<OrderTrackResponse> trackOrder(String sessionId, String orderId) {
+        return Mono.defer(() -> {
+            String normalizedSessionId = OrderService.requireSessionId(sessionId);
+            String normalizedOrderId = OrderService.requireOrderId(orderId);
+            return orderRepository.findByIdAndSessionId(normalizedOrderId, normalizedSessionId)
+                    .map(OrderService::toTrackResponse)
+                    .defaultIfEmpty(OrderService.notFound(normalizedOrderId));
+        });
+    }
+}
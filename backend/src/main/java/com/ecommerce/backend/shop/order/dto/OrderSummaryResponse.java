@@ -0,0 +1,12 @@
+package com.ecommerce.backend.shop.order.dto;
+
+import java.time.Instant;
+
+public record OrderSummaryResponse(
+        String id,
+        int total,
+        String paymentMethod,
+        String status,
+        Instant createdAt
+) {
+}
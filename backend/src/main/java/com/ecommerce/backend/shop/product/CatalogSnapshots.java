@@ -0,0 +1,217 @@
+package com.ecommerce.backend.shop.product;
+
+import com.ecommerce.backend.shop.product.search.SearchIndexUpdatedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Serialized {@code GET /api/products} bodies for the unfiltered catalog and each known category, built once per
+ * catalog version. Any product write starts a new version; snapshots are then rebuilt on first use.
+ */
+@Component
+public class CatalogSnapshots {
+    private static final Logger log = LoggerFactory.getLogger(CatalogSnapshots.class);
+    private static final String ALL = "";
+
+    private final ProductService productService;
+    private final CategoryDictionary categoryDictionary;
+    private final ObjectMapper objectMapper;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final AtomicLong versions = new AtomicLong(1);
+    private volatile Generation generation = new Generation(versions.get());
+
+    public CatalogSnapshots(ProductService productService, CategoryDictionary categoryDictionary, ObjectMapper objectMapper) {
+        this.productService = productService;
+        this.categoryDictionary = categoryDictionary;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        try {
+            snapshot(null);
+            for (int code = 0; code < categoryDictionary.size(); code++) {
+                snapshot(categoryDictionary.nameOf(code));
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Could not pre-build catalog snapshots: {}", ex.getMessage());
+        }
+    }
+
+    // Bumped only after the index applied the change, so a new version is never built from the old catalog.
+    @EventListener
+    public void onSearchIndexUpdated(SearchIndexUpdatedEvent event) {
+        generation = new Generation(versions.incrementAndGet());
+    }
+
+    public boolean covers(String search, String category) {
+        if (!ProductService.normalize(search).isBlank()) {
+            return false;
+        }
+        String resolvedCategory = productService.resolveCategory(category);
+        return resolvedCategory == null || categoryDictionary.codeOf(resolvedCategory) != CategoryDictionary.UNKNOWN;
+    }
+
+    public Snapshot snapshot(String category) {
+        String resolvedCategory = productService.resolveCategory(category);
+        Generation current = generation;
+        String key = resolvedCategory == null ? ALL : resolvedCategory;
+        CompletableFuture<Snapshot> pending = new CompletableFuture<>();
+        CompletableFuture<Snapshot> entry = current.snapshots.putIfAbsent(key, pending);
+        if (entry != null) {
+            hits.increment();
+            return await(entry);
+        }
+
+        misses.increment();
+        try {
+            pending.complete(Snapshot.of(current.version, serialize(resolvedCategory)));
+        } catch (Throwable ex) {
+            current.snapshots.remove(key, pending);
+            pending.completeExceptionally(ex);
+            throw ex;
+        }
+        return pending.join();
+    }
+
+    public Stats stats() {
+        Generation current = generation;
+        return new Stats(hits.sum(), misses.sum(), current.version);
+    }
+
+    private byte[] serialize(String resolvedCategory) {
+        try {
+            return objectMapper.writeValueAsBytes(productService.listProducts("", resolvedCategory));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize the catalog.", ex);
+        }
+    }
+
+    private static Snapshot await(CompletableFuture<Snapshot> entry) {
+        try {
+            return entry.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private static final class Generation {
+        private final long version;
+        private final Map<String, CompletableFuture<Snapshot>> snapshots = new ConcurrentHashMap<>();
+
+        private Generation(long version) {
+            this.version = version;
+        }
+    }
+
+    public record Snapshot(long version, String etag, byte[] json, byte[] gzip) {
+        private static final String GZIP = "gzip";
+
+        static Snapshot of(long version, byte[] json) {
+            return new Snapshot(version, "\"" + DigestUtils.md5DigestAsHex(json) + "\"", json, compress(json));
+        }
+
+        public ResponseEntity<byte[]> toResponse(String ifNoneMatch, String acceptEncoding) {
+            boolean gzipped = accepts(acceptEncoding, GZIP);
+            // Strong validators are per representation, so the gzip body gets its own tag; either revalidates.
+            String gzipEtag = etag.substring(0, etag.length() - 1) + "-" + GZIP + "\"";
+            boolean notModified = matches(ifNoneMatch, etag) || matches(ifNoneMatch, gzipEtag);
+            ResponseEntity.BodyBuilder response = ResponseEntity.status(notModified ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+                    .eTag(gzipped ? gzipEtag : etag)
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING);
+            if (notModified) {
+                return response.build();
+            }
+            if (gzipped) {
+                return response.header(HttpHeaders.CONTENT_ENCODING, GZIP)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .contentLength(gzip.length)
+                        .body(gzip);
+            }
+            return response.contentType(MediaType.APPLICATION_JSON).contentLength(json.length).body(json);
+        }
+
+        private static boolean matches(String ifNoneMatch, String candidate) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+            for (String tag : ifNoneMatch.split(",")) {
+                String trimmed = tag.trim();
+                if (trimmed.startsWith("W/")) {
+                    trimmed = trimmed.substring(2);
+                }
+                if (trimmed.equals("*") || trimmed.equals(candidate)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean accepts(String acceptEncoding, String coding) {
+            if (acceptEncoding == null) {
+                return false;
+            }
+            for (String entry : acceptEncoding.split(",")) {
+                String[] parts = entry.trim().split(";");
+                if (!parts[0].trim().equalsIgnoreCase(coding)) {
+                    continue;
+                }
+                for (int i = 1; i < parts.length; i++) {
+                    String parameter = parts[i].trim();
+                    if (parameter.startsWith("q=") && isZero(parameter.substring(2))) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            return false;
+        }
+
+        private static boolean isZero(String quality) {
+            try {
+                return Double.parseDouble(quality) == 0;
+            } catch (NumberFormatException ex) {
+                return false;
+            }
+        }
+
+        private static byte[] compress(byte[] json) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+                gzip.write(json);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return buffer.toByteArray();
+        }
+    }
+
+    public record Stats(long hits, long misses, long version) {
+    }
+}
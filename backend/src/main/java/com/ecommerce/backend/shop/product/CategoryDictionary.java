@@ -0,0 +1,60 @@
+package com.ecommerce.backend.shop.product;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CategoryDictionary {
+    public static final List<String> DEFAULT_CATEGORIES = List.of("Electronics", "Fashion", "Home", "Beauty", "Books", "Sports");
+    public static final int UNKNOWN = -1;
+
+    private final Map<String, Integer> codesByKey = new ConcurrentHashMap<>();
+    private final List<String> names = new CopyOnWriteArrayList<>();
+
+    public CategoryDictionary() {
+        DEFAULT_CATEGORIES.forEach(this::register);
+    }
+
+    public int codeOf(String category) {
+        if (category == null) {
+            return UNKNOWN;
+        }
+        return codesByKey.getOrDefault(key(category), UNKNOWN);
+    }
+
+    public synchronized int register(String category) {
+        if (category == null || category.isBlank()) {
+            return UNKNOWN;
+        }
+        Integer existing = codesByKey.get(key(category));
+        if (existing != null) {
+            return existing;
+        }
+
+        int code = names.size();
+        names.add(category.trim());
+        codesByKey.put(key(category), code);
+        return code;
+    }
+
+    public String nameOf(int code) {
+        return code >= 0 && code < names.size() ? names.get(code) : null;
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    public String canonicalName(String category) {
+        String name = nameOf(codeOf(category));
+        return name != null ? name : category;
+    }
+
+    private static String key(String category) {
+        return category.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,9 +1,12 @@
 package com.ecommerce.backend.shop.product;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Document(collection = "products")
+@CompoundIndex(name = "category_id", def = "{'category': 1, '_id': 1}")
+@CompoundIndex(name = "category_rating_price", def = "{'category': 1, 'rating': -1, 'price': 1, '_id': 1}")
 public class Product {
     @Id
     private Integer id;
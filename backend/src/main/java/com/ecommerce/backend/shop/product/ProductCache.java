@@ -0,0 +1,82 @@
+package com.ecommerce.backend.shop.product;
+
+import com.ecommerce.backend.config.ShopProperties;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ProductCache {
+    private final ProductRepository productRepository;
+    private final AsyncCache<Integer, Product> cache;
+
+    public ProductCache(ProductRepository productRepository, ShopProperties shopProperties) {
+        this.productRepository = productRepository;
+        ShopProperties.ProductCache settings = shopProperties.getProductCache();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(settings.getMaximumSize())
+                .expireAfterWrite(settings.getTimeToLive())
+                .recordStats()
+                .buildAsync();
+    }
+
+    public Optional<Product> get(Integer id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        // Install a pending entry and load outside the map's compute, so concurrent readers of the same id wait on
+        // the future rather than on a bin lock held across a Mongo round trip (which would pin a virtual thread).
+        CompletableFuture<Product> pending = new CompletableFuture<>();
+        CompletableFuture<Product> entry = cache.get(id, (key, executor) -> pending);
+        if (entry == pending) {
+            try {
+                pending.complete(productRepository.findById(id).orElse(null));
+            } catch (Throwable ex) {
+                pending.completeExceptionally(ex);
+                throw ex;
+            }
+        }
+        return Optional.ofNullable(entry.join());
+    }
+
+    public Map<Integer, Product> getAll(Collection<Integer> ids) {
+        return cache.getAll(ids, (missing, executor) -> {
+            Map<Integer, Product> loaded = new HashMap<>();
+            productRepository.findAllById(List.copyOf(missing)).forEach(product -> loaded.put(product.getId(), product));
+            return CompletableFuture.completedFuture(loaded);
+        }).join();
+    }
+
+    public void invalidate(Integer id) {
+        cache.synchronous().invalidate(id);
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.affectsWholeCatalog()) {
+            invalidateAll();
+        } else {
+            invalidate(event.productId());
+        }
+    }
+
+    public Stats stats() {
+        CacheStats stats = cache.synchronous().stats();
+        return new Stats(stats.hitCount(), stats.missCount(), stats.evictionCount(), cache.synchronous().estimatedSize());
+    }
+
+    public record Stats(long hits, long misses, long evictions, long size) {
+    }
+}
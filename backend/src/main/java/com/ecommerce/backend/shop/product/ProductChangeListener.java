@@ -0,0 +1,29 @@
+package com.ecommerce.backend.shop.product;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ProductChangeListener extends AbstractMongoEventListener<Product> {
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ProductChangeListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<Product> event) {
+        eventPublisher.publishEvent(ProductChangedEvent.saved(event.getSource()));
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<Product> event) {
+        Object id = event.getSource().get("_id");
+        eventPublisher.publishEvent(id instanceof Integer productId
+                ? ProductChangedEvent.deleted(productId)
+                : ProductChangedEvent.catalogReloaded());
+    }
+}
@@ -0,0 +1,24 @@
+package com.ecommerce.backend.shop.product;
+
+public record ProductChangedEvent(Integer productId, Product product) {
+
+    public static ProductChangedEvent saved(Product product) {
+        return new ProductChangedEvent(product.getId(), product);
+    }
+
+    public static ProductChangedEvent deleted(Integer productId) {
+        return new ProductChangedEvent(productId, null);
+    }
+
+    public static ProductChangedEvent catalogReloaded() {
+        return new ProductChangedEvent(null, null);
+    }
+
+    public boolean affectsWholeCatalog() {
+        return productId == null;
+    }
+
+    public boolean isDeletion() {
+        return productId != null && product == null;
+    }
+}
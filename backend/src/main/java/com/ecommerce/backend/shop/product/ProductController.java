@@ -1,25 +1,47 @@
 package com.ecommerce.backend.shop.product;
 
-import java.util.List;
+import com.ecommerce.backend.shop.product.dto.ProductPageResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping("/api/products")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ProductController {
     private final ProductService productService;
+    private final CatalogSnapshots catalogSnapshots;
 
-    public ProductController(ProductService productService) {
+    public ProductController(ProductService productService, CatalogSnapshots catalogSnapshots) {
         this.productService = productService;
+        this.catalogSnapshots = catalogSnapshots;
     }
 
     @GetMapping
-    public List<Product> listProducts(
+    public ResponseEntity<?> listProducts(
             @RequestParam(defaultValue = "") String search,
-            @RequestParam(defaultValue = "All") String category
+            @RequestParam(defaultValue = "All") String category,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
     ) {
-        return productService.listProducts(search, category);
+        if (catalogSnapshots.covers(search, category)) {
+            return catalogSnapshots.snapshot(category).toResponse(ifNoneMatch, acceptEncoding);
+        }
+        return ResponseEntity.ok(productService.listProducts(search, category));
+    }
+
+    @GetMapping("/page")
+    public ProductPageResponse listProductPage(
+            @RequestParam(defaultValue = "") String search,
+            @RequestParam(defaultValue = "All") String category,
+            @RequestParam(required = false) Integer cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return productService.listProductPage(search, category, cursor, limit);
     }
 }
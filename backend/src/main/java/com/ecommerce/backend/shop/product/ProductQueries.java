@@ -0,0 +1,58 @@
+package com.ecommerce.backend.shop.product;
+
+import java.util.regex.Pattern;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+final class ProductQueries {
+
+    private ProductQueries() {
+    }
+
+    static Query matching(String category, String search, Integer afterId, int limit) {
+        Query query = new Query();
+        if (category != null && !category.isBlank()) {
+            query.addCriteria(Criteria.where("category").is(category));
+        }
+        if (afterId != null) {
+            query.addCriteria(Criteria.where("_id").gt(afterId));
+        }
+        if (search != null && !search.isBlank()) {
+            String pattern = Pattern.quote(search);
+            query.addCriteria(new Criteria().orOperator(
+                    Criteria.where("name").regex(pattern, "i"),
+                    Criteria.where("description").regex(pattern, "i")
+            ));
+        }
+
+        query.with(Sort.by(Sort.Direction.ASC, "_id"));
+        if (limit > 0) {
+            query.limit(limit);
+        }
+        return query;
+    }
+
+    static Query inPriceRange(String category, Integer minPrice, Integer maxPrice, int limit) {
+        Query query = new Query();
+        if (category != null && !category.isBlank()) {
+            query.addCriteria(Criteria.where("category").is(category));
+        }
+        if (minPrice != null || maxPrice != null) {
+            Criteria price = Criteria.where("price");
+            if (minPrice != null) {
+                price.gte(minPrice);
+            }
+            if (maxPrice != null) {
+                price.lte(maxPrice);
+            }
+            query.addCriteria(price);
+        }
+
+        query.with(Sort.by(Sort.Order.desc("rating"), Sort.Order.asc("price"), Sort.Order.asc("_id")));
+        if (limit > 0) {
+            query.limit(limit);
+        }
+        return query;
+    }
+}
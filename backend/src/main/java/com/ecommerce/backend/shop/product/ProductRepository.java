@@ -2,5 +2,5 @@ package com.ecommerce.backend.shop.product;
 
 import org.springframework.data.mongodb.repository.MongoRepository;
 
-public interface ProductRepository extends MongoRepository<Product, Integer> {
+public interface ProductRepository extends MongoRepository<Product, Integer>, ProductRepositoryCustom {
 }
@@ -0,0 +1,9 @@
+package com.ecommerce.backend.shop.product;
+
+import java.util.List;
+
+public interface ProductRepositoryCustom {
+    List<Product> findMatching(String category, String search, Integer afterId, int limit);
+
+    List<Product> findInPriceRange(String category, Integer minPrice, Integer maxPrice, int limit);
+}
@@ -0,0 +1,22 @@
+package com.ecommerce.backend.shop.product;
+
+import java.util.List;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    ProductRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public List<Product> findMatching(String category, String search, Integer afterId, int limit) {
+        return mongoTemplate.find(ProductQueries.matching(category, search, afterId, limit), Product.class);
+    }
+
+    @Override
+    public List<Product> findInPriceRange(String category, Integer minPrice, Integer maxPrice, int limit) {
+        return mongoTemplate.find(ProductQueries.inPriceRange(category, minPrice, maxPrice, limit), Product.class);
+    }
+}
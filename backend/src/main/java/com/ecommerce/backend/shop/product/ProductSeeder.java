@@ -1,42 +1,93 @@
 package com.ecommerce.backend.shop.product;
 
-import java.util.ArrayList;
-import java.util.List;
-import org.springframework.boot.CommandLineRunner;
+import com.ecommerce.backend.config.ShopProperties;
+import com.ecommerce.backend.shop.product.catalog.CatalogFormat;
+import com.ecommerce.backend.shop.product.catalog.CatalogImporter;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Component;
 
 @Component
-public class ProductSeeder implements CommandLineRunner {
-    private static final List<String> CATEGORIES = List.of("Electronics", "Fashion", "Home", "Beauty", "Books", "Sports");
+public class ProductSeeder {
+    private static final Logger log = LoggerFactory.getLogger(ProductSeeder.class);
+    private static final int SAMPLE_CATALOG_SIZE = 520;
+
     private final ProductRepository productRepository;
+    private final CategoryDictionary categoryDictionary;
+    private final CatalogImporter catalogImporter;
+    private final ResourceLoader resourceLoader;
+    private final ShopProperties.CatalogImport settings;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "catalog-import");
+        thread.setDaemon(true);
+        return thread;
+    });
 
-    public ProductSeeder(ProductRepository productRepository) {
+    public ProductSeeder(
+            ProductRepository productRepository,
+            CategoryDictionary categoryDictionary,
+            CatalogImporter catalogImporter,
+            ResourceLoader resourceLoader,
+            ShopProperties shopProperties
+    ) {
         this.productRepository = productRepository;
+        this.categoryDictionary = categoryDictionary;
+        this.catalogImporter = catalogImporter;
+        this.resourceLoader = resourceLoader;
+        this.settings = shopProperties.getCatalogImport();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        executor.execute(() -> {
+            try {
+                seed();
+            } catch (RuntimeException ex) {
+                log.error("Catalog import failed; it resumes from the last checkpoint on next start", ex);
+            }
+        });
     }
 
-    @Override
-    public void run(String... args) {
-        if (productRepository.count() > 0) {
+    public void seed() {
+        String source = settings.getSource();
+        if (source != null && !source.isBlank()) {
+            Resource resource = resourceLoader.getResource(source.trim());
+            CatalogFormat format = settings.getFormat() != null ? settings.getFormat() : CatalogFormat.fromFilename(resource.getFilename());
+            catalogImporter.importResource(resource, format);
             return;
         }
-
-        List<Product> products = new ArrayList<>();
-        for (int index = 0; index < 520; index++) {
-            int id = index + 1;
-            String category = CATEGORIES.get(index % CATEGORIES.size());
-            int price = 299 + (id % 18) * 175 + (id / 8) * 12;
-            double rating = Math.round((3 + (id % 3) + (id % 10) / 20.0) * 10.0) / 10.0;
-
-            products.add(new Product(
-                    id,
-                    category + " Product " + id,
-                    category,
-                    "Premium " + category.toLowerCase() + " item designed for daily use and value shopping.",
-                    price,
-                    rating
-            ));
+        if (settings.isSeedSampleCatalog() && productRepository.count() == 0) {
+            catalogImporter.importProducts("sample catalog", IntStream.rangeClosed(1, SAMPLE_CATALOG_SIZE)
+                    .mapToObj(this::sampleProduct)
+                    .iterator());
         }
+    }
+
+    private Product sampleProduct(int id) {
+        String category = categoryDictionary.nameOf((id - 1) % CategoryDictionary.DEFAULT_CATEGORIES.size());
+        int price = 299 + (id % 18) * 175 + (id / 8) * 12;
+        double rating = Math.round((3 + (id % 3) + (id % 10) / 20.0) * 10.0) / 10.0;
+
+        return new Product(
+                id,
+                category + " Product " + id,
+                category,
+                "Premium " + category.toLowerCase() + " item designed for daily use and value shopping.",
+                price,
+                rating
+        );
+    }
 
-        productRepository.saveAll(products);
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
     }
 }
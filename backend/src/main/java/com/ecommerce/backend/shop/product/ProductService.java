@@ -1,68 +1,216 @@
 package com.ecommerce.backend.shop.product;
 
-import java.util.Comparator;
+import com.ecommerce.backend.shop.product.dto.ProductPageResponse;
+import com.ecommerce.backend.shop.product.embedding.ProductVectorIndex;
+import com.ecommerce.backend.shop.product.search.ProductSearchIndex;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
-import java.util.stream.Collectors;
-import org.springframework.data.domain.Sort;
+import java.util.Map;
+import java.util.function.IntPredicate;
 import org.springframework.stereotype.Service;
 
 @Service
 public class ProductService {
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final ProductRepository productRepository;
+    private final ProductSearchIndex searchIndex;
+    private final ProductCache productCache;
+    private final CategoryDictionary categoryDictionary;
+    private final ShoppingQueryParser shoppingQueryParser;
+    private final ProductVectorIndex vectorIndex;
 
-    public ProductService(ProductRepository productRepository) {
+    public ProductService(
+            ProductRepository productRepository,
+            ProductSearchIndex searchIndex,
+            ProductCache productCache,
+            CategoryDictionary categoryDictionary,
+            ShoppingQueryParser shoppingQueryParser,
+            ProductVectorIndex vectorIndex
+    ) {
         this.productRepository = productRepository;
+        this.searchIndex = searchIndex;
+        this.productCache = productCache;
+        this.categoryDictionary = categoryDictionary;
+        this.shoppingQueryParser = shoppingQueryParser;
+        this.vectorIndex = vectorIndex;
     }
 
     public List<Product> listProducts(String search, String category) {
+        String resolvedCategory = resolveCategory(category);
+        String normalizedSearch = normalize(search);
+        if (!normalizedSearch.isBlank() && searchIndex.isReady()) {
+            return indexedSearch(normalizedSearch, resolvedCategory);
+        }
+        return productRepository.findMatching(resolvedCategory, normalizedSearch, null, 0);
+    }
+
+    public ProductPageResponse listProductPage(String search, String category, Integer cursor, Integer limit) {
+        int pageSize = resolvePageSize(limit);
+        String resolvedCategory = resolveCategory(category);
         String normalizedSearch = normalize(search);
-        String normalizedCategory = normalize(category);
+        List<Product> matched;
+        Map<String, Integer> facets;
+        if (!searchIndex.isReady()) {
+            matched = productRepository.findMatching(resolvedCategory, normalizedSearch, cursor, pageSize + 1);
+            facets = Map.of();
+        } else if (normalizedSearch.isBlank()) {
+            matched = productRepository.findMatching(resolvedCategory, normalizedSearch, cursor, pageSize + 1);
+            facets = searchIndex.facetCounts(null);
+        } else {
+            int[] ids = searchIndex.matchIds(normalizedSearch);
+            matched = indexedPage(ids, resolvedCategory, cursor, pageSize + 1);
+            facets = searchIndex.facetCounts(ids);
+        }
+
+        return toPage(matched, pageSize, facets);
+    }
+
+    static ProductPageResponse toPage(List<Product> matched, int pageSize, Map<String, Integer> facets) {
+        if (matched.size() <= pageSize) {
+            return new ProductPageResponse(matched, null, facets);
+        }
 
-        return productRepository.findAll(Sort.by(Sort.Direction.ASC, "id")).stream()
-                .filter(product -> matchesCategory(product, normalizedCategory))
-                .filter(product -> matchesSearch(product, normalizedSearch))
-                .collect(Collectors.toList());
+        List<Product> page = matched.subList(0, pageSize);
+        return new ProductPageResponse(List.copyOf(page), page.get(pageSize - 1).getId(), facets);
     }
 
     public Product getById(Integer id) {
-        return productRepository.findById(id)
+        return productCache.get(id)
                 .orElseThrow(() -> new IllegalArgumentException("Product not found: " + id));
     }
 
+    public Map<Integer, Product> getByIds(Collection<Integer> ids) {
+        return productCache.getAll(ids);
+    }
+
+    public Map<Integer, Product> getExistingByIds(Collection<Integer> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<Integer, Product> products = getByIds(ids);
+        for (Integer id : ids) {
+            if (products.get(id) == null) {
+                throw new IllegalArgumentException("Product not found: " + id);
+            }
+        }
+        return products;
+    }
+
     public List<Product> recommendProducts(String userMessage, int limit) {
         int safeLimit = Math.max(1, limit);
-        List<Product> matched = listProducts(userMessage, "All");
-        if (!matched.isEmpty()) {
-            return matched.stream()
-                    .limit(safeLimit)
-                    .collect(Collectors.toList());
+        ShoppingQuery query = shoppingQueryParser.parse(userMessage);
+        if (!searchIndex.isReady()) {
+            return productRepository.findInPriceRange(query.category(), query.minPrice(), query.maxPrice(), safeLimit);
+        }
+
+        IntPredicate categoryFilter = categoryFilter(query.category());
+        IntPredicate inBudget = id -> {
+            Product product = searchIndex.getProduct(id);
+            return product != null && query.matchesPrice(product.getPrice());
+        };
+        IntPredicate filter = categoryFilter == null ? inBudget : categoryFilter.and(inBudget);
+        List<Product> matched = vectorIndex.isReady()
+                ? indexedProducts(vectorIndex.search(query.text(), filter, safeLimit))
+                : searchIndex.searchAny(query.text(), filter, safeLimit);
+        if (matched.size() >= safeLimit) {
+            return matched;
+        }
+
+        Map<Integer, Product> merged = new LinkedHashMap<>();
+        matched.forEach(product -> merged.put(product.getId(), product));
+        for (Product product : topRated(query.category(), query.minPrice(), query.maxPrice(), safeLimit)) {
+            if (merged.size() >= safeLimit) {
+                break;
+            }
+            merged.putIfAbsent(product.getId(), product);
+        }
+        return List.copyOf(merged.values());
+    }
+
+    public List<Product> findInPriceRange(String category, Integer minPrice, Integer maxPrice, int limit) {
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            throw new IllegalArgumentException("minPrice must not exceed maxPrice");
+        }
+        String resolvedCategory = resolveCategory(category);
+        if (searchIndex.isReady()) {
+            return topRated(resolvedCategory, minPrice, maxPrice, Math.max(1, limit));
         }
+        return productRepository.findInPriceRange(resolvedCategory, minPrice, maxPrice, Math.max(1, limit));
+    }
 
-        return productRepository.findAll().stream()
-                .sorted(Comparator.comparingInt(Product::getPrice))
-                .limit(safeLimit)
-                .collect(Collectors.toList());
+    List<Product> indexedSearch(String normalizedSearch, String category) {
+        return searchIndex.search(normalizedSearch, categoryFilter(category), 0);
     }
 
-    private static boolean matchesCategory(Product product, String category) {
-        if (category.isBlank() || "all".equals(category)) {
-            return true;
+    private List<Product> indexedProducts(int[] ids) {
+        List<Product> products = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            Product product = searchIndex.getProduct(id);
+            if (product != null) {
+                products.add(product);
+            }
         }
-        return product.getCategory() != null && product.getCategory().toLowerCase(Locale.ROOT).equals(category);
+        return products;
+    }
+
+    private List<Product> topRated(String category, Integer minPrice, Integer maxPrice, int limit) {
+        Integer categoryCode = category == null ? null : categoryDictionary.codeOf(category);
+        return searchIndex.topRated(categoryCode, minPrice, maxPrice, limit);
     }
 
-    private static boolean matchesSearch(Product product, String search) {
-        if (search.isBlank()) {
-            return true;
+    List<Product> indexedPage(int[] ids, String category, Integer cursor, int limit) {
+        int start = 0;
+        if (cursor != null) {
+            int position = Arrays.binarySearch(ids, cursor);
+            start = position >= 0 ? position + 1 : -position - 1;
         }
 
-        String name = product.getName() == null ? "" : product.getName().toLowerCase(Locale.ROOT);
-        String description = product.getDescription() == null ? "" : product.getDescription().toLowerCase(Locale.ROOT);
-        return name.contains(search) || description.contains(search);
+        IntPredicate filter = categoryFilter(category);
+        List<Product> page = new ArrayList<>(limit);
+        for (int index = start; index < ids.length && page.size() < limit; index++) {
+            if (filter != null && !filter.test(ids[index])) {
+                continue;
+            }
+            Product product = searchIndex.getProduct(ids[index]);
+            if (product != null) {
+                page.add(product);
+            }
+        }
+        return page;
+    }
+
+    private IntPredicate categoryFilter(String category) {
+        if (category == null) {
+            return null;
+        }
+        return searchIndex.categoryFilter(categoryDictionary.codeOf(category));
+    }
+
+    String resolveCategory(String category) {
+        String normalized = normalize(category);
+        if (normalized.isBlank() || "all".equals(normalized)) {
+            return null;
+        }
+        return categoryDictionary.canonicalName(category.trim());
+    }
+
+    static int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return limit;
     }
 
-    private static String normalize(String input) {
+    static String normalize(String input) {
         return input == null ? "" : input.trim().toLowerCase(Locale.ROOT);
     }
 }
@@ -0,0 +1,52 @@
+package com.ecommerce.backend.shop.product;
+
+import com.ecommerce.backend.shop.product.dto.ProductPageResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@RestController
+@RequestMapping("/api/products")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveProductController {
+    private final ReactiveProductService productService;
+    private final CatalogSnapshots catalogSnapshots;
+
+    public ReactiveProductController(ReactiveProductService productService, CatalogSnapshots catalogSnapshots) {
+        this.productService = productService;
+        this.catalogSnapshots = catalogSnapshots;
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<?>> listProducts(
+            @RequestParam(defaultValue = "") String search,
+            @RequestParam(defaultValue = "All") String category,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        if (catalogSnapshots.covers(search, category)) {
+            // A snapshot is rebuilt with the blocking repository after a catalog write.
+            return Mono.fromCallable(() -> catalogSnapshots.snapshot(category))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .map(snapshot -> snapshot.toResponse(ifNoneMatch, acceptEncoding));
+        }
+        return productService.listProducts(search, category).collectList().map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/page")
+    public Mono<ProductPageResponse> listProductPage(
+            @RequestParam(defaultValue = "") String search,
+            @RequestParam(defaultValue = "All") String category,
+            @RequestParam(required = false) Integer cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return productService.listProductPage(search, category, cursor, limit);
+    }
+}
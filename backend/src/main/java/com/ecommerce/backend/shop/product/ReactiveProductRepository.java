@@ -0,0 +1,6 @@
+package com.ecommerce.backend.shop.product;
+
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+
+public interface ReactiveProductRepository extends ReactiveMongoRepository<Product, Integer>, ReactiveProductRepositoryCustom {
+}
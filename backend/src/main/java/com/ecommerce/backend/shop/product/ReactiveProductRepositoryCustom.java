@@ -0,0 +1,9 @@
+package com.ecommerce.backend.shop.product;
+
+import reactor.core.publisher.Flux;
+
+public interface ReactiveProductRepositoryCustom {
+    Flux<Product> findMatching(String category, String search, Integer afterId, int limit);
+
+    Flux<Product> findInPriceRange(String category, Integer minPrice, Integer maxPrice, int limit);
+}
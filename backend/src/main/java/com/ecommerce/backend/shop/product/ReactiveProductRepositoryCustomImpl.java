@@ -0,0 +1,22 @@
+package com.ecommerce.backend.shop.product;
+
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Flux;
+
+class ReactiveProductRepositoryCustomImpl implements ReactiveProductRepositoryCustom {
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    ReactiveProductRepositoryCustomImpl(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Flux<Product> findMatching(String category, String search, Integer afterId, int limit) {
+        return mongoTemplate.find(ProductQueries.matching(category, search, afterId, limit), Product.class);
+    }
+
+    @Override
+    public Flux<Product> findInPriceRange(String category, Integer minPrice, Integer maxPrice, int limit) {
+        return mongoTemplate.find(ProductQueries.inPriceRange(category, minPrice, maxPrice, limit), Product.class);
+    }
+}
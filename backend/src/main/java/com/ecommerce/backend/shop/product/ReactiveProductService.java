@@ -0,0 +1,66 @@
+package com.ecommerce.backend.shop.product;
+
+import com.ecommerce.backend.shop.product.dto.ProductPageResponse;
+import com.ecommerce.backend.shop.product.search.ProductSearchIndex;
+import java.util.Map;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveProductService {
+    private final ReactiveProductRepository productRepository;
+    private final ProductService productService;
+    private final ProductSearchIndex searchIndex;
+
+    public ReactiveProductService(
+            ReactiveProductRepository productRepository,
+            ProductService productService,
+            ProductSearchIndex searchIndex
+    ) {
+        this.productRepository = productRepository;
+        this.productService = productService;
+        this.searchIndex = searchIndex;
+    }
+
+    public Flux<Product> listProducts(String search, String category) {
+        return Flux.defer(() -> {
+            String resolvedCategory = productService.resolveCategory(category);
+            String normalizedSearch = ProductService.normalize(search);
+            if (!normalizedSearch.isBlank() && searchIndex.isReady()) {
+                return Flux.fromIterable(productService.indexedSearch(normalizedSearch, resolvedCategory));
+            }
+            return productRepository.findMatching(resolvedCategory, normalizedSearch, null, 0);
+        });
+    }
+
+    public Mono<ProductPageResponse> listProductPage(String search, String category, Integer cursor, Integer limit) {
+        return Mono.defer(() -> {
+            int pageSize = ProductService.resolvePageSize(limit);
+            String resolvedCategory = productService.resolveCategory(category);
+            String normalizedSearch = ProductService.normalize(search);
+            if (!searchIndex.isReady() || normalizedSearch.isBlank()) {
+                Map<String, Integer> facets = searchIndex.isReady() ? searchIndex.facetCounts(null) : Map.of();
+                return productRepository.findMatching(resolvedCategory, normalizedSearch, cursor, pageSize + 1)
+                        .collectList()
+                        .map(matched -> ProductService.toPage(matched, pageSize, facets));
+            }
+
+            int[] ids = searchIndex.matchIds(normalizedSearch);
+            return Mono.just(ProductService.toPage(
+                    productService.indexedPage(ids, resolvedCategory, cursor, pageSize + 1),
+                    pageSize,
+                    searchIndex.facetCounts(ids)
+            ));
+        });
+    }
+
+    public Mono<Product> getById(Integer id) {
+        return Mono.defer(() -> {
+            Product indexed = id == null || !searchIndex.isReady() ? null : searchIndex.getProduct(id);
+            return indexed != null ? Mono.just(indexed) : productRepository.findById(id);
+        }).switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Product not found: " + id)));
+    }
+}
@@ -0,0 +1,11 @@
+package com.ecommerce.backend.shop.product;
+
+public record ShoppingQuery(String text, String category, Integer minPrice, Integer maxPrice) {
+    public boolean hasBudget() {
+        return minPrice != null || maxPrice != null;
+    }
+
+    public boolean matchesPrice(int price) {
+        return (minPrice == null || price >= minPrice) && (maxPrice == null || price <= maxPrice);
+    }
+}
@@ -0,0 +1,75 @@
+package com.ecommerce.backend.shop.product;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ShoppingQueryParser {
+    private static final String CURRENCY = "(?:rs\\.?|inr|₹|\\$)";
+    private static final String NUMBER = "(\\d+(?:\\.\\d+)?)\\s*(k\\b)?";
+    private static final String AMOUNT = CURRENCY + "?\\s*" + NUMBER;
+    private static final Pattern BETWEEN = Pattern.compile(
+            "(?:between|from)\\s*" + AMOUNT + "\\s*(?:and|to|-)\\s*" + AMOUNT + "|" + CURRENCY + "\\s*" + AMOUNT + "\\s*(?:-|to)\\s*" + AMOUNT);
+    private static final Pattern AT_MOST = Pattern.compile(
+            "(?:under|below|less than|max(?:imum)?|budget(?: of| is)?|cheaper than)\\s*" + AMOUNT);
+    // "within 3 days" and "up to 2 items" are not budgets, so these two need a currency or a price noun.
+    private static final Pattern WITHIN = Pattern.compile(
+            "(?:within|up ?to)\\s*(?:(?:a |my )?(?:price|cost)(?: of)?\\s*" + AMOUNT + "|" + CURRENCY + "\\s*" + NUMBER
+                    + "|" + NUMBER + "\\s*(?:rs\\b|rupees?\\b|inr\\b|₹|\\$))");
+    private static final Pattern AT_LEAST = Pattern.compile(
+            "(?:above|over|more than|at least|min(?:imum)?|starting from)\\s*" + AMOUNT);
+
+    private final CategoryDictionary categoryDictionary;
+
+    public ShoppingQueryParser(CategoryDictionary categoryDictionary) {
+        this.categoryDictionary = categoryDictionary;
+    }
+
+    public ShoppingQuery parse(String message) {
+        String text = message == null ? "" : message.trim();
+        String lower = text.toLowerCase(Locale.ROOT).replace(",", "");
+
+        Integer minPrice = null;
+        Integer maxPrice = null;
+        Matcher between = BETWEEN.matcher(lower);
+        if (between.find()) {
+            int offset = between.group(1) != null ? 1 : 5;
+            int low = amount(between.group(offset), between.group(offset + 1));
+            int high = amount(between.group(offset + 2), between.group(offset + 3));
+            minPrice = Math.min(low, high);
+            maxPrice = Math.max(low, high);
+        } else {
+            Matcher atMost = AT_MOST.matcher(lower);
+            Matcher within = WITHIN.matcher(lower);
+            if (atMost.find()) {
+                maxPrice = amount(atMost.group(1), atMost.group(2));
+            } else if (within.find()) {
+                int offset = within.group(1) != null ? 1 : within.group(3) != null ? 3 : 5;
+                maxPrice = amount(within.group(offset), within.group(offset + 1));
+            }
+            Matcher atLeast = AT_LEAST.matcher(lower);
+            if (atLeast.find()) {
+                minPrice = amount(atLeast.group(1), atLeast.group(2));
+            }
+        }
+
+        return new ShoppingQuery(text, findCategory(lower), minPrice, maxPrice);
+    }
+
+    private String findCategory(String lower) {
+        for (String word : lower.split("[^\\p{L}]+")) {
+            int code = categoryDictionary.codeOf(word);
+            if (code != CategoryDictionary.UNKNOWN) {
+                return categoryDictionary.nameOf(code);
+            }
+        }
+        return null;
+    }
+
+    private static int amount(String digits, String thousands) {
+        double value = Double.parseDouble(digits);
+        return (int) Math.min(Integer.MAX_VALUE, Math.round(thousands == null ? value : value * 1_000));
+    }
+}
@@ -0,0 +1,13 @@
+package com.ecommerce.backend.shop.product.catalog;
+
+import java.util.Locale;
+
+public enum CatalogFormat {
+    JSON,
+    CSV;
+
+    public static CatalogFormat fromFilename(String filename) {
+        String lower = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+        return lower.endsWith(".csv") ? CSV : JSON;
+    }
+}
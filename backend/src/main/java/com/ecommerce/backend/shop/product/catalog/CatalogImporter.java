@@ -0,0 +1,173 @@
+package com.ecommerce.backend.shop.product.catalog;
+
+import com.ecommerce.backend.config.ShopProperties;
+import com.ecommerce.backend.shop.product.Product;
+import com.ecommerce.backend.shop.product.ProductChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.Resource;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+@Service
+public class CatalogImporter {
+    private static final Logger log = LoggerFactory.getLogger(CatalogImporter.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    public CatalogImporter(
+            MongoTemplate mongoTemplate,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher,
+            ShopProperties shopProperties
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = Math.max(1, shopProperties.getCatalogImport().getBatchSize());
+    }
+
+    public ImportReport importResource(Resource resource, CatalogFormat format) {
+        String source = resource.getDescription();
+        ImportCheckpoint checkpoint = loadCheckpoint(source, fingerprint(resource));
+        if (checkpoint != null && checkpoint.isCompleted()) {
+            log.info("Catalog {} already imported ({} products); skipping", source, checkpoint.getProductsWritten());
+            return new ImportReport(source, checkpoint.getRecordsRead(), 0, 0, checkpoint.getRecordsRead(), 0);
+        }
+
+        try (InputStream input = resource.getInputStream();
+             CatalogReader reader = CatalogReader.open(input, format, objectMapper)) {
+            return importRecords(source, reader, checkpoint);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not read catalog " + source, ex);
+        }
+    }
+
+    public ImportReport importProducts(String source, Iterator<Product> products) {
+        Iterator<CatalogRecord> records = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return products.hasNext();
+            }
+
+            @Override
+            public CatalogRecord next() {
+                Product product = products.next();
+                return new CatalogRecord(product.getId(), product.getName(), product.getCategory(),
+                        product.getDescription(), product.getPrice(), product.getRating());
+            }
+        };
+        return importRecords(source, records, null);
+    }
+
+    private ImportReport importRecords(String source, Iterator<CatalogRecord> records, ImportCheckpoint checkpoint) {
+        long startedAt = System.nanoTime();
+        long resumeFrom = checkpoint == null ? 0 : checkpoint.getRecordsRead();
+        long recordsRead = 0;
+        long written = checkpoint == null ? 0 : checkpoint.getProductsWritten();
+        long rejected = 0;
+        if (resumeFrom > 0) {
+            log.info("Resuming catalog import of {} after record {}", source, resumeFrom);
+        }
+
+        List<Product> batch = new ArrayList<>(batchSize);
+        int batchNumber = 0;
+        while (records.hasNext()) {
+            CatalogRecord record = records.next();
+            recordsRead++;
+            if (recordsRead <= resumeFrom) {
+                continue;
+            }
+            if (!record.isValid()) {
+                rejected++;
+                log.warn("Skipping catalog record {} of {}: id, name and a non-negative price are required", recordsRead, source);
+                continue;
+            }
+            batch.add(record.toProduct());
+            if (batch.size() == batchSize) {
+                written += writeBatch(source, ++batchNumber, batch);
+                saveCheckpoint(checkpoint, recordsRead, written, false);
+            }
+        }
+        if (!batch.isEmpty()) {
+            written += writeBatch(source, ++batchNumber, batch);
+        }
+        saveCheckpoint(checkpoint, recordsRead, written, true);
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        ImportReport report = new ImportReport(source, recordsRead, written, rejected, resumeFrom, elapsedMillis);
+        log.info("Imported catalog {}: {} products written, {} rejected in {} ms ({} products/s)",
+                source, written, rejected, elapsedMillis, Math.round(report.productsPerSecond()));
+        eventPublisher.publishEvent(ProductChangedEvent.catalogReloaded());
+        return report;
+    }
+
+    private int writeBatch(String source, int batchNumber, List<Product> batch) {
+        long startedAt = System.nanoTime();
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Product.class);
+        for (Product product : batch) {
+            Document document = new Document();
+            mongoTemplate.getConverter().write(product, document);
+            document.remove("_id");
+            document.remove("_class");
+            operations.upsert(Query.query(Criteria.where("_id").is(product.getId())), Update.fromDocument(new Document("$set", document)));
+        }
+        operations.execute();
+
+        int size = batch.size();
+        long elapsedNanos = Math.max(1, System.nanoTime() - startedAt);
+        log.info("Catalog {} batch {}: {} products in {} ms ({} products/s)",
+                source, batchNumber, size, elapsedNanos / 1_000_000, Math.round(size * 1e9 / elapsedNanos));
+        batch.clear();
+        return size;
+    }
+
+    private ImportCheckpoint loadCheckpoint(String source, String fingerprint) {
+        if (fingerprint == null) {
+            // Without a stable size and timestamp there is no safe way to resume, so always import in full.
+            return null;
+        }
+        ImportCheckpoint checkpoint = mongoTemplate.findById(source, ImportCheckpoint.class);
+        if (checkpoint == null || !fingerprint.equals(checkpoint.getFingerprint())) {
+            // A new or changed file starts over; upsert-by-id makes re-writing earlier records harmless.
+            return new ImportCheckpoint(source, fingerprint);
+        }
+        return checkpoint;
+    }
+
+    private void saveCheckpoint(ImportCheckpoint checkpoint, long recordsRead, long written, boolean completed) {
+        if (checkpoint == null) {
+            return;
+        }
+        checkpoint.setRecordsRead(recordsRead);
+        checkpoint.setProductsWritten(written);
+        checkpoint.setCompleted(completed);
+        checkpoint.setUpdatedAt(Instant.now());
+        mongoTemplate.save(checkpoint);
+    }
+
+    private static String fingerprint(Resource resource) {
+        try {
+            return resource.isFile() ? resource.contentLength() + ":" + resource.lastModified() : null;
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+}
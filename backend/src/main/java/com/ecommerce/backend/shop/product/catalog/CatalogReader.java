@@ -0,0 +1,160 @@
+package com.ecommerce.backend.shop.product.catalog;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Streams catalog records one at a time so imports run in constant memory. JSON input may be
+ * newline-delimited objects or a single top-level array; CSV input needs a header row.
+ */
+abstract class CatalogReader implements Iterator<CatalogRecord>, Closeable {
+
+    static CatalogReader open(InputStream input, CatalogFormat format, ObjectMapper objectMapper) throws IOException {
+        return format == CatalogFormat.CSV ? new Csv(input) : new Json(input, objectMapper);
+    }
+
+    private static final class Json extends CatalogReader {
+        private final MappingIterator<CatalogRecord> records;
+
+        Json(InputStream input, ObjectMapper objectMapper) throws IOException {
+            this.records = objectMapper.readerFor(CatalogRecord.class).readValues(input);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return records.hasNext();
+        }
+
+        @Override
+        public CatalogRecord next() {
+            return records.next();
+        }
+
+        @Override
+        public void close() throws IOException {
+            records.close();
+        }
+    }
+
+    private static final class Csv extends CatalogReader {
+        private final BufferedReader reader;
+        private final Map<String, Integer> columns = new HashMap<>();
+        private String nextLine;
+
+        Csv(InputStream input) throws IOException {
+            this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+            String header = reader.readLine();
+            if (header == null) {
+                return;
+            }
+            List<String> names = split(header.startsWith("\uFEFF") ? header.substring(1) : header);
+            for (int index = 0; index < names.size(); index++) {
+                columns.put(names.get(index).trim().toLowerCase(Locale.ROOT), index);
+            }
+            if (!columns.containsKey("id") && columns.containsKey("_id")) {
+                columns.put("id", columns.get("_id"));
+            }
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextLine != null;
+        }
+
+        @Override
+        public CatalogRecord next() {
+            if (nextLine == null) {
+                throw new NoSuchElementException();
+            }
+            List<String> values = split(nextLine);
+            advance();
+            return new CatalogRecord(
+                    parseInteger(column(values, "id")),
+                    column(values, "name"),
+                    column(values, "category"),
+                    column(values, "description"),
+                    parseInteger(column(values, "price")),
+                    parseDouble(column(values, "rating"))
+            );
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+
+        private void advance() {
+            try {
+                do {
+                    nextLine = reader.readLine();
+                } while (nextLine != null && nextLine.isBlank());
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        private String column(List<String> values, String name) {
+            Integer index = columns.get(name);
+            return index == null || index >= values.size() ? null : values.get(index);
+        }
+
+        private static List<String> split(String line) {
+            List<String> values = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+            for (int index = 0; index < line.length(); index++) {
+                char ch = line.charAt(index);
+                if (quoted) {
+                    if (ch == '"' && index + 1 < line.length() && line.charAt(index + 1) == '"') {
+                        current.append('"');
+                        index++;
+                    } else if (ch == '"') {
+                        quoted = false;
+                    } else {
+                        current.append(ch);
+                    }
+                } else if (ch == '"') {
+                    quoted = true;
+                } else if (ch == ',') {
+                    values.add(current.toString());
+                    current.setLength(0);
+                } else {
+                    current.append(ch);
+                }
+            }
+            values.add(current.toString());
+            return values;
+        }
+
+        private static Integer parseInteger(String value) {
+            try {
+                return value == null || value.isBlank() ? null : Integer.valueOf(value.trim());
+            } catch (NumberFormatException ex) {
+                return null;
+            }
+        }
+
+        private static Double parseDouble(String value) {
+            try {
+                return value == null || value.isBlank() ? null : Double.valueOf(value.trim());
+            } catch (NumberFormatException ex) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.ecommerce.backend.shop.product.catalog;
+
+import com.ecommerce.backend.shop.product.Product;
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+record CatalogRecord(
+        @JsonAlias("_id") Integer id,
+        String name,
+        String category,
+        String description,
+        Integer price,
+        Double rating
+) {
+    boolean isValid() {
+        return id != null && name != null && !name.isBlank() && price != null && price >= 0;
+    }
+
+    Product toProduct() {
+        return new Product(id, name.trim(), category, description, price, rating == null ? 0 : rating);
+    }
+}
@@ -0,0 +1,72 @@
+package com.ecommerce.backend.shop.product.catalog;
+
+import java.time.Instant;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Document(collection = "catalog_import_checkpoints")
+public class ImportCheckpoint {
+    @Id
+    private String source;
+    private String fingerprint;
+    private long recordsRead;
+    private long productsWritten;
+    private boolean completed;
+    private Instant updatedAt;
+
+    public ImportCheckpoint() {
+    }
+
+    public ImportCheckpoint(String source, String fingerprint) {
+        this.source = source;
+        this.fingerprint = fingerprint;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public void setFingerprint(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    public long getRecordsRead() {
+        return recordsRead;
+    }
+
+    public void setRecordsRead(long recordsRead) {
+        this.recordsRead = recordsRead;
+    }
+
+    public long getProductsWritten() {
+        return productsWritten;
+    }
+
+    public void setProductsWritten(long productsWritten) {
+        this.productsWritten = productsWritten;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(boolean completed) {
+        this.completed = completed;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,14 @@
+package com.ecommerce.backend.shop.product.catalog;
+
+public record ImportReport(
+        String source,
+        long recordsRead,
+        long productsWritten,
+        long rejected,
+        long resumedFrom,
+        long elapsedMillis
+) {
+    public double productsPerSecond() {
+        return elapsedMillis == 0 ? productsWritten : productsWritten * 1000.0 / elapsedMillis;
+    }
+}
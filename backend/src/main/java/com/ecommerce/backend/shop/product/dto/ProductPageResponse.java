@@ -0,0 +1,12 @@
+package com.ecommerce.backend.shop.product.dto;
+
+import com.ecommerce.backend.shop.product.Product;
+import java.util.List;
+import java.util.Map;
+
+public record ProductPageResponse(
+        List<Product> items,
+        Integer nextCursor,
+        Map<String, Integer> facets
+) {
+}
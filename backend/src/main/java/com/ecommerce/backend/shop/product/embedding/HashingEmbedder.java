@@ -0,0 +1,99 @@
+package com.ecommerce.backend.shop.product.embedding;
+
+import com.ecommerce.backend.config.ShopProperties;
+import java.util.Arrays;
+import java.util.Set;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "shop.embedding", name = "embedder", havingValue = "hashing", matchIfMissing = true)
+public class HashingEmbedder implements ProductEmbedder {
+    private static final float WORD_WEIGHT = 1.0f;
+    private static final float TRIGRAM_WEIGHT = 0.35f;
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "any", "for", "i", "in", "is", "it", "me", "my", "of", "on", "or",
+            "some", "something", "the", "to", "want", "with", "need", "looking", "show", "please"
+    );
+
+    private final int dimensions;
+
+    public HashingEmbedder(ShopProperties shopProperties) {
+        this.dimensions = shopProperties.getEmbedding().getDimensions();
+        if (dimensions < 8) {
+            throw new IllegalStateException("shop.embedding.dimensions must be at least 8");
+        }
+    }
+
+    @Override
+    public int dimensions() {
+        return dimensions;
+    }
+
+    @Override
+    public void embed(String text, float[] target) {
+        Arrays.fill(target, 0f);
+        if (text == null) {
+            return;
+        }
+
+        StringBuilder word = new StringBuilder();
+        for (int index = 0; index <= text.length(); index++) {
+            char ch = index < text.length() ? text.charAt(index) : ' ';
+            if (Character.isLetterOrDigit(ch)) {
+                word.append(Character.toLowerCase(ch));
+            } else if (!word.isEmpty()) {
+                addWord(word, target);
+                word.setLength(0);
+            }
+        }
+        normalize(target);
+    }
+
+    private void addWord(StringBuilder word, float[] target) {
+        String token = word.toString();
+        if (STOP_WORDS.contains(token)) {
+            return;
+        }
+        add(token.hashCode(), WORD_WEIGHT, target);
+
+        // Character trigrams over "^word$" let "run" meet "running" and survive small typos.
+        int length = token.length() + 2;
+        for (int start = 0; start + 3 <= length; start++) {
+            int hash = 17;
+            for (int offset = start; offset < start + 3; offset++) {
+                char ch = offset == 0 ? '^' : offset == length - 1 ? '$' : token.charAt(offset - 1);
+                hash = hash * 31 + ch;
+            }
+            add(hash, TRIGRAM_WEIGHT, target);
+        }
+    }
+
+    private void add(int hash, float weight, float[] target) {
+        int mixed = mix(hash);
+        int bucket = Math.floorMod(mixed, dimensions);
+        target[bucket] += (mixed & 0x8000_0000) == 0 ? weight : -weight;
+    }
+
+    private static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        return h;
+    }
+
+    private static void normalize(float[] vector) {
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        if (norm == 0) {
+            return;
+        }
+        float scale = (float) (1.0 / Math.sqrt(norm));
+        for (int index = 0; index < vector.length; index++) {
+            vector[index] *= scale;
+        }
+    }
+}
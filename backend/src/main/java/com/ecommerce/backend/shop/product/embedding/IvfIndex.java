@@ -0,0 +1,223 @@
+package com.ecommerce.backend.shop.product.embedding;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.function.IntPredicate;
+
+/** Inverted-file index that scores only the k-means buckets nearest the query; small stores are scanned fully. */
+final class IvfIndex {
+    private static final int MIN_TRAINING_SIZE = 256;
+    private static final int TRAINING_ROUNDS = 4;
+
+    private final VectorStore store;
+    private float[][] centroids = new float[0][];
+    private int[][] lists = new int[0][];
+    private int[] listSizes = new int[0];
+    private int[] listOfSlot = new int[0];
+    private int trainedSize;
+
+    IvfIndex(VectorStore store) {
+        this.store = store;
+    }
+
+    boolean needsTraining() {
+        int size = store.size();
+        if (centroids.length == 0) {
+            return size >= MIN_TRAINING_SIZE;
+        }
+        return size > trainedSize * 2 || size * 2 < trainedSize;
+    }
+
+    void train(long seed) {
+        int[] live = liveSlots();
+        trainedSize = live.length;
+        if (live.length < MIN_TRAINING_SIZE) {
+            centroids = new float[0][];
+            lists = new int[0][];
+            listSizes = new int[0];
+            return;
+        }
+
+        int listCount = Math.max(1, (int) Math.round(Math.sqrt(live.length)));
+        int dimensions = store.dimensions();
+        Random random = new Random(seed);
+        float[][] trained = new float[listCount][dimensions];
+        for (int list = 0; list < listCount; list++) {
+            store.read(live[random.nextInt(live.length)], trained[list]);
+        }
+
+        int[] assignment = new int[live.length];
+        float[] vector = new float[dimensions];
+        for (int round = 0; round < TRAINING_ROUNDS; round++) {
+            float[][] sums = new float[listCount][dimensions];
+            int[] counts = new int[listCount];
+            for (int index = 0; index < live.length; index++) {
+                store.read(live[index], vector);
+                int nearest = nearest(trained, vector);
+                assignment[index] = nearest;
+                counts[nearest]++;
+                for (int d = 0; d < dimensions; d++) {
+                    sums[nearest][d] += vector[d];
+                }
+            }
+            for (int list = 0; list < listCount; list++) {
+                if (counts[list] == 0) {
+                    store.read(live[random.nextInt(live.length)], trained[list]);
+                    continue;
+                }
+                trained[list] = sums[list];
+                normalize(trained[list]);
+            }
+        }
+
+        centroids = trained;
+        lists = new int[listCount][];
+        listSizes = new int[listCount];
+        for (int list = 0; list < listCount; list++) {
+            lists[list] = new int[8];
+        }
+        listOfSlot = new int[Math.max(store.highWater(), 1)];
+        Arrays.fill(listOfSlot, -1);
+        for (int slot : live) {
+            add(slot);
+        }
+    }
+
+    void add(int slot) {
+        if (centroids.length == 0) {
+            return;
+        }
+        remove(slot);
+        float[] vector = new float[store.dimensions()];
+        store.read(slot, vector);
+        int list = nearest(centroids, vector);
+        if (listSizes[list] == lists[list].length) {
+            lists[list] = Arrays.copyOf(lists[list], listSizes[list] * 2);
+        }
+        lists[list][listSizes[list]++] = slot;
+        if (slot >= listOfSlot.length) {
+            int previous = listOfSlot.length;
+            listOfSlot = Arrays.copyOf(listOfSlot, Math.max(slot + 1, previous * 2));
+            Arrays.fill(listOfSlot, previous, listOfSlot.length, -1);
+        }
+        listOfSlot[slot] = list;
+    }
+
+    void remove(int slot) {
+        if (centroids.length == 0 || slot < 0 || slot >= listOfSlot.length || listOfSlot[slot] < 0) {
+            return;
+        }
+        int list = listOfSlot[slot];
+        int[] members = lists[list];
+        for (int index = 0; index < listSizes[list]; index++) {
+            if (members[index] == slot) {
+                members[index] = members[--listSizes[list]];
+                break;
+            }
+        }
+        listOfSlot[slot] = -1;
+    }
+
+    int[] search(float[] query, int probes, IntPredicate slotFilter, float minScore, int limit) {
+        PriorityQueue<Hit> kept = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(Hit::score));
+        if (centroids.length == 0) {
+            for (int slot = 0; slot < store.highWater(); slot++) {
+                consider(slot, query, slotFilter, minScore, limit, kept);
+            }
+        } else {
+            for (int list : closestLists(query, Math.min(probes, centroids.length))) {
+                for (int index = 0; index < listSizes[list]; index++) {
+                    consider(lists[list][index], query, slotFilter, minScore, limit, kept);
+                }
+            }
+        }
+
+        int[] slots = new int[kept.size()];
+        for (int index = slots.length - 1; index >= 0; index--) {
+            slots[index] = kept.poll().slot();
+        }
+        return slots;
+    }
+
+    private void consider(int slot, float[] query, IntPredicate slotFilter, float minScore, int limit, PriorityQueue<Hit> kept) {
+        if (!store.isLive(slot) || (slotFilter != null && !slotFilter.test(slot))) {
+            return;
+        }
+        float score = store.dot(slot, query);
+        if (score < minScore) {
+            return;
+        }
+        if (kept.size() < limit) {
+            kept.add(new Hit(slot, score));
+        } else if (score > kept.peek().score()) {
+            kept.poll();
+            kept.add(new Hit(slot, score));
+        }
+    }
+
+    private int[] closestLists(float[] query, int probes) {
+        Integer[] order = new Integer[centroids.length];
+        float[] scores = new float[centroids.length];
+        for (int list = 0; list < centroids.length; list++) {
+            order[list] = list;
+            scores[list] = dot(centroids[list], query);
+        }
+        Arrays.sort(order, (left, right) -> Float.compare(scores[right], scores[left]));
+        int[] closest = new int[probes];
+        for (int index = 0; index < probes; index++) {
+            closest[index] = order[index];
+        }
+        return closest;
+    }
+
+    private int[] liveSlots() {
+        int[] live = new int[store.size()];
+        int count = 0;
+        for (int slot = 0; slot < store.highWater() && count < live.length; slot++) {
+            if (store.isLive(slot)) {
+                live[count++] = slot;
+            }
+        }
+        return count == live.length ? live : Arrays.copyOf(live, count);
+    }
+
+    private static int nearest(float[][] candidates, float[] vector) {
+        int best = 0;
+        float bestScore = Float.NEGATIVE_INFINITY;
+        for (int index = 0; index < candidates.length; index++) {
+            float score = dot(candidates[index], vector);
+            if (score > bestScore) {
+                bestScore = score;
+                best = index;
+            }
+        }
+        return best;
+    }
+
+    private static float dot(float[] left, float[] right) {
+        float sum = 0f;
+        for (int index = 0; index < left.length; index++) {
+            sum += left[index] * right[index];
+        }
+        return sum;
+    }
+
+    private static void normalize(float[] vector) {
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        if (norm == 0) {
+            return;
+        }
+        float scale = (float) (1.0 / Math.sqrt(norm));
+        for (int index = 0; index < vector.length; index++) {
+            vector[index] *= scale;
+        }
+    }
+
+    private record Hit(int slot, float score) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.ecommerce.backend.shop.product.embedding;
+
+public interface ProductEmbedder {
+    int dimensions();
+
+    // Writes the L2-normalised embedding into target; all zeros when the text carries no signal.
+    void embed(String text, float[] target);
+}
@@ -0,0 +1,130 @@
+package com.ecommerce.backend.shop.product.embedding;
+
+import com.ecommerce.backend.config.ShopProperties;
+import com.ecommerce.backend.shop.product.Product;
+import com.ecommerce.backend.shop.product.ProductChangedEvent;
+import com.ecommerce.backend.shop.product.ProductRepository;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ProductVectorIndex {
+    private static final Logger log = LoggerFactory.getLogger(ProductVectorIndex.class);
+    private static final long TRAINING_SEED = 20240101L;
+
+    private final ProductRepository productRepository;
+    private final ProductEmbedder embedder;
+    private final int probes;
+    private final float minSimilarity;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private VectorStore store;
+    private IvfIndex ivf;
+    private volatile boolean ready;
+
+    public ProductVectorIndex(ProductRepository productRepository, ProductEmbedder embedder, ShopProperties shopProperties) {
+        this.productRepository = productRepository;
+        this.embedder = embedder;
+        this.probes = shopProperties.getEmbedding().getProbes();
+        this.minSimilarity = (float) shopProperties.getEmbedding().getMinSimilarity();
+        this.store = new VectorStore(embedder.dimensions());
+        this.ivf = new IvfIndex(store);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!ready) {
+            return;
+        }
+        if (event.affectsWholeCatalog()) {
+            rebuild();
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            ivf.remove(store.remove(event.productId()));
+            if (!event.isDeletion()) {
+                ivf.add(put(store, event.product()));
+            }
+            if (ivf.needsTraining()) {
+                ivf.train(TRAINING_SEED);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        VectorStore rebuilt = new VectorStore(embedder.dimensions());
+        productRepository.findAll().forEach(product -> put(rebuilt, product));
+        IvfIndex trained = new IvfIndex(rebuilt);
+        trained.train(TRAINING_SEED);
+
+        lock.writeLock().lock();
+        try {
+            store = rebuilt;
+            ivf = trained;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Embedded {} products in {} ms", rebuilt.size(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int[] search(String query, IntPredicate idFilter, int limit) {
+        float[] vector = new float[embedder.dimensions()];
+        embedder.embed(query, vector);
+        if (limit <= 0 || isZero(vector)) {
+            return new int[0];
+        }
+
+        lock.readLock().lock();
+        try {
+            VectorStore current = store;
+            IntPredicate slotFilter = idFilter == null ? null : slot -> idFilter.test(current.idAt(slot));
+            int[] slots = ivf.search(vector, probes, slotFilter, minSimilarity, limit);
+            int[] ids = new int[slots.length];
+            for (int index = 0; index < slots.length; index++) {
+                ids[index] = current.idAt(slots[index]);
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int put(VectorStore target, Product product) {
+        float[] vector = new float[embedder.dimensions()];
+        embedder.embed(textOf(product), vector);
+        return target.put(product.getId(), vector);
+    }
+
+    private static String textOf(Product product) {
+        return product.getName() + " " + product.getCategory() + " " + product.getCategory() + " " + product.getDescription();
+    }
+
+    private static boolean isZero(float[] vector) {
+        for (float value : vector) {
+            if (value != 0f) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,128 @@
+package com.ecommerce.backend.shop.product.embedding;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/** Fixed-width float vectors in an off-heap buffer, addressed by slot; freed slots are reused first. */
+final class VectorStore {
+    private static final int INITIAL_CAPACITY = 1_024;
+    // A direct buffer is addressed by int byte offsets, which caps the floats it can hold.
+    private static final long MAX_FLOATS = Integer.MAX_VALUE / Float.BYTES;
+
+    private final int dimensions;
+    private final Map<Integer, Integer> slotsById = new HashMap<>();
+    private FloatBuffer vectors;
+    private int[] ids;
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    private int highWater;
+
+    VectorStore(int dimensions) {
+        this.dimensions = dimensions;
+        int capacity = (int) Math.min(INITIAL_CAPACITY, maxSlots(dimensions));
+        if (capacity == 0) {
+            throw new IllegalArgumentException("A " + dimensions + "-dimension vector does not fit in one buffer.");
+        }
+        this.vectors = allocate(capacity, dimensions);
+        this.ids = new int[capacity];
+    }
+
+    int dimensions() {
+        return dimensions;
+    }
+
+    int size() {
+        return slotsById.size();
+    }
+
+    int highWater() {
+        return highWater;
+    }
+
+    int slotOf(int id) {
+        Integer slot = slotsById.get(id);
+        return slot == null ? -1 : slot;
+    }
+
+    boolean isLive(int slot) {
+        if (slot >= highWater) {
+            return false;
+        }
+        Integer current = slotsById.get(ids[slot]);
+        return current != null && current == slot;
+    }
+
+    int idAt(int slot) {
+        return ids[slot];
+    }
+
+    int put(int id, float[] vector) {
+        int slot = slotOf(id);
+        if (slot < 0) {
+            slot = freeCount > 0 ? freeSlots[--freeCount] : nextSlot();
+            slotsById.put(id, slot);
+            ids[slot] = id;
+        }
+        vectors.put(slot * dimensions, vector, 0, dimensions);
+        return slot;
+    }
+
+    int remove(int id) {
+        Integer slot = slotsById.remove(id);
+        if (slot == null) {
+            return -1;
+        }
+        ids[slot] = 0;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+        return slot;
+    }
+
+    void read(int slot, float[] target) {
+        vectors.get(slot * dimensions, target, 0, dimensions);
+    }
+
+    float dot(int slot, float[] query) {
+        int base = slot * dimensions;
+        float sum = 0f;
+        for (int index = 0; index < dimensions; index++) {
+            sum += vectors.get(base + index) * query[index];
+        }
+        return sum;
+    }
+
+    private int nextSlot() {
+        if (highWater == ids.length) {
+            int capacity = grownCapacity(ids.length, dimensions);
+            FloatBuffer grown = allocate(capacity, dimensions);
+            grown.put(0, vectors, 0, highWater * dimensions);
+            vectors = grown;
+            ids = Arrays.copyOf(ids, capacity);
+        }
+        return highWater++;
+    }
+
+    static int grownCapacity(int capacity, int dimensions) {
+        long limit = maxSlots(dimensions);
+        if (capacity >= limit) {
+            throw new IllegalStateException("Vector store is full: " + capacity + " slots of " + dimensions
+                    + " dimensions is the most one buffer can hold.");
+        }
+        return (int) Math.min(capacity * 2L, limit);
+    }
+
+    static long maxSlots(int dimensions) {
+        return MAX_FLOATS / dimensions;
+    }
+
+    private static FloatBuffer allocate(int capacity, int dimensions) {
+        long bytes = (long) capacity * dimensions * Float.BYTES;
+        return ByteBuffer.allocateDirect(Math.toIntExact(bytes)).order(ByteOrder.nativeOrder()).asFloatBuffer();
+    }
+}
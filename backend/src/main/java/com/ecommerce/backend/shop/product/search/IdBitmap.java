@@ -0,0 +1,69 @@
+package com.ecommerce.backend.shop.product.search;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+final class IdBitmap {
+    private volatile AtomicLongArray words = new AtomicLongArray(0);
+    private volatile int cardinality;
+
+    boolean contains(int id) {
+        if (id < 0) {
+            return false;
+        }
+        AtomicLongArray current = words;
+        int word = id >>> 6;
+        return word < current.length() && (current.get(word) & (1L << id)) != 0;
+    }
+
+    void add(int id) {
+        if (id < 0) {
+            return;
+        }
+        int word = id >>> 6;
+        AtomicLongArray current = ensureCapacity(word);
+        long previous = current.get(word);
+        long mask = 1L << id;
+        if ((previous & mask) == 0) {
+            current.set(word, previous | mask);
+            cardinality++;
+        }
+    }
+
+    void remove(int id) {
+        if (!contains(id)) {
+            return;
+        }
+        AtomicLongArray current = words;
+        int word = id >>> 6;
+        current.set(word, current.get(word) & ~(1L << id));
+        cardinality--;
+    }
+
+    int cardinality() {
+        return cardinality;
+    }
+
+    int countIn(int[] ids) {
+        int count = 0;
+        for (int id : ids) {
+            if (contains(id)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private AtomicLongArray ensureCapacity(int word) {
+        AtomicLongArray current = words;
+        if (word < current.length()) {
+            return current;
+        }
+
+        AtomicLongArray grown = new AtomicLongArray(Math.max(word + 1, current.length() * 2));
+        for (int index = 0; index < current.length(); index++) {
+            grown.set(index, current.get(index));
+        }
+        words = grown;
+        return grown;
+    }
+}
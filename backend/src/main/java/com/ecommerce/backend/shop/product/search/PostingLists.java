@@ -0,0 +1,105 @@
+package com.ecommerce.backend.shop.product.search;
+
+import java.util.Arrays;
+
+final class PostingLists {
+    static final int[] EMPTY = new int[0];
+
+    private PostingLists() {
+    }
+
+    static int[] insert(int[] postings, int id) {
+        if (postings == null) {
+            return new int[]{id};
+        }
+        int position = Arrays.binarySearch(postings, id);
+        if (position >= 0) {
+            return postings;
+        }
+
+        int insertAt = -position - 1;
+        int[] updated = new int[postings.length + 1];
+        System.arraycopy(postings, 0, updated, 0, insertAt);
+        updated[insertAt] = id;
+        System.arraycopy(postings, insertAt, updated, insertAt + 1, postings.length - insertAt);
+        return updated;
+    }
+
+    static int[] remove(int[] postings, int id) {
+        int position = Arrays.binarySearch(postings, id);
+        if (position < 0) {
+            return postings;
+        }
+        if (postings.length == 1) {
+            return null;
+        }
+
+        int[] updated = new int[postings.length - 1];
+        System.arraycopy(postings, 0, updated, 0, position);
+        System.arraycopy(postings, position + 1, updated, position, postings.length - position - 1);
+        return updated;
+    }
+
+    static int[] intersect(int[] left, int[] right) {
+        int[] result = new int[Math.min(left.length, right.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] == right[j]) {
+                result[size++] = left[i];
+                i++;
+                j++;
+            } else if (left[i] < right[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    static int[] union(int[] left, int[] right) {
+        int[] result = new int[left.length + right.length];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length || j < right.length) {
+            int next;
+            if (j >= right.length || (i < left.length && left[i] < right[j])) {
+                next = left[i++];
+            } else if (i >= left.length || right[j] < left[i]) {
+                next = right[j++];
+            } else {
+                next = left[i++];
+                j++;
+            }
+            result[size++] = next;
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    static final class Builder {
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        int[] build() {
+            int[] sorted = Arrays.copyOf(ids, size);
+            Arrays.sort(sorted);
+            int distinct = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) {
+                    sorted[distinct++] = sorted[i];
+                }
+            }
+            return distinct == sorted.length ? sorted : Arrays.copyOf(sorted, distinct);
+        }
+    }
+}
@@ -0,0 +1,361 @@
+package com.ecommerce.backend.shop.product.search;
+
+import com.ecommerce.backend.shop.product.CategoryDictionary;
+import com.ecommerce.backend.shop.product.Product;
+import com.ecommerce.backend.shop.product.ProductChangedEvent;
+import com.ecommerce.backend.shop.product.ProductRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntPredicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ProductSearchIndex {
+    private static final Logger log = LoggerFactory.getLogger(ProductSearchIndex.class);
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int NAME_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final double PREFIX_MATCH_FACTOR = 0.5;
+    private static final Comparator<ScoredProduct> BEST_FIRST = Comparator
+            .comparingDouble(ScoredProduct::score).reversed()
+            .thenComparingInt(ScoredProduct::id);
+
+    private final ProductRepository productRepository;
+    private final CategoryDictionary categoryDictionary;
+    private final ApplicationEventPublisher eventPublisher;
+    // Not a monitor: rebuild() reads the whole catalog from Mongo while holding it, which would pin a virtual thread.
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile Segment segment;
+    private volatile boolean ready;
+    private volatile RankedCatalog ranked;
+
+    public ProductSearchIndex(
+            ProductRepository productRepository,
+            CategoryDictionary categoryDictionary,
+            ApplicationEventPublisher eventPublisher
+    ) {
+        this.productRepository = productRepository;
+        this.categoryDictionary = categoryDictionary;
+        this.eventPublisher = eventPublisher;
+        this.segment = new Segment(categoryDictionary);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!ready) {
+            eventPublisher.publishEvent(new SearchIndexUpdatedEvent(event));
+            return;
+        }
+        if (event.affectsWholeCatalog()) {
+            rebuild();
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            Segment current = segment;
+            IndexedProduct removed = current.documents.get(event.productId());
+            IndexedProduct added = event.isDeletion() ? null : current.document(event.product());
+            // Add the new postings before dropping stale ones, so a concurrent search never misses a live product.
+            if (added != null) {
+                current.add(added);
+            }
+            current.retire(removed, added);
+            RankedCatalog currentRanking = ranked;
+            if (currentRanking != null) {
+                ranked = currentRanking.replace(
+                        removed == null ? null : removed.product(),
+                        removed == null ? CategoryDictionary.UNKNOWN : removed.categoryCode(),
+                        added == null ? null : added.product(),
+                        added == null ? CategoryDictionary.UNKNOWN : added.categoryCode()
+                );
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        eventPublisher.publishEvent(new SearchIndexUpdatedEvent(event));
+    }
+
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        writeLock.lock();
+        try {
+            segment = Segment.load(categoryDictionary, productRepository.findAll());
+            ranked = null;
+            ready = true;
+        } finally {
+            writeLock.unlock();
+        }
+        log.info("Indexed {} products for search in {} ms", size(), (System.nanoTime() - startedAt) / 1_000_000);
+        eventPublisher.publishEvent(new SearchIndexUpdatedEvent(ProductChangedEvent.catalogReloaded()));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return segment.documents.size();
+    }
+
+    public Product getProduct(int id) {
+        IndexedProduct document = segment.documents.get(id);
+        return document == null ? null : document.product();
+    }
+
+    public IntPredicate categoryFilter(int categoryCode) {
+        IdBitmap bitmap = segment.categories.get(categoryCode);
+        return bitmap == null ? id -> false : bitmap::contains;
+    }
+
+    public List<Product> topRated(Integer categoryCode, Integer minPrice, Integer maxPrice, int limit) {
+        RankedCatalog current = ranked;
+        if (current == null) {
+            writeLock.lock();
+            try {
+                current = ranked;
+                if (current == null) {
+                    Map<Integer, IndexedProduct> documents = segment.documents;
+                    current = RankedCatalog.build(
+                            documents.values().stream().map(IndexedProduct::product).toList(),
+                            product -> documents.get(product.getId()).categoryCode()
+                    );
+                    ranked = current;
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        }
+        return current.top(categoryCode, minPrice, maxPrice, limit);
+    }
+
+    public Map<String, Integer> facetCounts(int[] ids) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        Map<Integer, IdBitmap> categories = segment.categories;
+        for (int code = 0; code < categoryDictionary.size(); code++) {
+            IdBitmap bitmap = categories.get(code);
+            int count = bitmap == null ? 0 : ids == null ? bitmap.cardinality() : bitmap.countIn(ids);
+            if (count > 0) {
+                counts.put(categoryDictionary.nameOf(code), count);
+            }
+        }
+        return counts;
+    }
+
+    public int[] matchIds(String query) {
+        Segment current = segment;
+        List<String> terms = SearchTokenizer.tokenize(query);
+        if (terms.isEmpty()) {
+            return PostingLists.EMPTY;
+        }
+
+        int[] matched = null;
+        for (String term : terms) {
+            int[] postings = current.postingsFor(term);
+            matched = matched == null ? postings : PostingLists.intersect(matched, postings);
+            if (matched.length == 0) {
+                break;
+            }
+        }
+        return matched;
+    }
+
+    public List<Product> search(String query, IntPredicate filter, int limit) {
+        Segment current = segment;
+        return current.rank(matchIds(query), SearchTokenizer.tokenize(query), filter, limit);
+    }
+
+    public List<Product> searchAny(String query, IntPredicate filter, int limit) {
+        Segment current = segment;
+        List<String> terms = SearchTokenizer.tokenize(query);
+        int[] matched = PostingLists.EMPTY;
+        for (String term : terms) {
+            matched = PostingLists.union(matched, current.postingsFor(term));
+        }
+        return current.rank(matched, terms, filter, limit);
+    }
+
+    private static final class Segment {
+        private final CategoryDictionary categoryDictionary;
+        private final ConcurrentSkipListMap<String, int[]> postings = new ConcurrentSkipListMap<>();
+        private final Map<Integer, IndexedProduct> documents = new ConcurrentHashMap<>();
+        private final Map<Integer, IdBitmap> categories = new ConcurrentHashMap<>();
+
+        Segment(CategoryDictionary categoryDictionary) {
+            this.categoryDictionary = categoryDictionary;
+        }
+
+        static Segment load(CategoryDictionary categoryDictionary, Iterable<Product> products) {
+            // Collect postings per term and freeze them once; inserting one id at a time copies the list per product.
+            Segment loaded = new Segment(categoryDictionary);
+            Map<String, PostingLists.Builder> builders = new HashMap<>();
+            for (Product product : products) {
+                IndexedProduct document = loaded.document(product);
+                if (document == null) {
+                    continue;
+                }
+                loaded.store(document);
+                int id = product.getId();
+                for (String term : document.terms()) {
+                    builders.computeIfAbsent(term, key -> new PostingLists.Builder()).add(id);
+                }
+            }
+            builders.forEach((term, builder) -> loaded.postings.put(term, builder.build()));
+            return loaded;
+        }
+
+        void add(IndexedProduct document) {
+            int id = document.product().getId();
+            for (String term : document.terms()) {
+                postings.compute(term, (key, existing) -> PostingLists.insert(existing, id));
+            }
+            store(document);
+        }
+
+        // Drops what previous indexed and replacement does not; replacement is null when the product is gone.
+        void retire(IndexedProduct previous, IndexedProduct replacement) {
+            if (previous == null) {
+                return;
+            }
+            int id = previous.product().getId();
+            if (replacement == null) {
+                documents.remove(id, previous);
+            }
+            if (replacement == null || replacement.categoryCode() != previous.categoryCode()) {
+                IdBitmap bitmap = categories.get(previous.categoryCode());
+                if (bitmap != null) {
+                    bitmap.remove(id);
+                }
+            }
+            for (String term : previous.terms()) {
+                if (replacement == null || Arrays.binarySearch(replacement.terms(), term) < 0) {
+                    postings.computeIfPresent(term, (key, existing) -> PostingLists.remove(existing, id));
+                }
+            }
+        }
+
+        IndexedProduct document(Product product) {
+            if (product == null || product.getId() == null) {
+                return null;
+            }
+
+            TreeMap<String, Integer> weights = new TreeMap<>();
+            SearchTokenizer.tokenize(product.getName()).forEach(term -> weights.merge(term, NAME_WEIGHT, Integer::sum));
+            SearchTokenizer.tokenize(product.getDescription()).forEach(term -> weights.merge(term, DESCRIPTION_WEIGHT, Integer::sum));
+
+            String[] terms = weights.keySet().toArray(String[]::new);
+            int[] termWeights = weights.values().stream().mapToInt(Integer::intValue).toArray();
+            int categoryCode = categoryDictionary.register(product.getCategory());
+            String category = categoryDictionary.nameOf(categoryCode);
+            // The product may be shared with the caller or ProductCache, so the canonical spelling goes on a copy.
+            Product indexed = category == null || category.equals(product.getCategory())
+                    ? product
+                    : new Product(product.getId(), product.getName(), category, product.getDescription(),
+                            product.getPrice(), product.getRating());
+            return new IndexedProduct(indexed, categoryCode, terms, termWeights);
+        }
+
+        private void store(IndexedProduct document) {
+            int id = document.product().getId();
+            if (document.categoryCode() != CategoryDictionary.UNKNOWN) {
+                categories.computeIfAbsent(document.categoryCode(), code -> new IdBitmap()).add(id);
+            }
+            documents.put(id, document);
+        }
+
+        int[] postingsFor(String term) {
+            if (term.length() < MIN_PREFIX_LENGTH) {
+                return postings.getOrDefault(term, PostingLists.EMPTY);
+            }
+
+            int[] merged = PostingLists.EMPTY;
+            for (int[] list : postings.subMap(term, true, term + Character.MAX_VALUE, false).values()) {
+                merged = merged.length == 0 ? list : PostingLists.union(merged, list);
+            }
+            return merged;
+        }
+
+        List<Product> rank(int[] ids, List<String> queryTerms, IntPredicate filter, int limit) {
+            int documentCount = documents.size();
+            PriorityQueue<ScoredProduct> kept = new PriorityQueue<>(BEST_FIRST.reversed());
+            List<ScoredProduct> all = new ArrayList<>();
+            for (int id : ids) {
+                if (filter != null && !filter.test(id)) {
+                    continue;
+                }
+                IndexedProduct document = documents.get(id);
+                if (document == null) {
+                    continue;
+                }
+
+                ScoredProduct scored = new ScoredProduct(id, score(document, queryTerms, documentCount), document.product());
+                if (limit <= 0) {
+                    all.add(scored);
+                    continue;
+                }
+                kept.add(scored);
+                if (kept.size() > limit) {
+                    kept.poll();
+                }
+            }
+
+            List<ScoredProduct> ranked = limit <= 0 ? all : new ArrayList<>(kept);
+            ranked.sort(BEST_FIRST);
+            return ranked.stream().map(ScoredProduct::product).toList();
+        }
+
+        private double score(IndexedProduct document, List<String> queryTerms, int documentCount) {
+            double total = 0;
+            for (String queryTerm : queryTerms) {
+                String[] terms = document.terms();
+                int position = Arrays.binarySearch(terms, queryTerm);
+                if (position >= 0) {
+                    total += document.weights()[position] * inverseFrequency(queryTerm, documentCount);
+                    continue;
+                }
+                if (queryTerm.length() < MIN_PREFIX_LENGTH) {
+                    continue;
+                }
+
+                double best = 0;
+                for (int index = -position - 1; index < terms.length && terms[index].startsWith(queryTerm); index++) {
+                    best = Math.max(best, document.weights()[index] * inverseFrequency(terms[index], documentCount) * PREFIX_MATCH_FACTOR);
+                }
+                total += best;
+            }
+            return total;
+        }
+
+        private double inverseFrequency(String term, int documentCount) {
+            int[] list = postings.get(term);
+            int frequency = list == null ? 0 : list.length;
+            return Math.log(1.0 + (double) documentCount / (1 + frequency));
+        }
+    }
+
+    private record IndexedProduct(Product product, int categoryCode, String[] terms, int[] weights) {
+    }
+
+    private record ScoredProduct(int id, double score, Product product) {
+    }
+}
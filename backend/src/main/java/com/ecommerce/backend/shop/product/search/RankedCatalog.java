@@ -0,0 +1,183 @@
+package com.ecommerce.backend.shop.product.search;
+
+import com.ecommerce.backend.shop.product.Product;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.ToIntFunction;
+
+/** Price- and rating-ordered catalog views, overall and per category, for best-K-within-budget lookups. */
+final class RankedCatalog {
+    static final Comparator<Product> BEST_RATED = Comparator
+            .comparingDouble(Product::getRating).reversed()
+            .thenComparingInt(Product::getPrice)
+            .thenComparing(Product::getId);
+    private static final Comparator<Product> CHEAPEST = Comparator
+            .comparingInt(Product::getPrice)
+            .thenComparing(Product::getId);
+
+    private final Slice all;
+    private final Map<Integer, Slice> byCategory;
+
+    private RankedCatalog(Slice all, Map<Integer, Slice> byCategory) {
+        this.all = all;
+        this.byCategory = byCategory;
+    }
+
+    static RankedCatalog build(Collection<Product> products, ToIntFunction<Product> categoryCode) {
+        Map<Integer, List<Product>> grouped = new HashMap<>();
+        for (Product product : products) {
+            grouped.computeIfAbsent(categoryCode.applyAsInt(product), code -> new ArrayList<>()).add(product);
+        }
+        Map<Integer, Slice> byCategory = new HashMap<>();
+        grouped.forEach((code, members) -> byCategory.put(code, new Slice(members)));
+        return new RankedCatalog(new Slice(products), byCategory);
+    }
+
+    // Copy-on-write: only the overall slice and the affected category slices are touched, and each is patched
+    // with an array copy instead of a re-sort.
+    RankedCatalog replace(Product removed, int removedCategory, Product added, int addedCategory) {
+        Map<Integer, Slice> byCategory = new HashMap<>(this.byCategory);
+        if (removed != null) {
+            byCategory.computeIfPresent(removedCategory, (code, slice) -> slice.replace(removed, null).emptyToNull());
+        }
+        if (added != null) {
+            byCategory.compute(addedCategory, (code, slice) -> slice == null ? new Slice(List.of(added)) : slice.replace(null, added));
+        }
+        return new RankedCatalog(all.replace(removed, added), byCategory);
+    }
+
+    List<Product> top(Integer categoryCode, Integer minPrice, Integer maxPrice, int limit) {
+        Slice slice = categoryCode == null ? all : byCategory.get(categoryCode);
+        if (slice == null || limit <= 0) {
+            return List.of();
+        }
+        return slice.top(minPrice == null ? Integer.MIN_VALUE : minPrice, maxPrice == null ? Integer.MAX_VALUE : maxPrice, limit);
+    }
+
+    private static final class Slice {
+        private final int[] prices;
+        private final Product[] byPrice;
+        private final Product[] byRating;
+
+        Slice(Collection<Product> products) {
+            this.byPrice = products.toArray(Product[]::new);
+            Arrays.sort(byPrice, CHEAPEST);
+            this.prices = Arrays.stream(byPrice).mapToInt(Product::getPrice).toArray();
+            this.byRating = products.toArray(Product[]::new);
+            Arrays.sort(byRating, BEST_RATED);
+        }
+
+        private Slice(Product[] byPrice, Product[] byRating) {
+            this.byPrice = byPrice;
+            this.prices = Arrays.stream(byPrice).mapToInt(Product::getPrice).toArray();
+            this.byRating = byRating;
+        }
+
+        Slice replace(Product removed, Product added) {
+            return new Slice(edit(byPrice, CHEAPEST, removed, added), edit(byRating, BEST_RATED, removed, added));
+        }
+
+        Slice emptyToNull() {
+            return byPrice.length == 0 ? null : this;
+        }
+
+        List<Product> top(int minPrice, int maxPrice, int limit) {
+            int from = firstIndexAtLeast(minPrice);
+            int to = maxPrice == Integer.MAX_VALUE ? prices.length : firstIndexAtLeast(maxPrice + 1);
+            int inRange = to - from;
+            if (inRange <= 0) {
+                return List.of();
+            }
+
+            // Walking the rating order touches about limit * n / inRange entries before it finds enough hits.
+            long expectedWalk = (long) limit * byRating.length / inRange;
+            return inRange <= expectedWalk
+                    ? scanPriceRange(from, to, limit)
+                    : walkRatingOrder(minPrice, maxPrice, Math.min(limit, inRange));
+        }
+
+        private List<Product> scanPriceRange(int from, int to, int limit) {
+            PriorityQueue<Product> kept = new PriorityQueue<>(limit + 1, BEST_RATED.reversed());
+            for (int index = from; index < to; index++) {
+                Product candidate = byPrice[index];
+                if (kept.size() < limit) {
+                    kept.add(candidate);
+                } else if (BEST_RATED.compare(candidate, kept.peek()) < 0) {
+                    kept.poll();
+                    kept.add(candidate);
+                }
+            }
+            List<Product> ranked = new ArrayList<>(kept);
+            ranked.sort(BEST_RATED);
+            return ranked;
+        }
+
+        private List<Product> walkRatingOrder(int minPrice, int maxPrice, int limit) {
+            List<Product> ranked = new ArrayList<>(limit);
+            for (int index = 0; index < byRating.length && ranked.size() < limit; index++) {
+                int price = byRating[index].getPrice();
+                if (price >= minPrice && price <= maxPrice) {
+                    ranked.add(byRating[index]);
+                }
+            }
+            return ranked;
+        }
+
+        private static Product[] edit(Product[] sorted, Comparator<Product> order, Product removed, Product added) {
+            Product[] result = sorted;
+            if (removed != null) {
+                int index = indexOf(result, order, removed);
+                if (index >= 0) {
+                    Product[] shorter = new Product[result.length - 1];
+                    System.arraycopy(result, 0, shorter, 0, index);
+                    System.arraycopy(result, index + 1, shorter, index, result.length - index - 1);
+                    result = shorter;
+                }
+            }
+            if (added != null) {
+                int found = Arrays.binarySearch(result, added, order);
+                int at = found >= 0 ? found : -found - 1;
+                Product[] longer = new Product[result.length + 1];
+                System.arraycopy(result, 0, longer, 0, at);
+                longer[at] = added;
+                System.arraycopy(result, at, longer, at + 1, result.length - at);
+                result = longer;
+            }
+            return result;
+        }
+
+        private static int indexOf(Product[] sorted, Comparator<Product> order, Product product) {
+            int found = Arrays.binarySearch(sorted, product, order);
+            if (found >= 0 && sorted[found].getId().equals(product.getId())) {
+                return found;
+            }
+            // The stored instance was edited in place, so its sort key no longer finds it.
+            for (int index = 0; index < sorted.length; index++) {
+                if (sorted[index].getId().equals(product.getId())) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+
+        private int firstIndexAtLeast(int price) {
+            int low = 0;
+            int high = prices.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (prices[mid] < price) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.ecommerce.backend.shop.product.search;
+
+import com.ecommerce.backend.shop.product.ProductChangedEvent;
+
+/** Published once {@link ProductSearchIndex} serves the state after {@code change}. */
+public record SearchIndexUpdatedEvent(ProductChangedEvent change) {
+}
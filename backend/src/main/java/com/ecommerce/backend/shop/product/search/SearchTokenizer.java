@@ -0,0 +1,32 @@
+package com.ecommerce.backend.shop.product.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class SearchTokenizer {
+
+    private SearchTokenizer() {
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        StringBuilder current = new StringBuilder();
+        for (int index = 0; index < text.length(); index++) {
+            char ch = text.charAt(index);
+            if (Character.isLetterOrDigit(ch)) {
+                current.append(Character.toLowerCase(ch));
+            } else if (!current.isEmpty()) {
+                tokens.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (!current.isEmpty()) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,45 @@
+package com.ecommerce.backend.shop.session;
+
+import com.ecommerce.backend.config.ShopProperties;
+import com.ecommerce.backend.shop.cart.CartItem;
+import com.ecommerce.backend.shop.wishlist.WishlistItem;
+import com.github.benmanes.caffeine.cache.Cache;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSessionActivity {
+    private static final Logger log = LoggerFactory.getLogger(ReactiveSessionActivity.class);
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final Cache<String, Boolean> recentlyTouched;
+
+    public ReactiveSessionActivity(ReactiveMongoTemplate mongoTemplate, ShopProperties shopProperties) {
+        this.mongoTemplate = mongoTemplate;
+        this.recentlyTouched = SessionActivity.recentlyTouched(shopProperties.getSession());
+    }
+
+    public Mono<Void> touch(String sessionId) {
+        return Mono.defer(() -> {
+            if (recentlyTouched.asMap().putIfAbsent(sessionId, Boolean.TRUE) != null) {
+                return Mono.empty();
+            }
+            Update touched = new Update().set("lastTouchedAt", Instant.now());
+            return mongoTemplate.updateMulti(SessionActivity.bySession(sessionId), touched, CartItem.class)
+                    .then(mongoTemplate.updateMulti(SessionActivity.bySession(sessionId), touched, WishlistItem.class))
+                    .then()
+                    .onErrorResume(ex -> {
+                        recentlyTouched.invalidate(sessionId);
+                        log.warn("Could not touch session {}: {}", sessionId, ex.toString());
+                        return Mono.empty();
+                    });
+        });
+    }
+}
@@ -0,0 +1,107 @@
+package com.ecommerce.backend.shop.session;
+
+import com.ecommerce.backend.config.ShopProperties;
+import com.ecommerce.backend.shop.cart.ReactiveCartService;
+import com.ecommerce.backend.shop.order.ReactiveOrderService;
+import com.ecommerce.backend.shop.session.dto.SessionBatchRequest;
+import com.ecommerce.backend.shop.session.dto.SessionBatchResponse;
+import com.ecommerce.backend.shop.session.dto.SessionResponse;
+import com.ecommerce.backend.shop.wishlist.ReactiveWishlistService;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSessionService {
+    private static final Logger log = LoggerFactory.getLogger(ReactiveSessionService.class);
+
+    private final ReactiveCartService cartService;
+    private final ReactiveWishlistService wishlistService;
+    private final ReactiveOrderService orderService;
+    private final SessionService sessionService;
+    private final ReactiveSessionActivity sessionActivity;
+    private final ShopProperties.Session settings;
+
+    public ReactiveSessionService(
+            ReactiveCartService cartService,
+            ReactiveWishlistService wishlistService,
+            ReactiveOrderService orderService,
+            SessionService sessionService,
+            ReactiveSessionActivity sessionActivity,
+            ShopProperties shopProperties
+    ) {
+        this.cartService = cartService;
+        this.wishlistService = wishlistService;
+        this.orderService = orderService;
+        this.sessionService = sessionService;
+        this.sessionActivity = sessionActivity;
+        this.settings = shopProperties.getSession();
+    }
+
+    public Mono<SessionResponse> load(String sessionId) {
+        return Mono.defer(() -> {
+            String normalizedSessionId = SessionService.requireSessionId(sessionId);
+            Duration deadline = settings.getDeadline();
+            Map<String, String> errors = new ConcurrentHashMap<>();
+            // Detached: keeping the session alive is not worth a slower bootstrap.
+            sessionActivity.touch(normalizedSessionId).subscribe();
+            return Mono.zip(
+                    part(SessionService.CART, cartService.listItems(normalizedSessionId).collectList(), deadline, errors),
+                    part(SessionService.WISHLIST, wishlistService.listItems(normalizedSessionId).collectList(), deadline, errors),
+                    part(SessionService.ORDERS, orderService.listOrderSummaries(normalizedSessionId, null, settings.getRecentOrders()), deadline, errors)
+            ).map(parts -> {
+                if (errors.size() == 3) {
+                    throw new IllegalStateException("Session data is unavailable. Please try again shortly.");
+                }
+                return new SessionResponse(
+                        normalizedSessionId,
+                        parts.getT1().orElse(null),
+                        parts.getT2().orElse(null),
+                        parts.getT3().orElse(null),
+                        orderedErrors(errors)
+                );
+            });
+        });
+    }
+
+    public Mono<SessionBatchResponse> applyBatch(String sessionId, SessionBatchRequest request) {
+        // Bulk writes go through the blocking repositories.
+        return Mono.fromCallable(() -> sessionService.applyBatch(sessionId, request))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private static <T> Mono<Optional<T>> part(String name, Mono<T> source, Duration deadline, Map<String, String> errors) {
+        return source.map(Optional::of)
+                .timeout(deadline)
+                .onErrorResume(ex -> {
+                    if (ex instanceof TimeoutException) {
+                        errors.put(name, "timed out");
+                    } else {
+                        log.warn("Could not load session {}: {}", name, ex.toString());
+                        errors.put(name, "unavailable");
+                    }
+                    return Mono.just(Optional.empty());
+                });
+    }
+
+    private static Map<String, String> orderedErrors(Map<String, String> errors) {
+        Map<String, String> ordered = new LinkedHashMap<>();
+        for (String part : List.of(SessionService.CART, SessionService.WISHLIST, SessionService.ORDERS)) {
+            if (errors.containsKey(part)) {
+                ordered.put(part, errors.get(part));
+            }
+        }
+        return ordered;
+    }
+}
@@ -0,0 +1,68 @@
+package com.ecommerce.backend.shop.session;
+
+import com.ecommerce.backend.config.ShopProperties;
+import com.ecommerce.backend.shop.cart.CartItem;
+import com.ecommerce.backend.shop.cart.SessionCart;
+import com.ecommerce.backend.shop.wishlist.WishlistItem;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stamps all of a session's cart and wishlist documents, at most once per {@code shop.session.touch-resolution}.
+ */
+@Component
+public class SessionActivity {
+    private static final Logger log = LoggerFactory.getLogger(SessionActivity.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean sessionDocumentCarts;
+    private final Cache<String, Boolean> recentlyTouched;
+
+    public SessionActivity(MongoTemplate mongoTemplate, ShopProperties shopProperties) {
+        this.mongoTemplate = mongoTemplate;
+        this.sessionDocumentCarts = "session-document".equals(shopProperties.getCart().getStorage());
+        this.recentlyTouched = recentlyTouched(shopProperties.getSession());
+    }
+
+    public void touch(String sessionId) {
+        if (recentlyTouched.asMap().putIfAbsent(sessionId, Boolean.TRUE) != null) {
+            return;
+        }
+        Update touched = new Update().set("lastTouchedAt", Instant.now());
+        try {
+            if (sessionDocumentCarts) {
+                mongoTemplate.updateFirst(
+                        Query.query(Criteria.where("_id").is(sessionId)),
+                        new Update().set("updatedAt", Instant.now()),
+                        SessionCart.class
+                );
+            } else {
+                mongoTemplate.updateMulti(bySession(sessionId), touched, CartItem.class);
+            }
+            mongoTemplate.updateMulti(bySession(sessionId), touched, WishlistItem.class);
+        } catch (RuntimeException ex) {
+            // Expiry bookkeeping must not fail the request; the next request for this session tries again.
+            recentlyTouched.invalidate(sessionId);
+            log.warn("Could not touch session {}: {}", sessionId, ex.toString());
+        }
+    }
+
+    static Query bySession(String sessionId) {
+        return Query.query(Criteria.where("sessionId").is(sessionId));
+    }
+
+    static Cache<String, Boolean> recentlyTouched(ShopProperties.Session settings) {
+        return Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(settings.getTouchResolution())
+                .build();
+    }
+}
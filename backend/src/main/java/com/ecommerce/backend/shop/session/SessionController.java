@@ -0,0 +1,34 @@
+package com.ecommerce.backend.shop.session;
+
+import com.ecommerce.backend.shop.session.dto.SessionBatchRequest;
+import com.ecommerce.backend.shop.session.dto.SessionBatchResponse;
+import com.ecommerce.backend.shop.session.dto.SessionResponse;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/session")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class SessionController {
+    private final SessionService sessionService;
+
+    public SessionController(SessionService sessionService) {
+        this.sessionService = sessionService;
+    }
+
+    @GetMapping("/{sessionId}")
+    public SessionResponse load(@PathVariable String sessionId) {
+        return sessionService.load(sessionId);
+    }
+
+    @PostMapping("/{sessionId}/batch")
+    public SessionBatchResponse applyBatch(@PathVariable String sessionId, @Valid @RequestBody SessionBatchRequest request) {
+        return sessionService.applyBatch(sessionId, request);
+    }
+}
@@ -0,0 +1,199 @@
+package com.ecommerce.backend.shop.session;
+
+import com.ecommerce.backend.config.ShopProperties;
+import com.ecommerce.backend.metrics.RequestTimings;
+import com.ecommerce.backend.shop.cart.CartService;
+import com.ecommerce.backend.shop.cart.dto.CartItemResponse;
+import com.ecommerce.backend.shop.dto.CursorPage;
+import com.ecommerce.backend.shop.dto.ItemChange;
+import com.ecommerce.backend.shop.order.OrderService;
+import com.ecommerce.backend.shop.order.dto.OrderSummaryResponse;
+import com.ecommerce.backend.shop.product.Product;
+import com.ecommerce.backend.shop.product.ProductService;
+import com.ecommerce.backend.shop.session.dto.SessionBatchRequest;
+import com.ecommerce.backend.shop.session.dto.SessionBatchResponse;
+import com.ecommerce.backend.shop.session.dto.SessionResponse;
+import com.ecommerce.backend.shop.wishlist.WishlistService;
+import com.ecommerce.backend.shop.wishlist.dto.WishlistItemResponse;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Service;
+
+@Service
+public class SessionService {
+    private static final Logger log = LoggerFactory.getLogger(SessionService.class);
+    static final String CART = "cart";
+    static final String WISHLIST = "wishlist";
+    static final String ORDERS = "orders";
+
+    private final CartService cartService;
+    private final WishlistService wishlistService;
+    private final OrderService orderService;
+    private final ProductService productService;
+    private final SessionActivity sessionActivity;
+    private final ShopProperties.Session settings;
+    private final ThreadPoolExecutor executor;
+
+    public SessionService(
+            CartService cartService,
+            WishlistService wishlistService,
+            OrderService orderService,
+            ProductService productService,
+            SessionActivity sessionActivity,
+            ShopProperties shopProperties,
+            Environment environment
+    ) {
+        this.cartService = cartService;
+        this.wishlistService = wishlistService;
+        this.orderService = orderService;
+        this.productService = productService;
+        this.sessionActivity = sessionActivity;
+        this.settings = shopProperties.getSession();
+        this.executor = new ThreadPoolExecutor(
+                settings.getMaxConcurrent(),
+                settings.getMaxConcurrent(),
+                60,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(settings.getQueueCapacity()),
+                Threading.VIRTUAL.isActive(environment) ? virtualThreads() : namedThreads()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public SessionResponse load(String sessionId) {
+        String normalizedSessionId = requireSessionId(sessionId);
+        long deadlineAt = System.nanoTime() + settings.getDeadline().toNanos();
+        Future<List<CartItemResponse>> cart = submit(() -> cartService.listItems(normalizedSessionId));
+        Future<List<WishlistItemResponse>> wishlist = submit(() -> wishlistService.listItems(normalizedSessionId));
+        Future<CursorPage<OrderSummaryResponse>> orders =
+                submit(() -> orderService.listOrderSummaries(normalizedSessionId, null, settings.getRecentOrders()));
+        touchInBackground(normalizedSessionId);
+
+        Map<String, String> errors = new LinkedHashMap<>();
+        SessionResponse response = new SessionResponse(
+                normalizedSessionId,
+                await(CART, cart, deadlineAt, errors),
+                await(WISHLIST, wishlist, deadlineAt, errors),
+                await(ORDERS, orders, deadlineAt, errors),
+                errors
+        );
+        if (errors.size() == 3) {
+            throw new IllegalStateException("Session data is unavailable. Please try again shortly.");
+        }
+        return response;
+    }
+
+    public SessionBatchResponse applyBatch(String sessionId, SessionBatchRequest request) {
+        String normalizedSessionId = requireSessionId(sessionId);
+        if (request.operations().size() > settings.getMaxBatchOperations()) {
+            throw new IllegalArgumentException("at most " + settings.getMaxBatchOperations() + " operations per batch");
+        }
+
+        List<ItemChange> cartChanges = new ArrayList<>();
+        List<ItemChange> wishlistChanges = new ArrayList<>();
+        for (SessionBatchRequest.Operation operation : request.operations()) {
+            ItemChange change = "remove".equals(operation.action())
+                    ? ItemChange.remove(operation.productId())
+                    : ItemChange.add(operation.productId(), operation.qty() == null ? 1 : operation.qty());
+            (CART.equals(operation.target()) ? cartChanges : wishlistChanges).add(change);
+        }
+        // Reject unknown products before either collection is written.
+        List<ItemChange> all = new ArrayList<>(cartChanges);
+        all.addAll(wishlistChanges);
+        Map<Integer, Product> products = productService.getExistingByIds(ItemChange.addedProductIds(all));
+
+        cartService.applyChanges(normalizedSessionId, cartChanges, products);
+        wishlistService.applyChanges(normalizedSessionId, wishlistChanges, products);
+        return new SessionBatchResponse(cartService.listItems(normalizedSessionId), wishlistService.listItems(normalizedSessionId));
+    }
+
+    public int activeCount() {
+        return executor.getActiveCount();
+    }
+
+    public int queuedCount() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // A FutureTask, unlike supplyAsync's future, interrupts its worker on cancel(true) and so frees the slot.
+    private <T> Future<T> submit(Supplier<T> task) {
+        Supplier<T> propagated = RequestTimings.propagate(task);
+        try {
+            return executor.submit(propagated::get);
+        } catch (RejectedExecutionException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    private void touchInBackground(String sessionId) {
+        try {
+            executor.execute(() -> sessionActivity.touch(sessionId));
+        } catch (RejectedExecutionException ex) {
+            // Skipped under load; the session's next write or bootstrap touches it.
+        }
+    }
+
+    private static <T> T await(String part, Future<T> future, long deadlineAt, Map<String, String> errors) {
+        try {
+            return future.get(Math.max(0, deadlineAt - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            errors.put(part, "timed out");
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RejectedExecutionException) {
+                errors.put(part, "busy");
+            } else {
+                log.warn("Could not load session {}: {}", part, ex.getCause().toString());
+                errors.put(part, "unavailable");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            errors.put(part, "interrupted");
+        }
+        return null;
+    }
+
+    static String requireSessionId(String sessionId) {
+        if (sessionId == null || sessionId.isBlank()) {
+            throw new IllegalArgumentException("sessionId is required");
+        }
+        return sessionId.trim();
+    }
+
+    private static ThreadFactory namedThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "session-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static ThreadFactory virtualThreads() {
+        return new VirtualThreadTaskExecutor("session-").getVirtualThreadFactory();
+    }
+}
@@ -0,0 +1,273 @@
+package com.ecommerce.backend.shop.session;
+
+import com.ecommerce.backend.config.ShopProperties;
+import com.ecommerce.backend.mongo.MongoPoolLoad;
+import com.ecommerce.backend.shop.cart.CartItem;
+import com.ecommerce.backend.shop.cart.SessionCart;
+import com.ecommerce.backend.shop.wishlist.WishlistItem;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.WriteModel;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stamps pre-TTL session documents and deletes or archives stale wishlists in small chunks, yielding to requests.
+ */
+@Component
+public class SessionSweeper {
+    private static final Logger log = LoggerFactory.getLogger(SessionSweeper.class);
+    static final String ARCHIVE_COLLECTION = "wishlist_items_archive";
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoPoolLoad poolLoad;
+    private final ShopProperties.Session settings;
+    private final LongAdder backfilled = new LongAdder();
+    private final LongAdder reclaimedDocuments = new LongAdder();
+    private final LongAdder reclaimedBytes = new LongAdder();
+    private final LongAdder yieldedRuns = new LongAdder();
+    private final Map<String, CollectionSize> sizes = new ConcurrentHashMap<>();
+    private volatile ScheduledExecutorService scheduler;
+
+    public SessionSweeper(MongoTemplate mongoTemplate, MongoPoolLoad poolLoad, ShopProperties shopProperties) {
+        this.mongoTemplate = mongoTemplate;
+        this.poolLoad = poolLoad;
+        this.settings = shopProperties.getSession();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!settings.isSweepEnabled()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "session-sweeper");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        long interval = settings.getSweepInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::sweepQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        ScheduledExecutorService current = scheduler;
+        if (current != null) {
+            current.shutdownNow();
+        }
+    }
+
+    public Sweep sweep() {
+        long startedAt = System.nanoTime();
+        Instant now = Instant.now();
+        Run run = new Run();
+        run.drain(() -> run.backfill(CartItem.class, now));
+        run.drain(() -> run.backfill(WishlistItem.class, now));
+        run.drain(() -> run.sweepWishlists(now.minus(settings.getWishlistTtl())));
+        refreshSizes();
+
+        if (run.yielded) {
+            yieldedRuns.increment();
+        }
+        Sweep sweep = new Sweep(run.backfilled, run.reclaimedDocuments, run.reclaimedBytes, run.yielded);
+        if (sweep.backfilled() > 0 || sweep.reclaimedDocuments() > 0) {
+            log.info("Session sweep stamped {} documents and {} {} wishlist items ({} bytes) in {} ms{}",
+                    sweep.backfilled(), settings.isArchiveWishlists() ? "archived" : "deleted",
+                    sweep.reclaimedDocuments(), sweep.reclaimedBytes(), (System.nanoTime() - startedAt) / 1_000_000,
+                    sweep.yielded() ? "; yielded to foreground traffic" : "");
+        }
+        return sweep;
+    }
+
+    public Stats stats() {
+        return new Stats(backfilled.sum(), reclaimedDocuments.sum(), reclaimedBytes.sum(), yieldedRuns.sum());
+    }
+
+    public List<String> collections() {
+        return List.of(
+                mongoTemplate.getCollectionName(CartItem.class),
+                mongoTemplate.getCollectionName(SessionCart.class),
+                mongoTemplate.getCollectionName(WishlistItem.class)
+        );
+    }
+
+    public CollectionSize size(String collection) {
+        return sizes.getOrDefault(collection, CollectionSize.UNKNOWN);
+    }
+
+    public boolean archivesWishlists() {
+        return settings.isArchiveWishlists();
+    }
+
+    private void sweepQuietly() {
+        try {
+            sweep();
+        } catch (RuntimeException ex) {
+            log.warn("Session sweep failed: {}", ex.toString());
+        }
+    }
+
+    private void refreshSizes() {
+        for (String collection : collections()) {
+            try {
+                Document stats = mongoTemplate.executeCommand(new Document("collStats", collection));
+                sizes.put(collection, new CollectionSize(number(stats, "count"), number(stats, "size")));
+            } catch (RuntimeException ex) {
+                log.debug("Could not read collStats for {}: {}", collection, ex.toString());
+            }
+        }
+    }
+
+    private static long number(Document document, String key) {
+        Object value = document.get(key);
+        return value instanceof Number number ? number.longValue() : 0;
+    }
+
+    final class Run {
+        private int batchesLeft = settings.getSweepMaxBatches();
+        private boolean yielded;
+        private long backfilled;
+        private long reclaimedDocuments;
+        private long reclaimedBytes;
+
+        // Runs chunks until one comes back short, the batch budget is spent or requests are queueing for connections.
+        void drain(IntSupplier chunk) {
+            while (batchesLeft > 0 && !yielded) {
+                if (poolLoad.saturated()) {
+                    yielded = true;
+                    return;
+                }
+                int processed = chunk.getAsInt();
+                batchesLeft--;
+                if (processed < settings.getSweepBatchSize()) {
+                    return;
+                }
+                pause();
+            }
+        }
+
+        int backfill(Class<?> entity, Instant now) {
+            MongoCollection<Document> collection = mongoTemplate.getCollection(mongoTemplate.getCollectionName(entity));
+            Document unstamped = new Document("lastTouchedAt", null);
+            List<Object> ids = collection.find(unstamped)
+                    .projection(new Document("_id", 1))
+                    .limit(settings.getSweepBatchSize())
+                    .map(document -> document.get("_id"))
+                    .into(new ArrayList<>());
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            long stamped = collection.updateMany(
+                    new Document("_id", new Document("$in", ids)).append("lastTouchedAt", null),
+                    new Document("$set", new Document("lastTouchedAt", Date.from(now)))
+            ).getModifiedCount();
+            backfilled += stamped;
+            SessionSweeper.this.backfilled.add(stamped);
+            return ids.size();
+        }
+
+        int sweepWishlists(Instant cutoff) {
+            MongoCollection<RawBsonDocument> items = mongoTemplate
+                    .getCollection(mongoTemplate.getCollectionName(WishlistItem.class))
+                    .withDocumentClass(RawBsonDocument.class);
+            Document stale = new Document("lastTouchedAt", new Document("$lt", Date.from(cutoff)));
+            List<RawBsonDocument> chunk = items.find(stale)
+                    .sort(new Document("lastTouchedAt", 1))
+                    .limit(settings.getSweepBatchSize())
+                    .into(new ArrayList<>());
+            if (chunk.isEmpty()) {
+                return 0;
+            }
+
+            // Archive before deleting so a failed run loses nothing; replacing overwrites copies left by earlier runs.
+            if (settings.isArchiveWishlists()) {
+                archive(chunk);
+            }
+            List<BsonValue> ids = new ArrayList<>(chunk.size());
+            long bytes = 0;
+            for (RawBsonDocument item : chunk) {
+                ids.add(item.get("_id"));
+                bytes += item.getByteBuffer().remaining();
+            }
+            // Re-check staleness: a session touched since the read keeps its items.
+            long deleted = items.deleteMany(new Document("_id", new Document("$in", ids)).append("lastTouchedAt", stale.get("lastTouchedAt")))
+                    .getDeletedCount();
+            if (deleted < chunk.size() && settings.isArchiveWishlists()) {
+                unarchiveSurvivors(items, ids);
+            }
+            long deletedBytes = deleted == chunk.size() ? bytes : bytes * deleted / chunk.size();
+            reclaimedDocuments += deleted;
+            reclaimedBytes += deletedBytes;
+            SessionSweeper.this.reclaimedDocuments.add(deleted);
+            SessionSweeper.this.reclaimedBytes.add(deletedBytes);
+            return chunk.size();
+        }
+
+        private void archive(List<RawBsonDocument> chunk) {
+            List<WriteModel<RawBsonDocument>> replacements = new ArrayList<>(chunk.size());
+            for (RawBsonDocument item : chunk) {
+                replacements.add(new ReplaceOneModel<>(
+                        new Document("_id", item.get("_id")), item, new ReplaceOptions().upsert(true)));
+            }
+            archive().bulkWrite(replacements, new BulkWriteOptions().ordered(false));
+        }
+
+        // Items touched between the read and the delete stay live, so their archived copies go.
+        private void unarchiveSurvivors(MongoCollection<RawBsonDocument> items, List<BsonValue> ids) {
+            List<BsonValue> survivors = new ArrayList<>();
+            for (RawBsonDocument item : items.find(new Document("_id", new Document("$in", ids)))
+                    .projection(new Document("_id", 1))
+                    .into(new ArrayList<>())) {
+                survivors.add(item.get("_id"));
+            }
+            if (!survivors.isEmpty()) {
+                archive().deleteMany(new Document("_id", new Document("$in", survivors)));
+            }
+        }
+
+        private MongoCollection<RawBsonDocument> archive() {
+            return mongoTemplate.getCollection(ARCHIVE_COLLECTION).withDocumentClass(RawBsonDocument.class);
+        }
+
+        private void pause() {
+            try {
+                Thread.sleep(settings.getSweepPause().toMillis());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                yielded = true;
+            }
+        }
+    }
+
+    public record Sweep(long backfilled, long reclaimedDocuments, long reclaimedBytes, boolean yielded) {
+    }
+
+    public record Stats(long backfilled, long reclaimedDocuments, long reclaimedBytes, long yieldedRuns) {
+    }
+
+    public record CollectionSize(long documents, long bytes) {
+        static final CollectionSize UNKNOWN = new CollectionSize(0, 0);
+    }
+}
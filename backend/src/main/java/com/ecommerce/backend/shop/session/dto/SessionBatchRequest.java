@@ -0,0 +1,20 @@
+package com.ecommerce.backend.shop.session.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import java.util.List;
+
+public record SessionBatchRequest(
+        @NotEmpty(message = "operations are required") List<@Valid @NotNull(message = "operation is required") Operation> operations
+) {
+    public record Operation(
+            @NotNull(message = "target is required") @Pattern(regexp = "cart|wishlist", message = "target must be cart or wishlist") String target,
+            @NotNull(message = "action is required") @Pattern(regexp = "add|remove", message = "action must be add or remove") String action,
+            @NotNull(message = "productId is required") Integer productId,
+            @Min(value = 1, message = "qty must be at least 1") Integer qty
+    ) {
+    }
+}
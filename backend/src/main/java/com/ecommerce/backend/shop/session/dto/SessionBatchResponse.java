@@ -0,0 +1,8 @@
+package com.ecommerce.backend.shop.session.dto;
+
+import com.ecommerce.backend.shop.cart.dto.CartItemResponse;
+import com.ecommerce.backend.shop.wishlist.dto.WishlistItemResponse;
+import java.util.List;
+
+public record SessionBatchResponse(List<CartItemResponse> cart, List<WishlistItemResponse> wishlist) {
+}
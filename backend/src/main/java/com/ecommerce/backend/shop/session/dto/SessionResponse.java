@@ -0,0 +1,20 @@
+package com.ecommerce.backend.shop.session.dto;
+
+import com.ecommerce.backend.shop.cart.dto.CartItemResponse;
+import com.ecommerce.backend.shop.dto.CursorPage;
+import com.ecommerce.backend.shop.order.dto.OrderSummaryResponse;
+import com.ecommerce.backend.shop.wishlist.dto.WishlistItemResponse;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A part that failed or missed the deadline is {@code null} and named in {@code errors}.
+ */
+public record SessionResponse(
+        String sessionId,
+        List<CartItemResponse> cart,
+        List<WishlistItemResponse> wishlist,
+        CursorPage<OrderSummaryResponse> orders,
+        Map<String, String> errors
+) {
+}
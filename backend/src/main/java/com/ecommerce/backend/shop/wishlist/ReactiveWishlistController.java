@@ -0,0 +1,56 @@
+package com.ecommerce.backend.shop.wishlist;
+
+import com.ecommerce.backend.shop.dto.CursorPage;
+import com.ecommerce.backend.shop.wishlist.dto.AddWishlistItemRequest;
+import com.ecommerce.backend.shop.wishlist.dto.WishlistItemResponse;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/wishlist")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveWishlistController {
+    private final ReactiveWishlistService wishlistService;
+
+    public ReactiveWishlistController(ReactiveWishlistService wishlistService) {
+        this.wishlistService = wishlistService;
+    }
+
+    @GetMapping
+    public Flux<WishlistItemResponse> listItems(@RequestParam String sessionId) {
+        return wishlistService.listItems(sessionId);
+    }
+
+    @GetMapping("/page")
+    public Mono<CursorPage<WishlistItemResponse>> listItemPage(
+            @RequestParam String sessionId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return wishlistService.listItemPage(sessionId, cursor, limit);
+    }
+
+    @PostMapping("/items")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<WishlistItemResponse> addItem(@Valid @RequestBody AddWishlistItemRequest request) {
+        return wishlistService.addItem(request);
+    }
+
+    @DeleteMapping("/items/{productId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> removeItem(@RequestParam String sessionId, @PathVariable Integer productId) {
+        return wishlistService.removeItem(sessionId, productId);
+    }
+}
@@ -0,0 +1,16 @@
+package com.ecommerce.backend.shop.wishlist;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveWishlistItemRepository extends ReactiveMongoRepository<WishlistItem, String> {
+    Flux<WishlistItem> findBySessionIdOrderByProductIdAsc(String sessionId);
+
+    Flux<WishlistItem> findBySessionIdAndProductIdGreaterThanOrderByProductIdAsc(String sessionId, Integer afterProductId, Limit limit);
+
+    Mono<WishlistItem> findBySessionIdAndProductId(String sessionId, Integer productId);
+
+    Mono<Void> deleteBySessionIdAndProductId(String sessionId, Integer productId);
+}
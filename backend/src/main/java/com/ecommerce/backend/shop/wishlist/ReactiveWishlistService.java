@@ -0,0 +1,76 @@
+package com.ecommerce.backend.shop.wishlist;
+
+import com.ecommerce.backend.shop.dto.CursorPage;
+import com.ecommerce.backend.shop.product.ReactiveProductService;
+import com.ecommerce.backend.shop.session.ReactiveSessionActivity;
+import com.ecommerce.backend.shop.wishlist.dto.AddWishlistItemRequest;
+import com.ecommerce.backend.shop.wishlist.dto.WishlistItemResponse;
+import java.time.Instant;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveWishlistService {
+    private final ReactiveWishlistItemRepository wishlistItemRepository;
+    private final ReactiveProductService productService;
+    private final ReactiveSessionActivity sessionActivity;
+
+    public ReactiveWishlistService(
+            ReactiveWishlistItemRepository wishlistItemRepository,
+            ReactiveProductService productService,
+            ReactiveSessionActivity sessionActivity
+    ) {
+        this.wishlistItemRepository = wishlistItemRepository;
+        this.productService = productService;
+        this.sessionActivity = sessionActivity;
+    }
+
+    public Flux<WishlistItemResponse> listItems(String sessionId) {
+        return Flux.defer(() -> wishlistItemRepository.findBySessionIdOrderByProductIdAsc(WishlistService.requireSessionId(sessionId)))
+                .map(WishlistService::toResponse);
+    }
+
+    public Mono<CursorPage<WishlistItemResponse>> listItemPage(String sessionId, String cursor, Integer limit) {
+        return Mono.defer(() -> {
+            int pageSize = CursorPage.resolveLimit(limit);
+            Integer afterProductId = CursorPage.integerCursor(cursor);
+            return wishlistItemRepository.findBySessionIdAndProductIdGreaterThanOrderByProductIdAsc(
+                            WishlistService.requireSessionId(sessionId),
+                            afterProductId == null ? Integer.MIN_VALUE : afterProductId,
+                            Limit.of(pageSize + 1))
+                    .collectList()
+                    .map(items -> CursorPage.of(items, pageSize, item -> String.valueOf(item.getProductId()), WishlistService::toResponse));
+        });
+    }
+
+    public Mono<WishlistItemResponse> addItem(AddWishlistItemRequest request) {
+        return Mono.defer(() -> {
+            String sessionId = WishlistService.requireSessionId(request.sessionId());
+            return productService.getById(request.productId())
+                    .flatMap(product -> wishlistItemRepository.findBySessionIdAndProductId(sessionId, request.productId())
+                            .switchIfEmpty(Mono.fromSupplier(() -> WishlistService.newItem(sessionId, product))))
+                    .flatMap(item -> {
+                        item.setLastTouchedAt(Instant.now());
+                        return wishlistItemRepository.save(item);
+                    })
+                    .onErrorResume(DuplicateKeyException.class, ex -> wishlistItemRepository
+                            .findBySessionIdAndProductId(sessionId, request.productId())
+                            .switchIfEmpty(Mono.error(ex)))
+                    .flatMap(item -> sessionActivity.touch(sessionId).thenReturn(item))
+                    .map(WishlistService::toResponse);
+        });
+    }
+
+    public Mono<Void> removeItem(String sessionId, Integer productId) {
+        return Mono.defer(() -> {
+            String normalizedSessionId = WishlistService.requireSessionId(sessionId);
+            return wishlistItemRepository.deleteBySessionIdAndProductId(normalizedSessionId, productId)
+                    .then(sessionActivity.touch(normalizedSessionId));
+        });
+    }
+}
@@ -1,9 +1,11 @@
 package com.ecommerce.backend.shop.wishlist;
 
+import com.ecommerce.backend.shop.dto.CursorPage;
 import com.ecommerce.backend.shop.wishlist.dto.AddWishlistItemRequest;
 import com.ecommerce.backend.shop.wishlist.dto.WishlistItemResponse;
 import jakarta.validation.Valid;
 import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,6 +19,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping("/api/wishlist")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class WishlistController {
     private final WishlistService wishlistService;
 
@@ -29,6 +32,15 @@ public class WishlistController {
         return wishlistService.listItems(sessionId);
     }
 
+    @GetMapping("/page")
+    public CursorPage<WishlistItemResponse> listItemPage(
+            @RequestParam String sessionId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return wishlistService.listItemPage(sessionId, cursor, limit);
+    }
+
     @PostMapping("/items")
     @ResponseStatus(HttpStatus.CREATED)
     public WishlistItemResponse addItem(@Valid @RequestBody AddWishlistItemRequest request) {
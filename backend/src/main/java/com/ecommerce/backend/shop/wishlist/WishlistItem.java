@@ -1,9 +1,13 @@
 package com.ecommerce.backend.shop.wishlist;
 
+import java.time.Instant;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Document(collection = "wishlist_items")
+@CompoundIndex(name = "session_product", def = "{'sessionId': 1, 'productId': 1}", unique = true)
 public class WishlistItem {
     @Id
     private String id;
@@ -14,6 +18,8 @@ public class WishlistItem {
     private String description;
     private int price;
     private double rating;
+    @Indexed(name = "last_touched")
+    private Instant lastTouchedAt;
 
     public WishlistItem() {
     }
@@ -99,4 +105,12 @@ public class WishlistItem {
     public void setRating(double rating) {
         this.rating = rating;
     }
+
+    public Instant getLastTouchedAt() {
+        return lastTouchedAt;
+    }
+
+    public void setLastTouchedAt(Instant lastTouchedAt) {
+        this.lastTouchedAt = lastTouchedAt;
+    }
 }
@@ -2,11 +2,14 @@ package com.ecommerce.backend.shop.wishlist;
 
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
-public interface WishlistItemRepository extends MongoRepository<WishlistItem, String> {
+public interface WishlistItemRepository extends MongoRepository<WishlistItem, String>, WishlistItemRepositoryCustom {
     List<WishlistItem> findBySessionIdOrderByProductIdAsc(String sessionId);
 
+    List<WishlistItem> findBySessionIdAndProductIdGreaterThanOrderByProductIdAsc(String sessionId, Integer afterProductId, Limit limit);
+
     Optional<WishlistItem> findBySessionIdAndProductId(String sessionId, Integer productId);
 
     void deleteBySessionIdAndProductId(String sessionId, Integer productId);
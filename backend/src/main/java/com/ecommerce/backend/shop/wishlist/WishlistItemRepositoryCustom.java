@@ -0,0 +1,10 @@
+package com.ecommerce.backend.shop.wishlist;
+
+import com.ecommerce.backend.shop.dto.ItemChange;
+import com.ecommerce.backend.shop.product.Product;
+import java.util.List;
+import java.util.Map;
+
+public interface WishlistItemRepositoryCustom {
+    void applyChanges(String sessionId, List<ItemChange> changes, Map<Integer, Product> products);
+}
@@ -0,0 +1,60 @@
+package com.ecommerce.backend.shop.wishlist;
+
+import com.ecommerce.backend.shop.dto.ItemChange;
+import com.ecommerce.backend.shop.product.Product;
+import com.mongodb.bulk.BulkWriteError;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+class WishlistItemRepositoryCustomImpl implements WishlistItemRepositoryCustom {
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongoTemplate;
+
+    WishlistItemRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void applyChanges(String sessionId, List<ItemChange> changes, Map<Integer, Product> products) {
+        try {
+            write(sessionId, changes, products);
+        } catch (BulkOperationException ex) {
+            // Ordered bulk: a duplicate key means a concurrent add inserted the line first. Resume from it; the
+            // retried upsert matches the line and only stamps it.
+            BulkWriteError first = ex.getErrors().get(0);
+            if (first.getCode() != DUPLICATE_KEY) {
+                throw ex;
+            }
+            write(sessionId, changes.subList(first.getIndex(), changes.size()), products);
+        }
+    }
+
+    private void write(String sessionId, List<ItemChange> changes, Map<Integer, Product> products) {
+        // Adds upsert on (sessionId, productId), so re-adding a wished product leaves a single line.
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, WishlistItem.class);
+        for (ItemChange change : changes) {
+            Query line = Query.query(Criteria.where("sessionId").is(sessionId).and("productId").is(change.productId()));
+            if (change.isRemoval()) {
+                operations.remove(line);
+                continue;
+            }
+            Product product = products.get(change.productId());
+            operations.upsert(line, new Update()
+                    .set("lastTouchedAt", Instant.now())
+                    .setOnInsert("name", product.getName())
+                    .setOnInsert("category", product.getCategory())
+                    .setOnInsert("description", product.getDescription())
+                    .setOnInsert("price", product.getPrice())
+                    .setOnInsert("rating", product.getRating()));
+        }
+        operations.execute();
+    }
+}
@@ -1,59 +1,104 @@
 package com.ecommerce.backend.shop.wishlist;
 
+import com.ecommerce.backend.shop.dto.CursorPage;
+import com.ecommerce.backend.shop.dto.ItemChange;
 import com.ecommerce.backend.shop.product.Product;
 import com.ecommerce.backend.shop.product.ProductService;
+import com.ecommerce.backend.shop.session.SessionActivity;
 import com.ecommerce.backend.shop.wishlist.dto.AddWishlistItemRequest;
 import com.ecommerce.backend.shop.wishlist.dto.WishlistItemResponse;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 @Service
 public class WishlistService {
     private final WishlistItemRepository wishlistItemRepository;
     private final ProductService productService;
+    private final SessionActivity sessionActivity;
 
-    public WishlistService(WishlistItemRepository wishlistItemRepository, ProductService productService) {
+    public WishlistService(
+            WishlistItemRepository wishlistItemRepository,
+            ProductService productService,
+            SessionActivity sessionActivity
+    ) {
         this.wishlistItemRepository = wishlistItemRepository;
         this.productService = productService;
+        this.sessionActivity = sessionActivity;
     }
 
     public List<WishlistItemResponse> listItems(String sessionId) {
         return wishlistItemRepository.findBySessionIdOrderByProductIdAsc(requireSessionId(sessionId)).stream()
-                .map(this::toResponse)
+                .map(WishlistService::toResponse)
                 .collect(Collectors.toList());
     }
 
+    public CursorPage<WishlistItemResponse> listItemPage(String sessionId, String cursor, Integer limit) {
+        int pageSize = CursorPage.resolveLimit(limit);
+        Integer afterProductId = CursorPage.integerCursor(cursor);
+        List<WishlistItem> items = wishlistItemRepository.findBySessionIdAndProductIdGreaterThanOrderByProductIdAsc(
+                requireSessionId(sessionId), afterProductId == null ? Integer.MIN_VALUE : afterProductId, Limit.of(pageSize + 1));
+        return CursorPage.of(items, pageSize, item -> String.valueOf(item.getProductId()), WishlistService::toResponse);
+    }
+
     public WishlistItemResponse addItem(AddWishlistItemRequest request) {
         String sessionId = requireSessionId(request.sessionId());
         Product product = productService.getById(request.productId());
 
         WishlistItem item = wishlistItemRepository.findBySessionIdAndProductId(sessionId, request.productId())
-                .orElseGet(() -> new WishlistItem(
-                        sessionId,
-                        product.getId(),
-                        product.getName(),
-                        product.getCategory(),
-                        product.getDescription(),
-                        product.getPrice(),
-                        product.getRating()
-                ));
+                .orElseGet(() -> newItem(sessionId, product));
+        item.setLastTouchedAt(Instant.now());
 
-        return toResponse(wishlistItemRepository.save(item));
+        WishlistItem saved;
+        try {
+            saved = wishlistItemRepository.save(item);
+        } catch (DuplicateKeyException ex) {
+            // A concurrent add inserted the line first and already stamped it.
+            saved = wishlistItemRepository.findBySessionIdAndProductId(sessionId, request.productId()).orElseThrow(() -> ex);
+        }
+        sessionActivity.touch(sessionId);
+        return toResponse(saved);
     }
 
     public void removeItem(String sessionId, Integer productId) {
-        wishlistItemRepository.deleteBySessionIdAndProductId(requireSessionId(sessionId), productId);
+        String normalizedSessionId = requireSessionId(sessionId);
+        wishlistItemRepository.deleteBySessionIdAndProductId(normalizedSessionId, productId);
+        sessionActivity.touch(normalizedSessionId);
     }
 
-    private static String requireSessionId(String sessionId) {
+    public void applyChanges(String sessionId, List<ItemChange> changes, Map<Integer, Product> products) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        String normalizedSessionId = requireSessionId(sessionId);
+        wishlistItemRepository.applyChanges(normalizedSessionId, changes, products);
+        sessionActivity.touch(normalizedSessionId);
+    }
+
+    static String requireSessionId(String sessionId) {
         if (sessionId == null || sessionId.isBlank()) {
             throw new IllegalArgumentException("sessionId is required");
         }
         return sessionId.trim();
     }
 
-    private WishlistItemResponse toResponse(WishlistItem item) {
+    static WishlistItem newItem(String sessionId, Product product) {
+        return new WishlistItem(
+                sessionId,
+                product.getId(),
+                product.getName(),
+                product.getCategory(),
+                product.getDescription(),
+                product.getPrice(),
+                product.getRating()
+        );
+    }
+
+    static WishlistItemResponse toResponse(WishlistItem item) {
         return new WishlistItemResponse(
                 item.getProductId(),
                 item.getName(),
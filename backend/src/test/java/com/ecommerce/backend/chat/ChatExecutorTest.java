@@ -0,0 +1,45 @@
+package com.ecommerce.backend.chat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ecommerce.backend.config.ChatProperties;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+class ChatExecutorTest {
+
+    @Test
+    void interruptsTheCallOnceTheDeadlinePasses() throws Exception {
+        ChatProperties properties = new ChatProperties();
+        properties.setMaxConcurrent(1);
+        properties.setQueueCapacity(1);
+        properties.setDeadline(Duration.ofMillis(100));
+        ChatExecutor executor = new ChatExecutor(properties, new StandardEnvironment());
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        CompletableFuture<String> reply = executor.submit(() -> {
+            try {
+                Thread.sleep(10_000);
+                return "too late";
+            } catch (InterruptedException ex) {
+                interrupted.countDown();
+                throw new IllegalStateException(ex);
+            }
+        });
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> reply.get(2, TimeUnit.SECONDS));
+        assertInstanceOf(TimeoutException.class, failure.getCause());
+        assertTrue(interrupted.await(2, TimeUnit.SECONDS));
+        assertEquals("next", executor.submit(() -> "next").get(2, TimeUnit.SECONDS));
+        executor.shutdown();
+    }
+}
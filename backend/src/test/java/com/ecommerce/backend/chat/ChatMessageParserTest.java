@@ -0,0 +1,90 @@
+package com.ecommerce.backend.chat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ecommerce.backend.chat.intent.ChatIntent;
+import com.ecommerce.backend.chat.intent.KeywordIntentClassifier;
+import com.ecommerce.backend.config.ChatProperties;
+import com.ecommerce.backend.shop.product.CategoryDictionary;
+import com.ecommerce.backend.shop.product.ShoppingQuery;
+import com.ecommerce.backend.shop.product.ShoppingQueryParser;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ChatMessageParserTest {
+    private final ChatMessageParser parser = new ChatMessageParser(classifier(), new ShoppingQueryParser(new CategoryDictionary()));
+
+    @Test
+    void extractsOrderIdForTracking() {
+        ParsedChatMessage message = parser.parse("track ord01hq3k9z2x4m7p please");
+
+        assertEquals("ORD01HQ3K9Z2X4M7P", message.orderId());
+        assertTrue(message.intent().matches(ChatIntent.ORDER_TRACKING));
+        assertFalse(message.shopping().hasBudget());
+    }
+
+    @Test
+    void doesNotReadOrdinaryWordsAsOrderIds() {
+        assertNull(parser.parse("I ordered a lamp").orderId());
+        assertNull(parser.parse("ordering is slow today").orderId());
+    }
+
+    @Test
+    void extractsBudgetRangesAndCategory() {
+        ShoppingQuery under = parser.parse("Recommend electronics under Rs 2,500").shopping();
+        assertEquals("Electronics", under.category());
+        assertNull(under.minPrice());
+        assertEquals(2500, under.maxPrice());
+
+        ShoppingQuery between = parser.parse("books between 5k and 1000").shopping();
+        assertEquals("Books", between.category());
+        assertEquals(1000, between.minPrice());
+        assertEquals(5000, between.maxPrice());
+
+        ShoppingQuery above = parser.parse("fashion products above 999 kids").shopping();
+        assertEquals(999, above.minPrice());
+        assertNull(above.maxPrice());
+    }
+
+    @Test
+    void ignoresNumbersThatAreNotPrices() {
+        ParsedChatMessage message = parser.parse("is the iphone 15 - 128gb product good?");
+
+        assertFalse(message.shopping().hasBudget());
+        assertNull(message.orderId());
+    }
+
+    @Test
+    void readsWithinAndUpToAsBudgetsOnlyWithACurrencyOrPriceCue() {
+        assertNull(parser.parse("can you deliver within 3 days?").shopping().maxPrice());
+        assertNull(parser.parse("can I order up to 2 items per product?").shopping().maxPrice());
+        assertNull(parser.parse("upto 10 products in my cart").shopping().maxPrice());
+
+        assertEquals(500, parser.parse("books within rs 500").shopping().maxPrice());
+        assertEquals(2000, parser.parse("electronics up to 2k rupees").shopping().maxPrice());
+        assertEquals(40, parser.parse("something upto $40").shopping().maxPrice());
+        assertEquals(1500, parser.parse("shoes within a price of 1500").shopping().maxPrice());
+    }
+
+    @Test
+    void detectsCartCountQuestions() {
+        ParsedChatMessage message = parser.parse("How many items are in my cart?");
+
+        assertTrue(message.asksForCount());
+        assertTrue(message.intent().matches(ChatIntent.CART));
+    }
+
+    private static KeywordIntentClassifier classifier() {
+        ChatProperties properties = new ChatProperties();
+        properties.setIntents(Map.of(
+                ChatIntent.ORDER_TRACKING, List.of("order", "track"),
+                ChatIntent.CART, List.of("cart"),
+                ChatIntent.PRODUCT_SEARCH, List.of("product", "recommend", "electronics", "books", "fashion")
+        ));
+        return new KeywordIntentClassifier(properties);
+    }
+}
@@ -0,0 +1,48 @@
+package com.ecommerce.backend.chat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.ecommerce.backend.config.ChatProperties;
+import com.ecommerce.backend.shop.product.ProductChangedEvent;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ChatResponseCacheTest {
+
+    @Test
+    void replacedReplyIsStillInvalidatedByItsProducts() throws InterruptedException {
+        ChatResponseCache cache = new ChatResponseCache(new ChatProperties());
+        String key = ChatResponseCache.fingerprint("Recommend a lamp", "1:Lamp");
+
+        cache.put(key, "first", List.of(1));
+        cache.put(key, "second", List.of(1));
+        // Removal listeners run asynchronously; let the REPLACED notification land before invalidating.
+        Thread.sleep(200);
+        assertEquals("second", cache.getIfPresent(key));
+
+        cache.onProductChanged(ProductChangedEvent.deleted(1));
+
+        assertNull(cache.getIfPresent(key));
+    }
+
+    @Test
+    void loaderErrorsDoNotStrandLaterCallers() throws Exception {
+        ChatResponseCache cache = new ChatResponseCache(new ChatProperties());
+
+        assertThrows(AssertionError.class, () -> cache.getOrLoad("sync", List.of(), () -> {
+            throw new AssertionError("boom");
+        }));
+        assertThrows(AssertionError.class, () -> cache.getOrLoadAsync("async", List.of(), () -> {
+            throw new AssertionError("boom");
+        }));
+
+        assertEquals("retried", CompletableFuture.supplyAsync(() -> cache.getOrLoad("sync", List.of(), () -> "retried"))
+                .get(2, TimeUnit.SECONDS));
+        assertEquals("retried", cache.getOrLoadAsync("async", List.of(), () -> CompletableFuture.completedFuture("retried"))
+                .get(2, TimeUnit.SECONDS));
+    }
+}
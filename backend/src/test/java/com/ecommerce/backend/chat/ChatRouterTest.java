@@ -0,0 +1,70 @@
+package com.ecommerce.backend.chat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.ecommerce.backend.chat.intent.ChatIntent;
+import com.ecommerce.backend.chat.intent.KeywordIntentClassifier;
+import com.ecommerce.backend.config.ChatProperties;
+import com.ecommerce.backend.shop.product.CategoryDictionary;
+import com.ecommerce.backend.shop.product.Product;
+import com.ecommerce.backend.shop.product.ProductService;
+import com.ecommerce.backend.shop.product.ShoppingQueryParser;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class ChatRouterTest {
+    private final ChatMessageParser parser = new ChatMessageParser(classifier(), new ShoppingQueryParser(new CategoryDictionary()));
+    private final ProductService productService = mock(ProductService.class);
+    private final ChatRouter router = new ChatRouter(null, null, productService);
+
+    @Test
+    void answersBudgetQuestionsForProductSearch() {
+        when(productService.recommendProducts("recommend electronics under rs 2000", 5))
+                .thenReturn(List.of(new Product(1, "Earbuds", "Electronics", "", 1499, 4.4)));
+
+        Optional<String> reply = router.route(parser.parse("recommend electronics under rs 2000"), null);
+
+        assertTrue(reply.isPresent());
+        assertTrue(reply.get().contains("Earbuds | Electronics | Rs 1499"));
+    }
+
+    @Test
+    void keepsFreeTextTermsBesideTheBudget() {
+        when(productService.recommendProducts("recommend wireless headphones under 2000", 5))
+                .thenReturn(List.of(new Product(2, "Wireless Headphones", "Electronics", "", 1899, 4.2)));
+
+        Optional<String> reply = router.route(parser.parse("recommend wireless headphones under 2000"), null);
+
+        assertTrue(reply.isPresent());
+        assertTrue(reply.get().startsWith("Top picks under Rs 2000:"));
+        assertTrue(reply.get().contains("Wireless Headphones | Electronics | Rs 1899"));
+        verify(productService, never()).findInPriceRange(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void leavesOtherIntentsWithABudgetToTheAssistant() {
+        assertEquals(Optional.empty(), router.route(parser.parse("track my order of rs 500 products"), null));
+        assertEquals(Optional.empty(), router.route(parser.parse("how many items under rs 500 are in my cart"), null));
+        verifyNoInteractions(productService);
+    }
+
+    private static KeywordIntentClassifier classifier() {
+        ChatProperties properties = new ChatProperties();
+        properties.setIntents(Map.of(
+                ChatIntent.ORDER_TRACKING, List.of("order", "track"),
+                ChatIntent.CART, List.of("cart"),
+                ChatIntent.PRODUCT_SEARCH, List.of("product", "recommend", "electronics")
+        ));
+        return new KeywordIntentClassifier(properties);
+    }
+}
@@ -0,0 +1,62 @@
+package com.ecommerce.backend.chat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ecommerce.backend.config.DownstreamLimiter;
+import com.ecommerce.backend.config.GeminiHttpClientPool;
+import com.ecommerce.backend.config.GeminiProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.web.client.RestClient;
+
+class GeminiClientStreamTest {
+
+    @ParameterizedTest
+    @EnumSource(GeminiProperties.ClientType.class)
+    void relaysChunksInOrderAsTheyArrive(GeminiProperties.ClientType clientType) throws Exception {
+        try (GeminiStubServer stub = new GeminiStubServer(List.of("Budget ", "phones ", "below Rs 10000"), 20)) {
+            List<String> received = new CopyOnWriteArrayList<>();
+
+            clientFor(stub, clientType).streamReply("budget phones", received::add, () -> false);
+
+            assertEquals(List.of("Budget ", "phones ", "below Rs 10000"), received);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(GeminiProperties.ClientType.class)
+    void stopsReadingUpstreamOnceCancelled(GeminiProperties.ClientType clientType) throws Exception {
+        List<String> chunks = IntStream.range(0, 200).mapToObj(index -> "token" + index + " ").toList();
+        try (GeminiStubServer stub = new GeminiStubServer(chunks, 10)) {
+            List<String> received = new CopyOnWriteArrayList<>();
+
+            clientFor(stub, clientType).streamReply("recommend products", received::add, () -> received.size() >= 3);
+
+            assertEquals(3, received.size());
+            Thread.sleep(200);
+            assertTrue(stub.clientDisconnected());
+            assertTrue(stub.chunksWritten() < chunks.size());
+        }
+    }
+
+    static GeminiClient clientFor(GeminiStubServer stub, GeminiProperties.ClientType clientType) {
+        GeminiProperties properties = new GeminiProperties();
+        properties.setApiKey("test-key");
+        properties.setBaseUrl(stub.baseUrl());
+        properties.getHttp().setClient(clientType);
+        GeminiHttpClientPool pool = GeminiHttpClientPool.create(properties.getHttp());
+        RestClient restClient = RestClient.builder()
+                .baseUrl(stub.baseUrl())
+                .requestFactory(pool.requestFactory())
+                .build();
+        return new GeminiClient(restClient, properties, new ObjectMapper(), new SimpleMeterRegistry(),
+                new DownstreamLimiter("gemini", 4, Duration.ofSeconds(1)));
+    }
+}
@@ -0,0 +1,90 @@
+package com.ecommerce.backend.chat;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class GeminiStubServer implements AutoCloseable {
+    private final HttpServer server;
+    private final List<String> chunks;
+    private final long chunkDelayMillis;
+    private final AtomicInteger chunksWritten = new AtomicInteger();
+    private final AtomicBoolean clientDisconnected = new AtomicBoolean();
+
+    GeminiStubServer(List<String> chunks, long chunkDelayMillis) throws IOException {
+        this.chunks = chunks;
+        this.chunkDelayMillis = chunkDelayMillis;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(Executors.newCachedThreadPool());
+        this.server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    int chunksWritten() {
+        return chunksWritten.get();
+    }
+
+    boolean clientDisconnected() {
+        return clientDisconnected.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        if (exchange.getRequestURI().getPath().endsWith(":streamGenerateContent")) {
+            stream(exchange);
+        } else {
+            reply(exchange);
+        }
+    }
+
+    private void reply(HttpExchange exchange) throws IOException {
+        try {
+            Thread.sleep(chunkDelayMillis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = candidateJson(String.join("", chunks)).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private void stream(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (String chunk : chunks) {
+                out.write(("data: " + candidateJson(chunk) + "\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                chunksWritten.incrementAndGet();
+                Thread.sleep(chunkDelayMillis);
+            }
+        } catch (IOException ex) {
+            clientDisconnected.set(true);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String candidateJson(String text) {
+        return "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"" + text + "\"}]}}]}";
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,50 @@
+package com.ecommerce.backend.chat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ecommerce.backend.config.GeminiProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+class ReactiveGeminiClientStreamTest {
+
+    @Test
+    void relaysChunksInOrderAsTheyArrive() throws Exception {
+        try (GeminiStubServer stub = new GeminiStubServer(List.of("Budget ", "phones ", "below Rs 10000"), 20)) {
+            List<String> received = clientFor(stub).streamReply("budget phones")
+                    .collectList()
+                    .block(Duration.ofSeconds(10));
+
+            assertEquals(List.of("Budget ", "phones ", "below Rs 10000"), received);
+        }
+    }
+
+    @Test
+    void closesUpstreamOnceCancelled() throws Exception {
+        List<String> chunks = IntStream.range(0, 200).mapToObj(index -> "token" + index + " ").toList();
+        try (GeminiStubServer stub = new GeminiStubServer(chunks, 10)) {
+            List<String> received = clientFor(stub).streamReply("recommend products")
+                    .take(3)
+                    .collectList()
+                    .block(Duration.ofSeconds(10));
+
+            assertEquals(3, received.size());
+            Thread.sleep(200);
+            assertTrue(stub.clientDisconnected());
+            assertTrue(stub.chunksWritten() < chunks.size());
+        }
+    }
+
+    private static ReactiveGeminiClient clientFor(GeminiStubServer stub) {
+        GeminiProperties properties = new GeminiProperties();
+        properties.setApiKey("test-key");
+        properties.setBaseUrl(stub.baseUrl());
+        return new ReactiveGeminiClient(WebClient.builder(), properties, new ObjectMapper(), new SimpleMeterRegistry());
+    }
+}
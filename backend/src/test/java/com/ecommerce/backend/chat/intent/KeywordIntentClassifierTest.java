@@ -0,0 +1,46 @@
+package com.ecommerce.backend.chat.intent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ecommerce.backend.config.ChatProperties;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class KeywordIntentClassifierTest {
+    @Test
+    void matchesOverlappingKeywordsInOnePass() {
+        KeywordAutomaton automaton = KeywordAutomaton.builder()
+                .add("he", 1L)
+                .add("she", 2L)
+                .add("his", 4L)
+                .add("hers", 8L)
+                .build();
+
+        assertEquals(1L | 2L | 8L, automaton.match("USHERS"));
+        assertEquals(4L, automaton.match("this"));
+        assertEquals(0L, automaton.match("xyz"));
+    }
+
+    @Test
+    void classifiesConfiguredIntents() {
+        ChatProperties properties = new ChatProperties();
+        properties.setIntents(Map.of(
+                ChatIntent.ORDER_TRACKING, List.of("track", "order"),
+                ChatIntent.PAYMENT, List.of("upi"),
+                ChatIntent.PRODUCT_SEARCH, List.of("product", "budget")
+        ));
+        KeywordIntentClassifier classifier = new KeywordIntentClassifier(properties);
+
+        IntentMatch match = classifier.classify("Can I TRACK my order paid by UPI?");
+        assertEquals(Set.of(ChatIntent.ORDER_TRACKING, ChatIntent.PAYMENT), match.intents());
+        assertEquals(Optional.of(ChatIntent.ORDER_TRACKING), match.primary());
+        assertTrue(classifier.classify("products under my budget").matches(ChatIntent.PRODUCT_SEARCH));
+        assertFalse(classifier.classify("what is the weather today").isEcommerce());
+        assertFalse(classifier.classify(null).isEcommerce());
+    }
+}
@@ -0,0 +1,54 @@
+package com.ecommerce.backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class DownstreamLimiterTest {
+    @Test
+    void rejectsCallersThatWaitPastTheTimeout() {
+        DownstreamLimiter limiter = new DownstreamLimiter("mongo", 1, Duration.ofMillis(20));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        limiter.bindTo(registry);
+
+        try (DownstreamLimiter.Permit permit = limiter.acquire()) {
+            assertEquals(1, limiter.inUse());
+            assertThrows(DownstreamLimiter.DownstreamBusyException.class, limiter::acquire);
+        }
+
+        assertEquals(0, limiter.inUse());
+        assertEquals(1.0, registry.get("downstream.calls.rejected").tag("downstream", "mongo").functionCounter().count());
+        limiter.acquire().close();
+    }
+
+    @Test
+    void reportsQueuedCallers() throws Exception {
+        DownstreamLimiter limiter = new DownstreamLimiter("gemini", 1, Duration.ofSeconds(5));
+        DownstreamLimiter.Permit held = limiter.acquire();
+        CountDownLatch acquired = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            try (DownstreamLimiter.Permit permit = limiter.acquire()) {
+                acquired.countDown();
+            }
+        });
+        waiter.start();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (limiter.waiting() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(1, limiter.waiting());
+
+        held.close();
+        assertTrue(acquired.await(2, TimeUnit.SECONDS));
+        waiter.join();
+        assertEquals(0, limiter.waiting());
+        assertEquals(0, limiter.inUse());
+    }
+}
@@ -0,0 +1,51 @@
+package com.ecommerce.backend.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+class EndpointTimingInterceptorTest {
+
+    @Test
+    void timesEachControllerMethodAndChargesWorkDoneOnWorkerThreads() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        EndpointTimingInterceptor interceptor = new EndpointTimingInterceptor(registry, Duration.ofMinutes(1));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HandlerMethod handler = new HandlerMethod(new SampleController(), SampleController.class.getMethod("listProducts"));
+
+        interceptor.preHandle(request, response, handler);
+        RequestTimings.recordMongo(2_000_000);
+        Runnable worker = RequestTimings.propagate(() -> RequestTimings.recordGemini(5_000_000));
+        CompletableFuture.runAsync(worker).get();
+        interceptor.afterCompletion(request, response, handler, null);
+
+        Timer timer = registry.find("shop.endpoint.requests")
+                .tags("endpoint", "SampleController.listProducts", "status", "200")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+        assertNull(RequestTimings.current());
+
+        RequestTimings timings = (RequestTimings) request.getAttribute(EndpointTimingInterceptor.TIMINGS_ATTRIBUTE);
+        String breakdown = timings.breakdown(System.nanoTime());
+        assertTrue(breakdown.contains("mongo 2 ms in 1 commands"), breakdown);
+        assertTrue(breakdown.contains("gemini 5 ms"), breakdown);
+    }
+
+    static class SampleController {
+        public String listProducts() {
+            return "ok";
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.ecommerce.backend.mongo;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ecommerce.backend.shop.cart.CartItem;
+import java.util.ArrayList;
+import java.util.List;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.util.TypeInformation;
+
+class IndexCoverageTest {
+    @Test
+    void everyRepositoryQueryHasADeclaredIndex() {
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(new MongoCustomConversions(List.of()).getSimpleTypeHolder());
+        MongoPersistentEntityIndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+        List<String> unsupported = new ArrayList<>();
+        for (QueryShape shape : RepositoryQueryShapes.all()) {
+            List<Document> declared = new ArrayList<>();
+            declared.add(new Document("_id", 1));
+            for (IndexDefinition definition : resolver.resolveIndexFor(TypeInformation.of(shape.entity()))) {
+                declared.add(definition.getIndexKeys());
+            }
+            if (declared.stream().noneMatch(keys -> IndexCoverage.supports(keys, shape))) {
+                unsupported.add(shape.name());
+            }
+        }
+
+        assertTrue(unsupported.isEmpty(), "No declared index for " + unsupported);
+    }
+
+    @Test
+    void rejectsIndexesThatWouldScanOrSortInMemory() {
+        QueryShape sortedBySession = QueryShape.of("sorted", CartItem.class,
+                new Document("sessionId", "s"), new Document("productId", 1));
+
+        assertTrue(IndexCoverage.supports(new Document("sessionId", 1).append("productId", -1), sortedBySession));
+        assertFalse(IndexCoverage.supports(new Document("sessionId", 1), sortedBySession));
+        assertFalse(IndexCoverage.supports(new Document("productId", 1).append("sessionId", 1), sortedBySession));
+        assertFalse(IndexCoverage.supports(new Document("_id", 1), QueryShape.of("scan", CartItem.class, new Document("sessionId", "s"))));
+        assertFalse(IndexCoverage.supports(
+                new Document("sessionId", 1).append("createdAt", -1).append("_id", 1),
+                QueryShape.of("mixed", CartItem.class, new Document("sessionId", "s"), new Document("createdAt", -1).append("_id", -1))));
+    }
+}
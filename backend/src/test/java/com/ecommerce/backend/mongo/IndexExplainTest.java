@@ -0,0 +1,77 @@
+package com.ecommerce.backend.mongo;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.ecommerce.backend.config.ShopProperties;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/**
+ * Runs {@code explain} for every declared repository query against a real server and fails on
+ * collection scans or blocking sorts. Skipped when no MongoDB is reachable.
+ */
+class IndexExplainTest {
+    private static final String DATABASE = "ecommerce_index_explain_test";
+
+    private static MongoClient client;
+    private static MongoTemplate mongoTemplate;
+
+    @BeforeAll
+    static void connect() {
+        String uri = System.getenv().getOrDefault("MONGODB_URI", "mongodb://localhost:27017");
+        client = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(uri))
+                .applyToClusterSettings(cluster -> cluster.serverSelectionTimeout(1, TimeUnit.SECONDS))
+                .build());
+        try {
+            client.getDatabase("admin").runCommand(new Document("ping", 1));
+        } catch (RuntimeException ex) {
+            client.close();
+            client = null;
+        }
+        assumeTrue(client != null, "MongoDB is not reachable at " + uri);
+        mongoTemplate = new MongoTemplate(client, DATABASE);
+        mongoTemplate.getDb().drop();
+    }
+
+    @AfterAll
+    static void disconnect() {
+        if (client != null) {
+            mongoTemplate.getDb().drop();
+            client.close();
+        }
+    }
+
+    @Test
+    void repositoryQueriesUseIndexes() {
+        IndexManager indexManager = new IndexManager(mongoTemplate, new ShopProperties());
+        indexManager.ensureIndexes();
+        assertTrue(indexManager.verify(ShopProperties.Indexes.VerifyMode.WARN).isEmpty());
+
+        List<String> scans = new ArrayList<>();
+        for (QueryShape shape : RepositoryQueryShapes.all()) {
+            String collection = mongoTemplate.getCollectionName(shape.entity());
+            mongoTemplate.getCollection(collection).insertOne(new Document("probe", true));
+            Document explain = mongoTemplate.getCollection(collection).find(shape.filter()).sort(shape.sort()).explain();
+            String winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class).toJson();
+            if (winningPlan.contains("COLLSCAN") || winningPlan.contains("\"SORT\"")) {
+                scans.add(shape.name() + " -> " + winningPlan);
+            }
+        }
+
+        assertTrue(scans.isEmpty(), "Queries without index support: " + scans);
+        assertFalse(indexManager.usage().isEmpty());
+    }
+}
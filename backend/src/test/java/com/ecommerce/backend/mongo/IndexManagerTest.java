@@ -0,0 +1,96 @@
+package com.ecommerce.backend.mongo;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ecommerce.backend.config.ShopProperties;
+import com.ecommerce.backend.shop.cart.CartItem;
+import com.mongodb.MongoCommandException;
+import com.mongodb.ServerAddress;
+import java.time.Duration;
+import java.util.List;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.UncategorizedMongoDbException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+class IndexManagerTest {
+    private static final Duration CART_TTL = Duration.ofDays(7);
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final IndexOperations cartIndexes = mock(IndexOperations.class);
+
+    @Test
+    void cartLinesGetTheConfiguredTtl() {
+        manager().ensureIndexes();
+
+        ArgumentCaptor<IndexDefinition> definitions = ArgumentCaptor.forClass(IndexDefinition.class);
+        verify(cartIndexes, atLeastOnce()).ensureIndex(definitions.capture());
+        IndexDefinition expiring = definitions.getAllValues().stream()
+                .filter(definition -> definition.getIndexKeys().containsKey("lastTouchedAt"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("last_touched", expiring.getIndexOptions().getString("name"));
+        assertEquals(CART_TTL.toSeconds(), expiring.getIndexOptions().get("expireAfterSeconds", Number.class).longValue());
+        verify(mongoTemplate, never()).executeCommand(any(Document.class));
+    }
+
+    @Test
+    void changedTtlIsAppliedInPlace() {
+        BsonDocument conflict = new BsonDocument("ok", new BsonInt32(0))
+                .append("code", new BsonInt32(85))
+                .append("errmsg", new BsonString("An equivalent index already exists with different options"));
+        doThrow(new UncategorizedMongoDbException("conflict", new MongoCommandException(conflict, new ServerAddress())))
+                .when(cartIndexes)
+                .ensureIndex(argThat(definition -> definition.getIndexOptions().containsKey("expireAfterSeconds")));
+
+        manager().ensureIndexes();
+
+        ArgumentCaptor<Document> command = ArgumentCaptor.forClass(Document.class);
+        verify(mongoTemplate).executeCommand(command.capture());
+        assertEquals("cart_items", command.getValue().getString("collMod"));
+        Document index = command.getValue().get("index", Document.class);
+        assertEquals("last_touched", index.getString("name"));
+        assertEquals(CART_TTL.toSeconds(), index.getLong("expireAfterSeconds"));
+    }
+
+    @Test
+    void otherIndexConflictsAreNotSwallowed() {
+        doThrow(new UncategorizedMongoDbException("conflict", new IllegalStateException("boom")))
+                .when(cartIndexes)
+                .ensureIndex(argThat(definition -> definition.getIndexOptions().containsKey("expireAfterSeconds")));
+
+        IndexManager manager = manager();
+        assertThrows(UncategorizedMongoDbException.class, manager::ensureIndexes);
+    }
+
+    private IndexManager manager() {
+        ShopProperties properties = new ShopProperties();
+        properties.getSession().setCartTtl(CART_TTL);
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(new MongoCustomConversions(List.of()).getSimpleTypeHolder());
+        when(mongoTemplate.getConverter()).thenReturn(new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext));
+        when(mongoTemplate.indexOps(any(Class.class))).thenReturn(mock(IndexOperations.class));
+        when(mongoTemplate.indexOps(CartItem.class)).thenReturn(cartIndexes);
+        when(mongoTemplate.getCollectionName(CartItem.class)).thenReturn("cart_items");
+        return new IndexManager(mongoTemplate, properties);
+    }
+}
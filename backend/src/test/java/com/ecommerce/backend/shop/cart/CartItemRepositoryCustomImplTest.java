@@ -0,0 +1,68 @@
+package com.ecommerce.backend.shop.cart;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ecommerce.backend.shop.dto.ItemChange;
+import com.ecommerce.backend.shop.product.Product;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+class CartItemRepositoryCustomImplTest {
+    private static final Map<Integer, Product> PRODUCTS = Map.of(
+            1, new Product(1, "Lamp", "Home", "Desk lamp", 500, 4.5),
+            2, new Product(2, "Mug", "Home", "Tea mug", 200, 4.1)
+    );
+    private static final List<ItemChange> CHANGES = List.of(ItemChange.add(1, 1), ItemChange.add(2, 3), ItemChange.remove(3));
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final BulkOperations first = mock(BulkOperations.class);
+    private final BulkOperations retry = mock(BulkOperations.class);
+    private final CartItemRepositoryCustomImpl repository = new CartItemRepositoryCustomImpl(mongoTemplate);
+
+    @Test
+    void resumesFromTheLineAConcurrentUpsertInserted() {
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, CartItem.class)).thenReturn(first, retry);
+        when(first.execute()).thenThrow(bulkFailure(11000, 1));
+
+        repository.applyChanges("s-1", CHANGES, PRODUCTS);
+
+        verify(first, times(2)).upsert(any(Query.class), any(Update.class));
+        verify(retry, times(1)).upsert(any(Query.class), any(Update.class));
+        verify(retry, times(1)).remove(any(Query.class));
+        verify(retry).execute();
+    }
+
+    @Test
+    void otherWriteErrorsAreNotRetried() {
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, CartItem.class)).thenReturn(first, retry);
+        when(first.execute()).thenThrow(bulkFailure(121, 1));
+
+        assertThrows(BulkOperationException.class, () -> repository.applyChanges("s-1", CHANGES, PRODUCTS));
+        verify(retry, never()).execute();
+    }
+
+    static BulkOperationException bulkFailure(int code, int index) {
+        BulkWriteError error = new BulkWriteError(code, "write failed", new BsonDocument(), index);
+        MongoBulkWriteException source = new MongoBulkWriteException(
+                BulkWriteResult.unacknowledged(), List.of(error), null, new ServerAddress(), Set.of());
+        return new BulkOperationException("write failed", source);
+    }
+}
@@ -0,0 +1,115 @@
+package com.ecommerce.backend.shop.cart;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ecommerce.backend.config.ShopProperties;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+class CartMigrationJobTest {
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final BulkOperations operations = mock(BulkOperations.class);
+
+    @Test
+    void mergesLinesIntoACartThatAlreadyExists() {
+        givenLines(line("a", "s-1", 1, 2), line("b", "s-1", 2, 1));
+
+        assertEquals(1, job(true).migrate());
+
+        ArgumentCaptor<Update> upsert = ArgumentCaptor.forClass(Update.class);
+        verify(operations).upsert(any(Query.class), upsert.capture());
+        Document onInsert = (Document) upsert.getValue().getUpdateObject().get("$setOnInsert");
+        assertEquals(List.of(), onInsert.get("items"));
+
+        ArgumentCaptor<Query> filters = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(operations, times(4)).updateOne(filters.capture(), updates.capture());
+        assertEquals(1, filters.getAllValues().get(0).getQueryObject().get("items.productId"));
+        assertEquals(new Document("items.$.qty", 2), updates.getAllValues().get(0).getUpdateObject().get("$inc"));
+        assertEquals(new Document("$ne", 1), filters.getAllValues().get(1).getQueryObject().get("items.productId"));
+        assertTrue(updates.getAllValues().get(1).getUpdateObject().containsKey("$push"));
+
+        assertEquals(List.of("a", "b"), removedIds());
+    }
+
+    @Test
+    void deletesOnlyTheLinesWhoseWritesWereConfirmed() {
+        givenLines(line("a", "s-1", 1, 2), line("b", "s-1", 2, 1), line("c", "s-2", 3, 1));
+        // Ops: 0 upsert s-1, 1-2 line a, 3-4 line b, 5 upsert s-2, 6-7 line c. Fail the push for line b.
+        when(operations.execute()).thenThrow(bulkFailure(4));
+
+        assertEquals(0, job(true).migrate());
+
+        assertEquals(List.of("a"), removedIds());
+    }
+
+    @Test
+    void marksKeptLinesSoARerunSkipsThem() {
+        givenLines(line("a", "s-1", 1, 2));
+
+        job(false).migrate();
+
+        ArgumentCaptor<Query> source = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).stream(source.capture(), eq(CartItem.class));
+        assertEquals(new Document("$exists", false), source.getValue().getQueryObject().get(CartMigrationJob.MIGRATED_AT));
+        verify(mongoTemplate, never()).remove(any(Query.class), eq(CartItem.class));
+        ArgumentCaptor<Update> mark = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateMulti(any(Query.class), mark.capture(), eq(CartItem.class));
+        assertFalse(((Document) mark.getValue().getUpdateObject().get("$set")).isEmpty());
+    }
+
+    private CartMigrationJob job(boolean deleteMigratedItems) {
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, SessionCart.class)).thenReturn(operations);
+        ShopProperties properties = new ShopProperties();
+        properties.getCart().setDeleteMigratedItems(deleteMigratedItems);
+        return new CartMigrationJob(mongoTemplate, properties);
+    }
+
+    private void givenLines(CartItem... items) {
+        when(mongoTemplate.stream(any(Query.class), eq(CartItem.class))).thenReturn(Stream.of(items));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> removedIds() {
+        ArgumentCaptor<Query> removed = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).remove(removed.capture(), eq(CartItem.class));
+        Document id = (Document) removed.getValue().getQueryObject().get("_id");
+        return (List<String>) id.get("$in");
+    }
+
+    private static CartItem line(String id, String sessionId, int productId, int qty) {
+        CartItem item = new CartItem(sessionId, productId, "Product " + productId, "Home", "", 100, 4.0, qty);
+        item.setId(id);
+        return item;
+    }
+
+    private static BulkOperationException bulkFailure(int index) {
+        BulkWriteError error = new BulkWriteError(121, "Document failed validation", new BsonDocument(), index);
+        MongoBulkWriteException cause = new MongoBulkWriteException(
+                BulkWriteResult.unacknowledged(), List.of(error), null, new ServerAddress(), Set.of());
+        return new BulkOperationException(cause.getMessage(), cause);
+    }
+}
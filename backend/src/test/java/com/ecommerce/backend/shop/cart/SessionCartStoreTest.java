@@ -0,0 +1,95 @@
+package com.ecommerce.backend.shop.cart;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ecommerce.backend.shop.dto.ItemChange;
+import com.ecommerce.backend.shop.product.Product;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+class SessionCartStoreTest {
+    private static final Product LAMP = new Product(1, "Lamp", "Home", "Desk lamp", 500, 4.5);
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final SessionCartStore store = new SessionCartStore(mongoTemplate, null);
+
+    @Test
+    void pushesAgainWhenTheCollidingLineIsRemovedBeforeTheRetry() {
+        when(mongoTemplate.findAndModify(argThat(SessionCartStoreTest::isIncrement), any(Update.class),
+                any(FindAndModifyOptions.class), eq(SessionCart.class)))
+                .thenReturn(null);
+        when(mongoTemplate.findAndModify(argThat(query -> !isIncrement(query)), any(Update.class),
+                any(FindAndModifyOptions.class), eq(SessionCart.class)))
+                .thenThrow(new DuplicateKeyException("E11000"))
+                .thenReturn(cart(new SessionCart.Line(1, 2, 500)));
+
+        CartItem item = store.addQty("s-1", LAMP, 2);
+
+        assertEquals(1, item.getProductId());
+        assertEquals(2, item.getQty());
+        assertEquals("Lamp", item.getName());
+    }
+
+    @Test
+    void reportsAConflictOnceEveryPushCollides() {
+        when(mongoTemplate.findAndModify(argThat(query -> !isIncrement(query)), any(Update.class),
+                any(FindAndModifyOptions.class), eq(SessionCart.class)))
+                .thenThrow(new DuplicateKeyException("E11000"));
+
+        CartService.CartConflictException conflict =
+                assertThrows(CartService.CartConflictException.class, () -> store.addQty("s-1", LAMP, 2));
+
+        assertEquals("Cart changed concurrently, please retry", conflict.getMessage());
+    }
+
+    @Test
+    void replaysTheBatchWhenTheCartDocumentWasCreatedConcurrently() {
+        BulkOperations first = mock(BulkOperations.class);
+        BulkOperations retry = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, SessionCart.class)).thenReturn(first, retry);
+        when(first.execute()).thenThrow(CartItemRepositoryCustomImplTest.bulkFailure(11000, 0));
+
+        store.applyChanges("s-1", List.of(ItemChange.add(1, 2), ItemChange.remove(2)), Map.of(1, LAMP));
+
+        verify(retry).upsert(any(Query.class), any(Update.class));
+        verify(retry, times(3)).updateOne(any(Query.class), any(Update.class));
+        verify(retry).execute();
+    }
+
+    @Test
+    void collisionsPastTheCartUpsertAreNotReplayed() {
+        BulkOperations first = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, SessionCart.class)).thenReturn(first);
+        when(first.execute()).thenThrow(CartItemRepositoryCustomImplTest.bulkFailure(11000, 2));
+
+        assertThrows(BulkOperationException.class,
+                () -> store.applyChanges("s-1", List.of(ItemChange.add(1, 2)), Map.of(1, LAMP)));
+        verify(mongoTemplate, times(1)).bulkOps(BulkOperations.BulkMode.ORDERED, SessionCart.class);
+    }
+
+    private static boolean isIncrement(Query query) {
+        return query != null && Integer.valueOf(1).equals(query.getQueryObject().get("items.productId"));
+    }
+
+    private static SessionCart cart(SessionCart.Line... lines) {
+        return new SessionCart("s-1", new ArrayList<>(List.of(lines)), Instant.now());
+    }
+}
@@ -0,0 +1,72 @@
+package com.ecommerce.backend.shop.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ecommerce.backend.config.ShopProperties;
+import org.junit.jupiter.api.Test;
+
+class OrderIdGeneratorTest {
+    private static final String ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+    private static final long NOW = 1_767_225_600_000L;
+
+    @Test
+    void idsIncreaseEvenWhenTheClockStepsBack() {
+        OrderIdGenerator generator = generator(7);
+        String previous = generator.nextId(NOW);
+        for (long now : new long[] {NOW, NOW + 1, NOW - 5_000, NOW + 1, NOW + 2}) {
+            String next = generator.nextId(now);
+            assertTrue(next.compareTo(previous) > 0, next + " after " + previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void exhaustedSequenceBorrowsTheNextMillisecond() {
+        OrderIdGenerator generator = generator(7);
+        long first = decode(generator.nextId(NOW));
+        long last = first;
+        for (int index = 1; index < 4_096; index++) {
+            last = decode(generator.nextId(NOW));
+        }
+        long rolledOver = decode(generator.nextId(NOW));
+
+        assertEquals(timestamp(first), timestamp(last));
+        assertEquals(4_095, sequence(last));
+        assertEquals(timestamp(first) + 1, timestamp(rolledOver));
+        assertEquals(0, sequence(rolledOver));
+        assertEquals(timestamp(first) + 1, timestamp(decode(generator.nextId(NOW + 1))));
+    }
+
+    @Test
+    void nodeIdIsMaskedIntoItsBits() {
+        String id = generator(1_024 + 5).nextId(NOW);
+
+        assertTrue(id.startsWith("ORD"));
+        assertEquals(16, id.length());
+        assertEquals(5, (decode(id) >>> 12) & 1_023);
+        assertEquals(0, sequence(decode(id)));
+    }
+
+    private static OrderIdGenerator generator(int nodeId) {
+        ShopProperties properties = new ShopProperties();
+        properties.getCheckout().setNodeId(nodeId);
+        return new OrderIdGenerator(properties);
+    }
+
+    private static long decode(String id) {
+        long value = 0;
+        for (char symbol : id.substring(3).toCharArray()) {
+            value = (value << 5) | ALPHABET.indexOf(symbol);
+        }
+        return value;
+    }
+
+    private static long timestamp(long value) {
+        return value >>> 22;
+    }
+
+    private static long sequence(long value) {
+        return value & 4_095;
+    }
+}
@@ -0,0 +1,158 @@
+package com.ecommerce.backend.shop.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.ecommerce.backend.chat.ChatExceptionHandler;
+import com.ecommerce.backend.shop.cart.CartService;
+import com.ecommerce.backend.shop.dto.CursorPage;
+import com.ecommerce.backend.shop.order.dto.OrderResponse;
+import com.ecommerce.backend.shop.order.dto.OrderSummaryResponse;
+import com.ecommerce.backend.shop.order.dto.PlaceOrderRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+class OrderServiceTest {
+    private static final Instant NOON = Instant.parse("2026-01-05T12:00:00Z");
+
+    private final List<Order> stored = new ArrayList<>();
+    private final OrderService orderService = new OrderService(repository(), null, null, null);
+
+    @Test
+    void cursorRoundTripsCreatedAtAndId() {
+        Order order = order("ORD0000000000042", NOON.plusMillis(7));
+
+        OrderService.OrderCursor cursor = OrderService.decodeCursor(OrderService.encodeCursor(order));
+
+        assertEquals(order.getCreatedAt(), cursor.createdAt());
+        assertEquals("ORD0000000000042", cursor.id());
+    }
+
+    @Test
+    void rejectsTamperedOrGarbageCursorsWithBadRequest() throws Exception {
+        for (String cursor : List.of("not base64!", encode("no-separator"), encode("yesterday|ORD1"), encode("123|"))) {
+            assertThrows(IllegalArgumentException.class, () -> orderService.listOrderSummaries("s-1", cursor, 5), cursor);
+        }
+
+        MockMvc mvc = MockMvcBuilders.standaloneSetup(new OrderController(orderService))
+                .setControllerAdvice(new ChatExceptionHandler())
+                .build();
+        mvc.perform(get("/api/orders/page").param("sessionId", "s-1").param("cursor", "%%%"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("cursor is invalid"));
+    }
+
+    @Test
+    void breaksCreatedAtTiesByIdAndEndsWithANullCursor() {
+        stored.add(order("ORD0000000000001", NOON));
+        stored.add(order("ORD0000000000002", NOON));
+        stored.add(order("ORD0000000000003", NOON));
+        stored.add(order("ORD0000000000004", NOON.minusSeconds(60)));
+        stored.add(order("ORD0000000000005", NOON.plusSeconds(60)));
+
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<OrderSummaryResponse> page = orderService.listOrderSummaries("s-1", cursor, 2);
+            page.items().forEach(item -> seen.add(item.id()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(List.of("ORD0000000000005", "ORD0000000000003", "ORD0000000000002", "ORD0000000000001",
+                "ORD0000000000004"), seen);
+        assertEquals(3, pages);
+    }
+
+    @Test
+    void lastFullPageHasNoCursor() {
+        stored.add(order("ORD0000000000001", NOON));
+        stored.add(order("ORD0000000000002", NOON.plusSeconds(1)));
+
+        CursorPage<OrderSummaryResponse> page = orderService.listOrderSummaries("s-1", null, 2);
+
+        assertEquals(2, page.items().size());
+        assertNull(page.nextCursor());
+        assertNotNull(orderService.listOrderSummaries("s-1", null, 1).nextCursor());
+    }
+
+    @Test
+    void pageQueryBreaksTiesOnId() {
+        Document filter = OrderQueries.page("s-1", NOON, "ORD0000000000002", 3, false).getQueryObject();
+
+        assertEquals(List.of(
+                new Document("createdAt", new Document("$lt", NOON)),
+                new Document("createdAt", NOON).append("_id", new Document("$lt", "ORD0000000000002"))
+        ), filter.get("$or"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void retryAfterTheFirstAttemptClearedTheCartReplaysItsOrder() {
+        OrderRepository repository = mock(OrderRepository.class);
+        CartService cartService = mock(CartService.class);
+        Order placed = order("ORD0000000000007", NOON);
+        // The first lookup runs before the first attempt commits; the cart is already empty by checkout.
+        when(repository.findBySessionIdAndIdempotencyKey("s-1", "key-1")).thenReturn(Optional.empty(), Optional.of(placed));
+        when(cartService.getSessionItems("s-1")).thenReturn(List.of());
+        OrderService service = new OrderService(repository, cartService, null, mock(ObjectProvider.class));
+
+        OrderResponse response = service.placeOrder(new PlaceOrderRequest("s-1", "UPI"), "key-1");
+
+        assertEquals("ORD0000000000007", response.id());
+        verify(repository, never()).insert(any(Order.class));
+        IllegalArgumentException empty = assertThrows(IllegalArgumentException.class,
+                () -> service.placeOrder(new PlaceOrderRequest("s-1", "UPI"), null));
+        assertEquals("Cart is empty.", empty.getMessage());
+    }
+
+    private OrderRepository repository() {
+        // Evaluates the same keyset predicate and sort as OrderQueries.page against the stored orders.
+        OrderRepository repository = mock(OrderRepository.class);
+        when(repository.findPage(anyString(), any(), any(), anyInt(), anyBoolean())).thenAnswer(invocation -> {
+            Instant beforeCreatedAt = invocation.getArgument(1);
+            String beforeId = invocation.getArgument(2);
+            int limit = invocation.getArgument(3);
+            return stored.stream()
+                    .filter(order -> beforeCreatedAt == null
+                            || order.getCreatedAt().isBefore(beforeCreatedAt)
+                            || (order.getCreatedAt().equals(beforeCreatedAt) && order.getId().compareTo(beforeId) < 0))
+                    .sorted(Comparator.comparing(Order::getCreatedAt).thenComparing(Order::getId).reversed())
+                    .limit(limit)
+                    .toList();
+        });
+        return repository;
+    }
+
+    private static Order order(String id, Instant createdAt) {
+        return new Order(id, "s-1", List.of(), 100, "UPI", "Order Confirmed", createdAt);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,37 @@
+package com.ecommerce.backend.shop.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ecommerce.backend.shop.cart.ReactiveCartService;
+import com.ecommerce.backend.shop.order.dto.PlaceOrderRequest;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class ReactiveOrderServiceTest {
+    @Test
+    @SuppressWarnings("unchecked")
+    void retryAfterTheFirstAttemptClearedTheCartReplaysItsOrder() {
+        ReactiveOrderRepository repository = mock(ReactiveOrderRepository.class);
+        ReactiveCartService cartService = mock(ReactiveCartService.class);
+        Order placed = new Order("ORD0000000000007", "s-1", List.of(), 100, "UPI", "Order Confirmed", Instant.now());
+        when(repository.findBySessionIdAndIdempotencyKey("s-1", "key-1")).thenReturn(Mono.empty(), Mono.just(placed));
+        when(cartService.getSessionItems("s-1")).thenReturn(Flux.empty());
+        ReactiveOrderService service = new ReactiveOrderService(repository, cartService, null, mock(ObjectProvider.class));
+
+        assertEquals("ORD0000000000007", service.placeOrder(new PlaceOrderRequest("s-1", "UPI"), "key-1").block().id());
+        verify(repository, never()).insert(any(Order.class));
+        IllegalArgumentException empty = assertThrows(IllegalArgumentException.class,
+                () -> service.placeOrder(new PlaceOrderRequest("s-1", "UPI"), null).block());
+        assertEquals("Cart is empty.", empty.getMessage());
+    }
+}
@@ -0,0 +1,97 @@
+package com.ecommerce.backend.shop.product;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.ecommerce.backend.shop.product.search.ProductSearchIndex;
+import com.ecommerce.backend.shop.product.search.SearchIndexUpdatedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+class CatalogSnapshotsTest {
+    private final CatalogSnapshots.Snapshot snapshot =
+            CatalogSnapshots.Snapshot.of(3, "[{\"id\":1,\"name\":\"Lamp\"}]".getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    void servesGzipOnlyWhenAccepted() throws IOException {
+        ResponseEntity<byte[]> plain = snapshot.toResponse(null, "br;q=1, gzip;q=0");
+        ResponseEntity<byte[]> gzipped = snapshot.toResponse(null, "br, gzip");
+
+        assertNull(plain.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(snapshot.json(), plain.getBody());
+        assertEquals("gzip", gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        try (GZIPInputStream body = new GZIPInputStream(new ByteArrayInputStream(gzipped.getBody()))) {
+            assertArrayEquals(snapshot.json(), body.readAllBytes());
+        }
+    }
+
+    @Test
+    void answersEitherRepresentationTagWithNotModified() {
+        String plainTag = snapshot.toResponse(null, null).getHeaders().getETag();
+        String gzipTag = snapshot.toResponse(null, "gzip").getHeaders().getETag();
+
+        assertEquals(HttpStatus.NOT_MODIFIED, snapshot.toResponse(plainTag, "gzip").getStatusCode());
+        assertEquals(HttpStatus.NOT_MODIFIED, snapshot.toResponse("\"other\", W/" + gzipTag, null).getStatusCode());
+        assertNull(snapshot.toResponse(gzipTag, "gzip").getBody());
+        assertEquals(HttpStatus.OK, snapshot.toResponse("\"other\"", "gzip").getStatusCode());
+    }
+
+    @Test
+    void serializationErrorsDoNotStrandLaterReaders() throws Exception {
+        ProductService productService = mock(ProductService.class);
+        when(productService.listProducts("", null))
+                .thenThrow(new AssertionError("boom"))
+                .thenReturn(List.of(new Product(1, "Lamp", "Home", "Warm light", 799, 4.1)));
+        CatalogSnapshots snapshots = new CatalogSnapshots(productService, new CategoryDictionary(), new ObjectMapper());
+
+        assertThrows(AssertionError.class, () -> snapshots.snapshot(null));
+
+        CatalogSnapshots.Snapshot retried = CompletableFuture.supplyAsync(() -> snapshots.snapshot(null)).get(2, TimeUnit.SECONDS);
+        assertTrue(new String(retried.json(), StandardCharsets.UTF_8).contains("Lamp"));
+    }
+
+    @Test
+    void versionMovesOnlyOnceTheIndexServesTheWrite() {
+        ProductRepository repository = mock(ProductRepository.class);
+        when(repository.findAll()).thenReturn(List.of(new Product(1, "Lamp", "Home", "Warm light", 799, 4.1)));
+        ProductService productService = mock(ProductService.class);
+        CatalogSnapshots[] snapshots = new CatalogSnapshots[1];
+        ProductSearchIndex index = new ProductSearchIndex(repository, new CategoryDictionary(), event -> {
+            if (event instanceof SearchIndexUpdatedEvent updated) {
+                snapshots[0].onSearchIndexUpdated(updated);
+            }
+        });
+        when(productService.listProducts("", null)).thenAnswer(invocation -> index.topRated(null, null, null, 10));
+        snapshots[0] = new CatalogSnapshots(productService, new CategoryDictionary(), new ObjectMapper());
+        index.rebuild();
+        CatalogSnapshots.Snapshot before = snapshots[0].snapshot(null);
+
+        // The write is committed and announced, but a read lands before the index has applied it.
+        ProductChangedEvent write = ProductChangedEvent.saved(new Product(1, "Desk lamp", "Home", "Warm light", 799, 4.1));
+        CatalogSnapshots.Snapshot during = snapshots[0].snapshot(null);
+        index.onProductChanged(write);
+        CatalogSnapshots.Snapshot after = snapshots[0].snapshot(null);
+
+        assertEquals(before.version(), during.version());
+        assertEquals(before.etag(), during.etag());
+        assertEquals(before.version() + 1, after.version());
+        assertNotEquals(before.etag(), after.etag());
+        assertTrue(new String(after.json(), StandardCharsets.UTF_8).contains("Desk lamp"));
+    }
+}
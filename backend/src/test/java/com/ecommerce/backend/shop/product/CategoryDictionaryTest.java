@@ -0,0 +1,32 @@
+package com.ecommerce.backend.shop.product;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+class CategoryDictionaryTest {
+    @Test
+    void codesAreCaseAndWhitespaceInsensitive() {
+        CategoryDictionary dictionary = new CategoryDictionary();
+        int defaults = CategoryDictionary.DEFAULT_CATEGORIES.size();
+
+        assertEquals(0, dictionary.codeOf(" electronics "));
+        assertEquals(defaults, dictionary.register("  Garden "));
+        assertEquals(defaults, dictionary.register("GARDEN"));
+        assertEquals("Garden", dictionary.nameOf(defaults));
+        assertEquals("Garden", dictionary.canonicalName("garden"));
+        assertEquals(defaults + 1, dictionary.size());
+    }
+
+    @Test
+    void unknownAndBlankCategoriesHaveNoCode() {
+        CategoryDictionary dictionary = new CategoryDictionary();
+
+        assertEquals(CategoryDictionary.UNKNOWN, dictionary.codeOf("Toys"));
+        assertEquals(CategoryDictionary.UNKNOWN, dictionary.codeOf(null));
+        assertEquals(CategoryDictionary.UNKNOWN, dictionary.register(" "));
+        assertNull(dictionary.nameOf(CategoryDictionary.UNKNOWN));
+        assertEquals("Toys", dictionary.canonicalName("Toys"));
+    }
+}
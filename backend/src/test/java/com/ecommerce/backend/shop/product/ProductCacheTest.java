@@ -0,0 +1,86 @@
+package com.ecommerce.backend.shop.product;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ecommerce.backend.config.ShopProperties;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+class ProductCacheTest {
+    private static final Product SHOES = new Product(1, "Running shoes", "Sports", "Light trainers", 2_499, 4.6);
+
+    private final ProductRepository repository = mock(ProductRepository.class);
+    private final ProductCache cache = new ProductCache(repository, new ShopProperties());
+
+    @Test
+    void concurrentReadersShareOneLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(repository.findById(1)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(2, TimeUnit.SECONDS);
+            return Optional.of(SHOES);
+        });
+
+        CompletableFuture<Optional<Product>> first = CompletableFuture.supplyAsync(() -> cache.get(1));
+        assertTrue(loading.await(2, TimeUnit.SECONDS));
+        CompletableFuture<Optional<Product>> second = CompletableFuture.supplyAsync(() -> cache.get(1));
+        release.countDown();
+
+        assertEquals(SHOES, first.get(2, TimeUnit.SECONDS).orElseThrow());
+        assertEquals(SHOES, second.get(2, TimeUnit.SECONDS).orElseThrow());
+        assertEquals(SHOES, cache.get(1).orElseThrow());
+        verify(repository, times(1)).findById(1);
+    }
+
+    @Test
+    void loadErrorsDoNotStrandLaterReaders() throws Exception {
+        when(repository.findById(1)).thenThrow(new AssertionError("boom")).thenReturn(Optional.of(SHOES));
+
+        assertThrows(AssertionError.class, () -> cache.get(1));
+
+        assertEquals(SHOES, CompletableFuture.supplyAsync(() -> cache.get(1)).get(2, TimeUnit.SECONDS).orElseThrow());
+    }
+
+    @Test
+    void failedAndMissingLoadsAreNotCached() {
+        when(repository.findById(1))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(Optional.of(SHOES));
+        when(repository.findById(2)).thenReturn(Optional.empty());
+
+        assertThrows(DataAccessResourceFailureException.class, () -> cache.get(1));
+        assertEquals(SHOES, cache.get(1).orElseThrow());
+        assertTrue(cache.get(2).isEmpty());
+        assertTrue(cache.get(2).isEmpty());
+        assertTrue(cache.get(null).isEmpty());
+        verify(repository, times(2)).findById(2);
+    }
+
+    @Test
+    void productChangesInvalidateEntries() {
+        when(repository.findById(1)).thenReturn(Optional.of(SHOES));
+        when(repository.findAllById(any())).thenReturn(List.of(SHOES));
+
+        assertEquals(Map.of(1, SHOES), cache.getAll(List.of(1)));
+        cache.get(1);
+        cache.onProductChanged(ProductChangedEvent.deleted(1));
+        cache.get(1);
+
+        verify(repository, times(1)).findById(1);
+        verify(repository, times(1)).findAllById(any());
+    }
+}
@@ -0,0 +1,141 @@
+package com.ecommerce.backend.shop.product.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.ecommerce.backend.config.ShopProperties;
+import com.ecommerce.backend.shop.product.Product;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+class CatalogImporterTest {
+    private final Map<Object, Document> products = new TreeMap<>();
+    private final Map<String, ImportCheckpoint> checkpoints = new HashMap<>();
+    private final List<List<Object>> executedBatches = new ArrayList<>();
+    private int failOnBatch = -1;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void importingTheSameFileTwiceWritesItOnce() throws IOException {
+        FileSystemResource catalog = catalog(5);
+
+        ImportReport first = importer().importResource(catalog, CatalogFormat.JSON);
+        ImportReport second = importer().importResource(catalog, CatalogFormat.JSON);
+
+        assertEquals(5, first.productsWritten());
+        assertEquals(0, second.productsWritten());
+        assertEquals(5, second.resumedFrom());
+        assertEquals(3, executedBatches.size());
+        assertEquals(5, products.size());
+    }
+
+    @Test
+    void resumesAnInterruptedImportFromTheLastCheckpoint() throws IOException {
+        FileSystemResource catalog = catalog(5);
+        failOnBatch = 2;
+
+        assertThrows(IllegalStateException.class, () -> importer().importResource(catalog, CatalogFormat.JSON));
+        assertEquals(List.of(1, 2), new ArrayList<>(products.keySet()));
+        ImportCheckpoint interrupted = checkpoints.get(catalog.getDescription());
+        assertEquals(2, interrupted.getRecordsRead());
+        assertFalse(interrupted.isCompleted());
+
+        failOnBatch = -1;
+        executedBatches.clear();
+        ImportReport resumed = importer().importResource(catalog, CatalogFormat.JSON);
+
+        assertEquals(2, resumed.resumedFrom());
+        assertEquals(5, resumed.productsWritten());
+        assertEquals(List.of(List.of(3, 4), List.of(5)), executedBatches);
+        assertEquals(List.of(1, 2, 3, 4, 5), new ArrayList<>(products.keySet()));
+        assertTrue(checkpoints.get(catalog.getDescription()).isCompleted());
+    }
+
+    private CatalogImporter importer() {
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext());
+        converter.afterPropertiesSet();
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.getConverter()).thenReturn(converter);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Product.class)).thenAnswer(invocation -> bulk());
+        when(mongoTemplate.findById(any(), eq(ImportCheckpoint.class)))
+                .thenAnswer(invocation -> copy(checkpoints.get((String) invocation.getArgument(0))));
+        when(mongoTemplate.save(any(ImportCheckpoint.class))).thenAnswer(invocation -> {
+            ImportCheckpoint saved = invocation.getArgument(0);
+            checkpoints.put(saved.getSource(), copy(saved));
+            return saved;
+        });
+
+        ShopProperties properties = new ShopProperties();
+        properties.getCatalogImport().setBatchSize(2);
+        return new CatalogImporter(mongoTemplate, new ObjectMapper(), event -> {
+        }, properties);
+    }
+
+    private BulkOperations bulk() {
+        BulkOperations operations = mock(BulkOperations.class);
+        Map<Object, Document> pending = new TreeMap<>();
+        when(operations.upsert(any(Query.class), any(Update.class))).thenAnswer(invocation -> {
+            Query query = invocation.getArgument(0);
+            Update update = invocation.getArgument(1);
+            pending.put(query.getQueryObject().get("_id"), (Document) update.getUpdateObject().get("$set"));
+            return operations;
+        });
+        when(operations.execute()).thenAnswer(invocation -> {
+            if (executedBatches.size() + 1 == failOnBatch) {
+                throw new IllegalStateException("connection reset");
+            }
+            executedBatches.add(new ArrayList<>(pending.keySet()));
+            products.putAll(pending);
+            return null;
+        });
+        return operations;
+    }
+
+    private FileSystemResource catalog(int size) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (int id = 1; id <= size; id++) {
+            lines.append("{\"_id\": ").append(id).append(", \"name\": \"Product ").append(id)
+                    .append("\", \"category\": \"Home\", \"price\": ").append(100 * id).append("}\n");
+        }
+        Path file = Files.writeString(directory.resolve("catalog.jsonl"), lines);
+        return new FileSystemResource(file);
+    }
+
+    private static ImportCheckpoint copy(ImportCheckpoint checkpoint) {
+        if (checkpoint == null) {
+            return null;
+        }
+        ImportCheckpoint copy = new ImportCheckpoint(checkpoint.getSource(), checkpoint.getFingerprint());
+        copy.setRecordsRead(checkpoint.getRecordsRead());
+        copy.setProductsWritten(checkpoint.getProductsWritten());
+        copy.setCompleted(checkpoint.isCompleted());
+        copy.setUpdatedAt(checkpoint.getUpdatedAt());
+        return copy;
+    }
+}
@@ -0,0 +1,68 @@
+package com.ecommerce.backend.shop.product.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CatalogReaderTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void readsNewlineDelimitedJson() throws IOException {
+        List<CatalogRecord> records = read("""
+                {"_id": 1, "name": "Kettle", "category": "Home", "price": 899, "rating": 4.2, "extra": true}
+                {"id": 2, "name": "Novel", "category": "Books", "description": "Paperback", "price": 299}
+                """, CatalogFormat.JSON);
+
+        assertEquals(List.of(
+                new CatalogRecord(1, "Kettle", "Home", null, 899, 4.2),
+                new CatalogRecord(2, "Novel", "Books", "Paperback", 299, null)
+        ), records);
+    }
+
+    @Test
+    void readsTheMockJsonArray() throws IOException {
+        try (InputStream input = new FileInputStream("../database/mock/products.json");
+             CatalogReader reader = CatalogReader.open(input, CatalogFormat.JSON, objectMapper)) {
+            int count = 0;
+            while (reader.hasNext()) {
+                CatalogRecord record = reader.next();
+                count++;
+                assertEquals(count, record.id());
+            }
+            assertEquals(24, count);
+        }
+    }
+
+    @Test
+    void readsQuotedCsvAndFlagsInvalidRows() throws IOException {
+        List<CatalogRecord> records = read(
+                "_id,name,category,description,price,rating\n"
+                        + "7,\"Lamp, brass\",Home,\"Says \"\"hello\"\"\",1299,4.7\n"
+                        + "\n"
+                        + "8,,Home,missing name,10,1\n",
+                CatalogFormat.CSV);
+
+        assertEquals(new CatalogRecord(7, "Lamp, brass", "Home", "Says \"hello\"", 1299, 4.7), records.get(0));
+        assertFalse(records.get(1).isValid());
+        assertEquals(2, records.size());
+    }
+
+    private List<CatalogRecord> read(String content, CatalogFormat format) throws IOException {
+        List<CatalogRecord> records = new ArrayList<>();
+        try (CatalogReader reader = CatalogReader.open(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), format, objectMapper)) {
+            reader.forEachRemaining(records::add);
+        }
+        return records;
+    }
+}
@@ -0,0 +1,79 @@
+package com.ecommerce.backend.shop.product.embedding;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.ecommerce.backend.config.ShopProperties;
+import com.ecommerce.backend.shop.product.Product;
+import com.ecommerce.backend.shop.product.ProductChangedEvent;
+import com.ecommerce.backend.shop.product.ProductRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class ProductVectorIndexTest {
+    private static final String[] NOUNS = {"shoes", "jacket", "lamp", "serum", "novel", "racket", "headphones", "kettle"};
+    private static final String[] CATEGORIES = {"Sports", "Fashion", "Home", "Beauty", "Books", "Electronics"};
+
+    @Test
+    void approximateSearchAgreesWithExhaustiveSearch() {
+        ShopProperties properties = new ShopProperties();
+        List<Product> products = catalog(3_000);
+        ProductVectorIndex approximate = index(products, properties);
+        properties.getEmbedding().setProbes(Integer.MAX_VALUE);
+        ProductVectorIndex exhaustive = index(products, properties);
+
+        int overlap = 0;
+        int expected = 0;
+        for (String query : List.of("running shoes", "reading novel", "kitchen kettle", "wireless headphones")) {
+            int[] exact = exhaustive.search(query, null, 10);
+            int[] approx = approximate.search(query, null, 10);
+            expected += exact.length;
+            for (int id : approx) {
+                for (int exactId : exact) {
+                    overlap += id == exactId ? 1 : 0;
+                }
+            }
+        }
+        assertTrue(overlap >= expected * 0.8, "recall " + overlap + "/" + expected);
+    }
+
+    @Test
+    void appliesChangesIncrementally() {
+        ShopProperties properties = new ShopProperties();
+        properties.getEmbedding().setProbes(Integer.MAX_VALUE);
+        ProductVectorIndex index = index(catalog(600), properties);
+        Product added = new Product(10_001, "Trail running shoes", "Sports", "Grippy shoes for your morning run", 2_499, 4.8);
+
+        index.onProductChanged(ProductChangedEvent.saved(added));
+        assertEquals(10_001, index.search("something for my morning run", null, 1)[0]);
+        assertArrayEquals(new int[]{10_001}, index.search("morning run", id -> id == 10_001, 5));
+
+        index.onProductChanged(ProductChangedEvent.deleted(10_001));
+        assertEquals(0, index.search("morning run", id -> id == 10_001, 5).length);
+    }
+
+    private static ProductVectorIndex index(List<Product> products, ShopProperties properties) {
+        ProductRepository repository = mock(ProductRepository.class);
+        when(repository.findAll()).thenReturn(products);
+        ProductVectorIndex index = new ProductVectorIndex(repository, new HashingEmbedder(properties), properties);
+        index.rebuild();
+        return index;
+    }
+
+    private static List<Product> catalog(int size) {
+        Random random = new Random(7);
+        List<Product> products = new ArrayList<>();
+        for (int id = 1; id <= size; id++) {
+            String noun = NOUNS[random.nextInt(NOUNS.length)];
+            String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+            products.add(new Product(id, category + " " + noun + " " + id, category,
+                    "Everyday " + noun + " for " + NOUNS[random.nextInt(NOUNS.length)] + " lovers", 100 + id, 4.0));
+        }
+        return products;
+    }
+}
@@ -0,0 +1,38 @@
+package com.ecommerce.backend.shop.product.embedding;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class VectorStoreTest {
+    @Test
+    void growthStopsAtTheLargestBufferInsteadOfOverflowing() {
+        assertEquals(2_097_151, VectorStore.maxSlots(256));
+        assertEquals(1_048_576, VectorStore.grownCapacity(524_288, 256));
+        assertEquals(2_097_151, VectorStore.grownCapacity(1_048_576, 256));
+        IllegalStateException full = assertThrows(IllegalStateException.class,
+                () -> VectorStore.grownCapacity(2_097_151, 256));
+        assertEquals("Vector store is full: 2097151 slots of 256 dimensions is the most one buffer can hold.",
+                full.getMessage());
+    }
+
+    @Test
+    void rejectsVectorsWiderThanOneBuffer() {
+        assertThrows(IllegalArgumentException.class, () -> new VectorStore(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void keepsVectorsAcrossGrowth() {
+        VectorStore store = new VectorStore(2);
+        for (int id = 1; id <= 3_000; id++) {
+            store.put(id, new float[] {id, -id});
+        }
+
+        float[] vector = new float[2];
+        store.read(store.slotOf(2_500), vector);
+        assertArrayEquals(new float[] {2_500, -2_500}, vector);
+        assertEquals(3_000, store.size());
+    }
+}
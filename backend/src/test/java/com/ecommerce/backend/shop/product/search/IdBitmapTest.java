@@ -0,0 +1,32 @@
+package com.ecommerce.backend.shop.product.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class IdBitmapTest {
+    @Test
+    void tracksMembershipAndCardinality() {
+        IdBitmap bitmap = new IdBitmap();
+        bitmap.add(3);
+        bitmap.add(64);
+        bitmap.add(10_000);
+        bitmap.add(3);
+        bitmap.add(-1);
+
+        assertTrue(bitmap.contains(64));
+        assertTrue(bitmap.contains(10_000));
+        assertFalse(bitmap.contains(65));
+        assertFalse(bitmap.contains(1_000_000));
+        assertFalse(bitmap.contains(-1));
+        assertEquals(3, bitmap.cardinality());
+
+        bitmap.remove(64);
+        bitmap.remove(65);
+        assertFalse(bitmap.contains(64));
+        assertEquals(2, bitmap.cardinality());
+        assertEquals(1, bitmap.countIn(new int[]{3, 64, 99}));
+    }
+}
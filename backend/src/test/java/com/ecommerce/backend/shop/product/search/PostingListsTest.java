@@ -0,0 +1,50 @@
+package com.ecommerce.backend.shop.product.search;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+class PostingListsTest {
+    @Test
+    void insertKeepsIdsSortedAndDistinct() {
+        int[] postings = PostingLists.insert(null, 5);
+        postings = PostingLists.insert(postings, 1);
+        postings = PostingLists.insert(postings, 9);
+        postings = PostingLists.insert(postings, 7);
+
+        assertArrayEquals(new int[]{1, 5, 7, 9}, postings);
+        assertSame(postings, PostingLists.insert(postings, 7));
+    }
+
+    @Test
+    void removeDropsOneIdAndEmptiesToNull() {
+        int[] postings = {1, 5, 7};
+
+        assertArrayEquals(new int[]{1, 7}, PostingLists.remove(postings, 5));
+        assertSame(postings, PostingLists.remove(postings, 4));
+        assertNull(PostingLists.remove(new int[]{3}, 3));
+    }
+
+    @Test
+    void intersectsAndUnitesSortedLists() {
+        int[] left = {1, 3, 5, 7, 9};
+        int[] right = {2, 3, 4, 9, 10};
+
+        assertArrayEquals(new int[]{3, 9}, PostingLists.intersect(left, right));
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5, 7, 9, 10}, PostingLists.union(left, right));
+        assertArrayEquals(PostingLists.EMPTY, PostingLists.intersect(left, PostingLists.EMPTY));
+        assertArrayEquals(left, PostingLists.union(PostingLists.EMPTY, left));
+    }
+
+    @Test
+    void builderSortsAndDeduplicates() {
+        PostingLists.Builder builder = new PostingLists.Builder();
+        for (int id : new int[]{8, 3, 8, 1, 5, 3, 2}) {
+            builder.add(id);
+        }
+
+        assertArrayEquals(new int[]{1, 2, 3, 5, 8}, builder.build());
+    }
+}
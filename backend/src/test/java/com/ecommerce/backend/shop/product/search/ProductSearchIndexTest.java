@@ -0,0 +1,110 @@
+package com.ecommerce.backend.shop.product.search;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.ecommerce.backend.shop.product.CategoryDictionary;
+import com.ecommerce.backend.shop.product.Product;
+import com.ecommerce.backend.shop.product.ProductChangedEvent;
+import com.ecommerce.backend.shop.product.ProductRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ProductSearchIndexTest {
+    private static final List<Product> CATALOG = List.of(
+            new Product(1, "Wireless headphones", "Electronics", "Noise cancelling over-ear", 4_999, 4.5),
+            new Product(2, "Wired earphones", "Electronics", "Budget in-ear", 499, 3.9),
+            new Product(3, "Running shoes", "Sports", "Lightweight trainers for road running", 2_999, 4.4),
+            new Product(4, "Headband", "Sports", "Sweat band for running", 199, 4.0)
+    );
+
+    @Test
+    void matchesAllTermsAndPrefixes() {
+        ProductSearchIndex index = index();
+
+        assertArrayEquals(new int[]{1}, index.matchIds("wireless head"));
+        assertArrayEquals(new int[]{1, 4}, index.matchIds("head"));
+        assertArrayEquals(new int[]{3, 4}, index.matchIds("running"));
+        assertArrayEquals(new int[0], index.matchIds("wireless shoes"));
+        assertEquals(List.of(3, 4), ids(index.search("running", null, 10)));
+        assertEquals(List.of(1, 3, 4), ids(index.searchAny("wireless running", null, 10)).stream().sorted().toList());
+    }
+
+    @Test
+    void appliesSingleProductChangesIncrementally() {
+        ProductSearchIndex index = index();
+
+        index.onProductChanged(ProductChangedEvent.saved(
+                new Product(2, "Wireless earbuds", "Electronics", "True wireless in-ear", 1_999, 4.2)));
+        index.onProductChanged(ProductChangedEvent.saved(
+                new Product(5, "Yoga mat", "Sports", "Non-slip mat", 899, 4.6)));
+        index.onProductChanged(ProductChangedEvent.deleted(4));
+
+        assertArrayEquals(new int[]{1, 2}, index.matchIds("wireless"));
+        assertArrayEquals(new int[0], index.matchIds("wired"));
+        assertArrayEquals(new int[]{5}, index.matchIds("yoga"));
+        assertArrayEquals(new int[]{1}, index.matchIds("head"));
+        assertNull(index.getProduct(4));
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    void searchesNeverMissAProductWhileItIsUpdated() throws Exception {
+        ProductSearchIndex index = index();
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicInteger misses = new AtomicInteger();
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                if (index.matchIds("running shoes").length != 1) {
+                    misses.incrementAndGet();
+                }
+            }
+        });
+        reader.start();
+
+        for (int version = 0; version < 20_000; version++) {
+            index.onProductChanged(ProductChangedEvent.saved(
+                    new Product(3, "Running shoes", "Sports", "Trainers v" + version, 2_999, 4.4)));
+        }
+        done.set(true);
+        reader.join();
+
+        assertEquals(0, misses.get());
+        assertArrayEquals(new int[]{3}, index.matchIds("v19999"));
+    }
+
+    @Test
+    void countsFacetsPerCanonicalCategory() {
+        ProductSearchIndex index = index();
+        Product added = new Product(6, "Desk lamp", "home", "Warm light", 799, 4.1);
+        index.onProductChanged(ProductChangedEvent.saved(added));
+
+        assertEquals(Map.of("Electronics", 2, "Sports", 2, "Home", 1), index.facetCounts(null));
+        assertEquals(Map.of("Electronics", 1, "Sports", 1), index.facetCounts(index.matchIds("head")));
+        assertEquals("Home", index.getProduct(6).getCategory());
+        assertEquals("home", added.getCategory());
+        assertTrue(index.categoryFilter(2).test(6));
+    }
+
+    private static ProductSearchIndex index() {
+        ProductRepository repository = mock(ProductRepository.class);
+        when(repository.findAll()).thenReturn(CATALOG.stream()
+                .map(product -> new Product(product.getId(), product.getName(), product.getCategory(),
+                        product.getDescription(), product.getPrice(), product.getRating()))
+                .toList());
+        ProductSearchIndex index = new ProductSearchIndex(repository, new CategoryDictionary(), event -> { });
+        index.rebuild();
+        return index;
+    }
+
+    private static List<Integer> ids(List<Product> products) {
+        return products.stream().map(Product::getId).toList();
+    }
+}
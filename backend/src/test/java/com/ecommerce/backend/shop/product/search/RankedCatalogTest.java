@@ -0,0 +1,76 @@
+package com.ecommerce.backend.shop.product.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ecommerce.backend.shop.product.Product;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class RankedCatalogTest {
+    @Test
+    void matchesFullSortForNarrowAndWideBudgets() {
+        Random random = new Random(42);
+        List<Product> products = new ArrayList<>();
+        for (int id = 1; id <= 5_000; id++) {
+            products.add(new Product(id, "Product " + id, "C" + (id % 4), "", 100 + random.nextInt(10_000),
+                    Math.round((1 + random.nextDouble() * 4) * 10) / 10.0));
+        }
+        RankedCatalog catalog = RankedCatalog.build(products, product -> Integer.parseInt(product.getCategory().substring(1)));
+
+        assertTopK(products, catalog, null, null, 500, 5);
+        assertTopK(products, catalog, null, 300, 320, 5);
+        assertTopK(products, catalog, 2, 1_000, null, 10);
+        assertTopK(products, catalog, 3, null, null, 3);
+        assertTrue(catalog.top(null, 20_000, null, 5).isEmpty());
+        assertTrue(catalog.top(9, null, null, 5).isEmpty());
+    }
+
+    @Test
+    void appliesSingleProductChangesWithoutRebuilding() {
+        Random random = new Random(7);
+        List<Product> products = new ArrayList<>();
+        for (int id = 1; id <= 1_000; id++) {
+            products.add(new Product(id, "Product " + id, "C" + (id % 4), "", 100 + random.nextInt(5_000),
+                    Math.round((1 + random.nextDouble() * 4) * 10) / 10.0));
+        }
+        RankedCatalog catalog = RankedCatalog.build(products, RankedCatalogTest::category);
+
+        Product repriced = new Product(10, "Product 10", "C2", "", 150, 5.0);
+        catalog = catalog.replace(products.get(9), 2, repriced, 2);
+        products.set(9, repriced);
+        Product moved = new Product(11, "Product 11", "C0", "", 120, 4.9);
+        catalog = catalog.replace(products.get(10), 3, moved, 0);
+        products.set(10, moved);
+        catalog = catalog.replace(products.get(11), 0, null, 0);
+        products.remove(11);
+        Product added = new Product(2_000, "New", "C3", "", 110, 4.95);
+        catalog = catalog.replace(null, 0, added, 3);
+        products.add(added);
+        Product edited = products.get(20);
+        edited.setPrice(edited.getPrice() + 1_000);
+        catalog = catalog.replace(edited, category(edited), edited, category(edited));
+
+        for (Integer category : new Integer[]{null, 0, 1, 2, 3}) {
+            assertTopK(products, catalog, category, null, 200, 5);
+            assertTopK(products, catalog, category, 1_000, null, 10);
+        }
+    }
+
+    private static int category(Product product) {
+        return Integer.parseInt(product.getCategory().substring(1));
+    }
+
+    private static void assertTopK(List<Product> products, RankedCatalog catalog, Integer category, Integer min, Integer max, int limit) {
+        List<Product> expected = products.stream()
+                .filter(product -> category == null || product.getCategory().equals("C" + category))
+                .filter(product -> (min == null || product.getPrice() >= min) && (max == null || product.getPrice() <= max))
+                .sorted(RankedCatalog.BEST_RATED)
+                .limit(limit)
+                .toList();
+
+        assertEquals(expected, catalog.top(category, min, max, limit));
+    }
+}
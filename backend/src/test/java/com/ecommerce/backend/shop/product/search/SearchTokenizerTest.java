@@ -0,0 +1,16 @@
+package com.ecommerce.backend.shop.product.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SearchTokenizerTest {
+    @Test
+    void splitsOnNonAlphanumericsAndLowerCases() {
+        assertEquals(List.of("usb", "c", "cable", "2m"), SearchTokenizer.tokenize("USB-C  Cable, 2m!"));
+        assertEquals(List.of("café", "crème"), SearchTokenizer.tokenize("Café Crème"));
+        assertEquals(List.of(), SearchTokenizer.tokenize("  --  "));
+        assertEquals(List.of(), SearchTokenizer.tokenize(null));
+    }
+}
@@ -0,0 +1,48 @@
+package com.ecommerce.backend.shop.session;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ecommerce.backend.config.ShopProperties;
+import com.ecommerce.backend.shop.cart.CartItem;
+import com.ecommerce.backend.shop.wishlist.WishlistItem;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+class SessionActivityTest {
+    @Test
+    void touchesEachSessionOncePerResolution() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        SessionActivity activity = new SessionActivity(mongoTemplate, new ShopProperties());
+
+        activity.touch("s1");
+        activity.touch("s1");
+        activity.touch("s2");
+
+        verify(mongoTemplate, times(2)).updateMulti(any(Query.class), any(Update.class), eq(CartItem.class));
+        verify(mongoTemplate, times(2)).updateMulti(any(Query.class), any(Update.class), eq(WishlistItem.class));
+    }
+
+    @Test
+    void failedTouchIsRetriedByTheNextRequest() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.updateMulti(any(Query.class), any(Update.class), eq(CartItem.class)))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(null);
+        SessionActivity activity = new SessionActivity(mongoTemplate, new ShopProperties());
+
+        activity.touch("s1");
+        activity.touch("s1");
+        activity.touch("s1");
+
+        verify(mongoTemplate, times(2)).updateMulti(any(Query.class), any(Update.class), eq(CartItem.class));
+        verify(mongoTemplate, times(1)).updateMulti(any(Query.class), any(Update.class), eq(WishlistItem.class));
+    }
+}
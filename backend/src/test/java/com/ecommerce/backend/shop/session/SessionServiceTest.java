@@ -0,0 +1,189 @@
+package com.ecommerce.backend.shop.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.ecommerce.backend.config.ShopProperties;
+import com.ecommerce.backend.shop.cart.CartService;
+import com.ecommerce.backend.shop.cart.dto.CartItemResponse;
+import com.ecommerce.backend.shop.dto.CursorPage;
+import com.ecommerce.backend.shop.dto.ItemChange;
+import com.ecommerce.backend.shop.order.OrderService;
+import com.ecommerce.backend.shop.order.dto.OrderSummaryResponse;
+import com.ecommerce.backend.shop.product.Product;
+import com.ecommerce.backend.shop.product.ProductService;
+import com.ecommerce.backend.shop.session.dto.SessionBatchRequest;
+import com.ecommerce.backend.shop.session.dto.SessionResponse;
+import com.ecommerce.backend.shop.wishlist.WishlistService;
+import com.ecommerce.backend.shop.wishlist.dto.WishlistItemResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.StandardEnvironment;
+
+class SessionServiceTest {
+    private static final CartItemResponse LINE = new CartItemResponse(1, "Lamp", "Home", "", 500, 4.5, 2);
+    private static final Product LAMP = new Product(1, "Lamp", "Home", "", 500, 4.5);
+    private static final Product MUG = new Product(2, "Mug", "Home", "", 200, 4.1);
+
+    @Test
+    void returnsThePartsThatFinishedBeforeTheDeadline() {
+        SessionService service = sessionService(
+                new CartService(null, null, null) {
+                    @Override
+                    public List<CartItemResponse> listItems(String sessionId) {
+                        return List.of(LINE);
+                    }
+                },
+                new WishlistService(null, null, null) {
+                    @Override
+                    public List<WishlistItemResponse> listItems(String sessionId) {
+                        throw new IllegalStateException("wishlist store is down");
+                    }
+                },
+                slowOrders(Duration.ofSeconds(5))
+        );
+
+        SessionResponse response = service.load(" s-1 ");
+
+        assertEquals("s-1", response.sessionId());
+        assertEquals(List.of(LINE), response.cart());
+        assertNull(response.wishlist());
+        assertNull(response.orders());
+        assertEquals(Map.of("wishlist", "unavailable", "orders", "timed out"), response.errors());
+        service.shutdown();
+    }
+
+    @Test
+    void timedOutPartGivesItsWorkerBack() throws InterruptedException {
+        SessionService service = sessionService(mock(CartService.class), mock(WishlistService.class), slowOrders(Duration.ofSeconds(5)));
+
+        assertEquals(Map.of("orders", "timed out"), service.load("s-1").errors());
+
+        long deadlineAt = System.nanoTime() + Duration.ofSeconds(1).toNanos();
+        while (service.activeCount() > 0 && System.nanoTime() < deadlineAt) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, service.activeCount());
+        service.shutdown();
+    }
+
+    @Test
+    void failsWhenNoPartIsAvailable() {
+        SessionService service = sessionService(
+                new CartService(null, null, null) {
+                    @Override
+                    public List<CartItemResponse> listItems(String sessionId) {
+                        throw new IllegalStateException("cart store is down");
+                    }
+                },
+                new WishlistService(null, null, null) {
+                    @Override
+                    public List<WishlistItemResponse> listItems(String sessionId) {
+                        throw new IllegalStateException("wishlist store is down");
+                    }
+                },
+                slowOrders(Duration.ofSeconds(5))
+        );
+
+        assertThrows(IllegalStateException.class, () -> service.load("s-1"));
+        assertThrows(IllegalArgumentException.class, () -> service.load(" "));
+        service.shutdown();
+    }
+
+    @Test
+    void batchSplitsChangesByTargetAndResolvesProductsOnce() {
+        CartService cart = mock(CartService.class);
+        WishlistService wishlist = mock(WishlistService.class);
+        ProductService products = mock(ProductService.class);
+        Map<Integer, Product> found = Map.of(1, LAMP, 2, MUG);
+        when(products.getExistingByIds(any())).thenReturn(found);
+        SessionService service = sessionService(cart, wishlist, null, products);
+
+        service.applyBatch(" s-1 ", new SessionBatchRequest(List.of(
+                new SessionBatchRequest.Operation("cart", "add", 1, 2),
+                new SessionBatchRequest.Operation("wishlist", "add", 2, null),
+                new SessionBatchRequest.Operation("cart", "remove", 3, null)
+        )));
+
+        verify(products).getExistingByIds(List.of(1, 2));
+        verify(cart).applyChanges("s-1", List.of(ItemChange.add(1, 2), ItemChange.remove(3)), found);
+        verify(wishlist).applyChanges("s-1", List.of(ItemChange.add(2, 1)), found);
+        service.shutdown();
+    }
+
+    @Test
+    void batchRejectsUnknownProductsBeforeAnyWrite() {
+        CartService cart = mock(CartService.class);
+        WishlistService wishlist = mock(WishlistService.class);
+        ProductService products = mock(ProductService.class);
+        when(products.getExistingByIds(any())).thenThrow(new IllegalArgumentException("Product not found: 9"));
+        SessionService service = sessionService(cart, wishlist, null, products);
+
+        assertThrows(IllegalArgumentException.class, () -> service.applyBatch("s-1", new SessionBatchRequest(List.of(
+                new SessionBatchRequest.Operation("cart", "add", 1, 1),
+                new SessionBatchRequest.Operation("wishlist", "add", 9, 1)
+        ))));
+
+        verifyNoInteractions(cart, wishlist);
+        service.shutdown();
+    }
+
+    @Test
+    void batchIsCappedAtTheConfiguredSize() {
+        CartService cart = mock(CartService.class);
+        ProductService products = mock(ProductService.class);
+        SessionService service = sessionService(cart, mock(WishlistService.class), null, products);
+        List<SessionBatchRequest.Operation> operations = new ArrayList<>();
+        for (int productId = 0; productId <= new ShopProperties().getSession().getMaxBatchOperations(); productId++) {
+            operations.add(new SessionBatchRequest.Operation("cart", "add", productId, 1));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> service.applyBatch("s-1", new SessionBatchRequest(operations)));
+
+        verifyNoInteractions(cart, products);
+        service.shutdown();
+    }
+
+    private static SessionService sessionService(CartService cart, WishlistService wishlist, OrderService orders) {
+        return sessionService(cart, wishlist, orders, null);
+    }
+
+    private static SessionService sessionService(
+            CartService cart,
+            WishlistService wishlist,
+            OrderService orders,
+            ProductService products
+    ) {
+        ShopProperties properties = new ShopProperties();
+        properties.getSession().setDeadline(Duration.ofMillis(200));
+        SessionActivity activity = new SessionActivity(null, properties) {
+            @Override
+            public void touch(String sessionId) {
+            }
+        };
+        return new SessionService(cart, wishlist, orders, products, activity, properties, new StandardEnvironment());
+    }
+
+    private static OrderService slowOrders(Duration delay) {
+        return new OrderService(null, null, null, null) {
+            @Override
+            public CursorPage<OrderSummaryResponse> listOrderSummaries(String sessionId, String cursor, Integer limit) {
+                try {
+                    Thread.sleep(delay.toMillis());
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return new CursorPage<>(List.of(), null);
+            }
+        };
+    }
+}
@@ -0,0 +1,155 @@
+package com.ecommerce.backend.shop.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ecommerce.backend.config.ShopProperties;
+import com.ecommerce.backend.mongo.MongoPoolLoad;
+import com.ecommerce.backend.shop.wishlist.WishlistItem;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.result.DeleteResult;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+class SessionSweeperTest {
+    private static final Instant CUTOFF = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    void drainStopsOnShortChunk() {
+        ShopProperties properties = properties();
+        SessionSweeper.Run run = new SessionSweeper(null, mock(MongoPoolLoad.class), properties).new Run();
+        AtomicInteger calls = new AtomicInteger();
+
+        run.drain(() -> calls.incrementAndGet() < 3 ? 10 : 4);
+
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void drainYieldsWhileThePoolIsSaturated() {
+        MongoPoolLoad poolLoad = mock(MongoPoolLoad.class);
+        when(poolLoad.saturated()).thenReturn(false, true);
+        SessionSweeper sweeper = new SessionSweeper(null, poolLoad, properties());
+        SessionSweeper.Run run = sweeper.new Run();
+        AtomicInteger calls = new AtomicInteger();
+
+        run.drain(() -> {
+            calls.incrementAndGet();
+            return 10;
+        });
+        run.drain(calls::incrementAndGet);
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void deleteRechecksStaleness() {
+        Fixture fixture = new Fixture(false);
+        when(fixture.items.deleteMany(any(Bson.class))).thenReturn(DeleteResult.acknowledged(2));
+
+        assertEquals(2, fixture.run().sweepWishlists(CUTOFF));
+
+        ArgumentCaptor<Bson> filter = ArgumentCaptor.forClass(Bson.class);
+        verify(fixture.items).deleteMany(filter.capture());
+        Document deleted = (Document) filter.getValue();
+        assertEquals(new Document("$lt", Date.from(CUTOFF)), deleted.get("lastTouchedAt"));
+        assertTrue(deleted.containsKey("_id"));
+        assertEquals(2, fixture.sweeper.stats().reclaimedDocuments());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void archiveReplacesCopiesAndDropsThoseOfItemsTouchedMeanwhile() {
+        Fixture fixture = new Fixture(true);
+        when(fixture.items.deleteMany(any(Bson.class))).thenReturn(DeleteResult.acknowledged(1));
+
+        fixture.run().sweepWishlists(CUTOFF);
+
+        verify(fixture.archive).bulkWrite(any(List.class), any(BulkWriteOptions.class));
+        ArgumentCaptor<Bson> dropped = ArgumentCaptor.forClass(Bson.class);
+        verify(fixture.archive).deleteMany(dropped.capture());
+        assertEquals(new Document("_id", new Document("$in", List.of(fixture.chunk.get(1).get("_id")))), dropped.getValue());
+    }
+
+    @Test
+    void nothingIsArchivedWhenEveryItemIsDeleted() {
+        Fixture fixture = new Fixture(true);
+        when(fixture.items.deleteMany(any(Bson.class))).thenReturn(DeleteResult.acknowledged(2));
+
+        fixture.run().sweepWishlists(CUTOFF);
+
+        verify(fixture.archive, never()).deleteMany(any(Bson.class));
+        assertTrue(fixture.sweeper.stats().reclaimedBytes() > 0);
+    }
+
+    private static ShopProperties properties() {
+        ShopProperties properties = new ShopProperties();
+        properties.getSession().setSweepBatchSize(10);
+        properties.getSession().setSweepMaxBatches(5);
+        properties.getSession().setSweepPause(Duration.ZERO);
+        return properties;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static final class Fixture {
+        private final MongoCollection<RawBsonDocument> items = mock(MongoCollection.class);
+        private final MongoCollection<RawBsonDocument> archive = mock(MongoCollection.class);
+        private final List<RawBsonDocument> chunk = List.of(item(1), item(2));
+        private final SessionSweeper sweeper;
+
+        private Fixture(boolean archiveWishlists) {
+            ShopProperties properties = properties();
+            properties.getSession().setArchiveWishlists(archiveWishlists);
+            MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+            MongoCollection<Document> itemDocuments = mock(MongoCollection.class);
+            MongoCollection<Document> archiveDocuments = mock(MongoCollection.class);
+            when(mongoTemplate.getCollectionName(WishlistItem.class)).thenReturn("wishlist_items");
+            when(mongoTemplate.getCollection("wishlist_items")).thenReturn(itemDocuments);
+            when(mongoTemplate.getCollection(SessionSweeper.ARCHIVE_COLLECTION)).thenReturn(archiveDocuments);
+            when(itemDocuments.withDocumentClass(RawBsonDocument.class)).thenReturn(items);
+            when(archiveDocuments.withDocumentClass(RawBsonDocument.class)).thenReturn(archive);
+
+            FindIterable<RawBsonDocument> stale = mock(FindIterable.class);
+            when(items.find(any(Bson.class))).thenReturn(stale);
+            when(stale.sort(any())).thenReturn(stale);
+            when(stale.limit(anyInt())).thenReturn(stale);
+            when(stale.projection(any())).thenReturn(stale);
+            // The first read is the stale chunk; the second finds which of its items survived the delete.
+            when(stale.into(any())).thenAnswer(invocation -> {
+                List<RawBsonDocument> target = invocation.getArgument(0);
+                target.addAll(chunk);
+                return target;
+            }).thenAnswer(invocation -> {
+                List<RawBsonDocument> target = invocation.getArgument(0);
+                target.add(chunk.get(1));
+                return target;
+            });
+            this.sweeper = new SessionSweeper(mongoTemplate, mock(MongoPoolLoad.class), properties);
+        }
+
+        private SessionSweeper.Run run() {
+            return sweeper.new Run();
+        }
+
+        private static RawBsonDocument item(int id) {
+            return RawBsonDocument.parse(new Document("_id", "item-" + id).append("sessionId", "s").toJson());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.ecommerce.backend.shop.wishlist;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ecommerce.backend.shop.dto.ItemChange;
+import com.ecommerce.backend.shop.product.Product;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+class WishlistItemRepositoryCustomImplTest {
+    private static final Product LAMP = new Product(1, "Lamp", "Home", "Desk lamp", 500, 4.5);
+
+    @Test
+    void resumesFromTheLineAConcurrentAddInserted() {
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        BulkOperations first = mock(BulkOperations.class);
+        BulkOperations retry = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, WishlistItem.class)).thenReturn(first, retry);
+        BulkWriteError duplicate = new BulkWriteError(11000, "E11000", new BsonDocument(), 1);
+        when(first.execute()).thenThrow(new BulkOperationException("E11000", new MongoBulkWriteException(
+                BulkWriteResult.unacknowledged(), List.of(duplicate), null, new ServerAddress(), Set.of())));
+
+        new WishlistItemRepositoryCustomImpl(mongoTemplate)
+                .applyChanges("s-1", List.of(ItemChange.remove(2), ItemChange.add(1, 1)), Map.of(1, LAMP));
+
+        verify(retry).upsert(any(Query.class), any(Update.class));
+        verify(retry, never()).remove(any(Query.class));
+        verify(retry).execute();
+    }
+}
@@ -0,0 +1,32 @@
+package com.ecommerce.backend.benchmark;
+
+import java.util.Properties;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.PropertiesPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+
+/**
+ * Binds configuration properties from the backend's own {@code application.yml}, so benchmarks run with the
+ * same keyword lists, cache sizes and limits as the application.
+ */
+public final class BenchmarkConfig {
+    private static final Binder BINDER = loadBinder();
+
+    private BenchmarkConfig() {
+    }
+
+    public static <T> T bind(String prefix, Class<T> type) {
+        return BINDER.bindOrCreate(prefix, type);
+    }
+
+    private static Binder loadBinder() {
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource("application.yml"));
+        Properties properties = yaml.getObject();
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addLast(new PropertiesPropertySource("application.yml", properties));
+        return Binder.get(environment);
+    }
+}
@@ -0,0 +1,29 @@
+package com.ecommerce.backend.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.openjdk.jmh.Main;
+
+/**
+ * JMH entry point that writes JSON results to {@code jmh-result.json} unless {@code -rf}/{@code -rff} say otherwise.
+ */
+public final class BenchmarkMain {
+    static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> given = Arrays.asList(args);
+        List<String> effective = new ArrayList<>();
+        if (!given.contains("-rf")) {
+            effective.addAll(List.of("-rf", "json"));
+        }
+        if (!given.contains("-rff")) {
+            effective.addAll(List.of("-rff", DEFAULT_RESULT_FILE));
+        }
+        effective.addAll(given);
+        Main.main(effective.toArray(String[]::new));
+    }
+}
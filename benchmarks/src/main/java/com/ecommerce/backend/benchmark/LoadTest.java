@@ -0,0 +1,142 @@
+package com.ecommerce.backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.channel.ChannelOption;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Holds a fixed number of keep-alive connections against a running backend and reports throughput, latency
+ * and the server's heap and thread counts, so servlet and reactive mode can be compared at the same load.
+ * Usage: {@code java -cp benchmarks.jar com.ecommerce.backend.benchmark.LoadTest http://localhost:8080 [connections] [seconds] [path...]}.
+ */
+public final class LoadTest {
+    private static final int DEFAULT_CONNECTIONS = 10_000;
+    private static final int DEFAULT_SECONDS = 60;
+    private static final List<String> DEFAULT_PATHS = List.of(
+            "/api/products/page?limit=20",
+            "/api/cart?sessionId=load-{user}",
+            "/api/orders/page?view=summary&sessionId=load-{user}"
+    );
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: LoadTest <base-url> [connections] [seconds] [path...]");
+            System.exit(2);
+        }
+        String baseUrl = args[0];
+        int connections = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_CONNECTIONS;
+        Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_SECONDS);
+        List<String> paths = args.length > 3 ? List.of(args).subList(3, args.length) : DEFAULT_PATHS;
+
+        ConnectionProvider pool = ConnectionProvider.builder("load-test")
+                .maxConnections(connections)
+                .pendingAcquireMaxCount(-1)
+                .pendingAcquireTimeout(Duration.ofMinutes(1))
+                .build();
+        HttpClient client = HttpClient.create(pool)
+                .baseUrl(baseUrl)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 30_000)
+                .responseTimeout(Duration.ofSeconds(30));
+
+        Map<String, Double> idle = serverStats(client);
+        System.out.printf("Server idle: heap %.1f MB, %d threads%n", idle.get("heap") / 1_048_576, idle.get("threads").longValue());
+
+        Timer latencies = Timer.builder("load-test.requests")
+                .publishPercentiles(0.5, 0.9, 0.99)
+                .distributionStatisticExpiry(duration.multipliedBy(2))
+                .distributionStatisticBufferLength(1)
+                .register(new SimpleMeterRegistry());
+        Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        LongAdder failures = new LongAdder();
+        long startedAt = System.nanoTime();
+        long endAt = startedAt + duration.toNanos();
+
+        // One virtual user per connection, each sending its next request as soon as the previous one is answered.
+        Mono<Map<String, Double>> loaded = Mono.delay(duration.dividedBy(2), Schedulers.boundedElastic())
+                .map(ignored -> serverStats(client))
+                .cache();
+        Mono<Void> users = Flux.range(0, connections)
+                .flatMap(user -> Mono.defer(() -> request(client, paths, user, latencies, statuses, failures))
+                        .repeat(() -> System.nanoTime() < endAt), connections)
+                .then();
+        Map<String, Double> underLoad = users.and(loaded).then(loaded).block();
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        pool.dispose();
+
+        HistogramSnapshot snapshot = latencies.takeSnapshot();
+        System.out.printf("Connections: %d, duration: %.1f s%n", connections, seconds);
+        System.out.printf("Requests: %d (%.0f req/s), failures: %d%n", snapshot.count(), snapshot.count() / seconds, failures.sum());
+        StringBuilder percentiles = new StringBuilder("Latency ms:");
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            percentiles.append(String.format(" p%.0f %.1f,", value.percentile() * 100, value.value(TimeUnit.MILLISECONDS)));
+        }
+        System.out.printf("%s max %.1f%n", percentiles, snapshot.max(TimeUnit.MILLISECONDS));
+        System.out.println("Statuses: " + new TreeMap<>(statuses));
+        double heapDelta = underLoad.get("heap") - idle.get("heap");
+        System.out.printf("Server under load: heap %.1f MB, %d threads (%+.1f MB per 10k connections)%n",
+                underLoad.get("heap") / 1_048_576,
+                underLoad.get("threads").longValue(),
+                heapDelta / 1_048_576 * DEFAULT_CONNECTIONS / connections);
+    }
+
+    private static Mono<Void> request(
+            HttpClient client,
+            List<String> paths,
+            int user,
+            Timer latencies,
+            Map<Integer, LongAdder> statuses,
+            LongAdder failures
+    ) {
+        String path = paths.get(user % paths.size()).replace("{user}", String.valueOf(user));
+        long sentAt = System.nanoTime();
+        return client.get()
+                .uri(path)
+                .responseSingle((response, body) -> body.asByteArray()
+                        .defaultIfEmpty(new byte[0])
+                        .map(ignored -> response.status().code()))
+                .doOnNext(status -> {
+                    latencies.record(System.nanoTime() - sentAt, TimeUnit.NANOSECONDS);
+                    statuses.computeIfAbsent(status, ignored -> new LongAdder()).increment();
+                })
+                .onErrorResume(ex -> {
+                    failures.increment();
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private static Map<String, Double> serverStats(HttpClient client) {
+        return Map.of(
+                "heap", metric(client, "/actuator/metrics/jvm.memory.used?tag=area:heap"),
+                "threads", metric(client, "/actuator/metrics/jvm.threads.live")
+        );
+    }
+
+    private static double metric(HttpClient client, String path) {
+        byte[] body = client.get().uri(path).responseContent().aggregate().asByteArray().block(Duration.ofSeconds(30));
+        try {
+            return new ObjectMapper().readTree(body).path("measurements").path(0).path("value").asDouble();
+        } catch (IOException ex) {
+            throw new IllegalStateException("Could not read " + path, ex);
+        }
+    }
+}
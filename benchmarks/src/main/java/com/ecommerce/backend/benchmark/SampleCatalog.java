@@ -0,0 +1,80 @@
+package com.ecommerce.backend.benchmark;
+
+import com.ecommerce.backend.shop.order.Order;
+import com.ecommerce.backend.shop.product.CategoryDictionary;
+import com.ecommerce.backend.shop.product.Product;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic data shaped like the seeded sample catalog, so runs on different commits see the same input.
+ */
+public final class SampleCatalog {
+    private static final long SEED = 42L;
+    private static final String[] BRANDS = {
+            "Acme", "Zenith", "Nova", "Orbit", "Lumen", "Vertex", "Pulse", "Aurora", "Summit", "Echo"
+    };
+    private static final String[][] ITEMS = {
+            {"Wireless Earbuds", "Bluetooth Speaker", "Smartphone", "Laptop", "Smart Watch", "Power Bank"},
+            {"Cotton Shirt", "Denim Jeans", "Running Shoes", "Leather Jacket", "Summer Dress", "Wool Scarf"},
+            {"Table Lamp", "Cookware Set", "Bedsheet", "Wall Clock", "Storage Box", "Coffee Maker"},
+            {"Face Serum", "Lipstick", "Sunscreen", "Hair Dryer", "Perfume", "Moisturizer"},
+            {"Mystery Novel", "Cookbook", "Science Guide", "Poetry Collection", "Travel Journal", "Biography"},
+            {"Yoga Mat", "Football", "Cricket Bat", "Dumbbell Set", "Cycling Helmet", "Tennis Racket"}
+    };
+    private static final String[] QUALITIES = {
+            "lightweight", "durable", "premium", "wireless", "compact", "waterproof", "organic", "classic"
+    };
+
+    private SampleCatalog() {
+    }
+
+    public static List<Product> products(int size) {
+        Random random = new Random(SEED);
+        List<String> categories = CategoryDictionary.DEFAULT_CATEGORIES;
+        List<Product> products = new ArrayList<>(size);
+        for (int id = 1; id <= size; id++) {
+            int category = random.nextInt(categories.size());
+            String item = ITEMS[category][random.nextInt(ITEMS[category].length)];
+            String brand = BRANDS[random.nextInt(BRANDS.length)];
+            String quality = QUALITIES[random.nextInt(QUALITIES.length)];
+            products.add(new Product(
+                    id,
+                    brand + " " + item + " " + id,
+                    categories.get(category),
+                    "A " + quality + " " + item.toLowerCase() + " from " + brand + ".",
+                    199 + random.nextInt(80_000),
+                    Math.round((2.5 + random.nextDouble() * 2.5) * 10) / 10.0
+            ));
+        }
+        return products;
+    }
+
+    public static List<Order> orders(String sessionId, int count, int itemsPerOrder, List<Product> catalog) {
+        Random random = new Random(SEED);
+        Instant base = Instant.parse("2024-01-01T00:00:00Z");
+        List<Order> orders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<Order.LineItem> items = new ArrayList<>(itemsPerOrder);
+            int total = 0;
+            for (int j = 0; j < itemsPerOrder; j++) {
+                Product product = catalog.get(random.nextInt(catalog.size()));
+                int qty = 1 + random.nextInt(3);
+                items.add(new Order.LineItem(product.getId(), product.getName(), product.getPrice(), qty));
+                total += product.getPrice() * qty;
+            }
+            orders.add(new Order(
+                    "ORD" + String.format("%010d", i),
+                    sessionId,
+                    items,
+                    total,
+                    "UPI",
+                    "PLACED",
+                    base.plusSeconds(3_600L * i)
+            ));
+        }
+        return orders;
+    }
+}
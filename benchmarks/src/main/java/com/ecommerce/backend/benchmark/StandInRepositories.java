@@ -0,0 +1,99 @@
+package com.ecommerce.backend.benchmark;
+
+import com.ecommerce.backend.shop.order.Order;
+import com.ecommerce.backend.shop.order.OrderRepository;
+import com.ecommerce.backend.shop.product.Product;
+import com.ecommerce.backend.shop.product.ProductRepository;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * In-memory stand-ins for the Mongo repositories. Only the methods the benchmarked paths call are implemented;
+ * filtering and ordering mirror the Mongo queries so result sizes match production.
+ */
+public final class StandInRepositories {
+    private static final Comparator<Product> BEST_RATED = Comparator.comparingDouble(Product::getRating).reversed()
+            .thenComparingInt(Product::getPrice)
+            .thenComparing(Product::getId);
+
+    private StandInRepositories() {
+    }
+
+    public static ProductRepository products(List<Product> catalog) {
+        List<Product> byId = catalog.stream().sorted(Comparator.comparing(Product::getId)).toList();
+        Map<Integer, Product> index = new HashMap<>();
+        byId.forEach(product -> index.put(product.getId(), product));
+
+        return proxy(ProductRepository.class, (proxy, method, args) -> switch (method.getName()) {
+            case "findAll" -> byId;
+            case "count" -> (long) byId.size();
+            case "findById" -> Optional.ofNullable(index.get((Integer) args[0]));
+            case "findAllById" -> {
+                List<Product> found = new ArrayList<>();
+                for (Object id : (Iterable<?>) args[0]) {
+                    Product product = index.get((Integer) id);
+                    if (product != null) {
+                        found.add(product);
+                    }
+                }
+                yield found;
+            }
+            case "findMatching" -> findMatching(byId, (String) args[0], (String) args[1], (Integer) args[2], (int) args[3]);
+            case "findInPriceRange" -> findInPriceRange(byId, (String) args[0], (Integer) args[1], (Integer) args[2], (int) args[3]);
+            default -> unsupported(proxy, method.getName(), args);
+        });
+    }
+
+    public static OrderRepository orders(List<Order> orders) {
+        Map<String, List<Order>> bySession = new HashMap<>();
+        orders.stream()
+                .sorted(Comparator.comparing(Order::getCreatedAt).reversed())
+                .forEach(order -> bySession.computeIfAbsent(order.getSessionId(), key -> new ArrayList<>()).add(order));
+
+        return proxy(OrderRepository.class, (proxy, method, args) -> switch (method.getName()) {
+            case "findBySessionIdOrderByCreatedAtDesc" -> bySession.getOrDefault((String) args[0], List.of());
+            default -> unsupported(proxy, method.getName(), args);
+        });
+    }
+
+    private static List<Product> findMatching(List<Product> byId, String category, String search, Integer afterId, int limit) {
+        String needle = search == null ? "" : search.toLowerCase(Locale.ROOT);
+        Stream<Product> matches = byId.stream()
+                .filter(product -> category == null || category.isBlank() || category.equals(product.getCategory()))
+                .filter(product -> afterId == null || product.getId() > afterId)
+                .filter(product -> needle.isBlank()
+                        || product.getName().toLowerCase(Locale.ROOT).contains(needle)
+                        || product.getDescription().toLowerCase(Locale.ROOT).contains(needle));
+        return (limit > 0 ? matches.limit(limit) : matches).toList();
+    }
+
+    private static List<Product> findInPriceRange(List<Product> byId, String category, Integer minPrice, Integer maxPrice, int limit) {
+        Stream<Product> matches = byId.stream()
+                .filter(product -> category == null || category.isBlank() || category.equals(product.getCategory()))
+                .filter(product -> minPrice == null || product.getPrice() >= minPrice)
+                .filter(product -> maxPrice == null || product.getPrice() <= maxPrice)
+                .sorted(BEST_RATED);
+        return (limit > 0 ? matches.limit(limit) : matches).toList();
+    }
+
+    private static Object unsupported(Object proxy, String method, Object[] args) {
+        return switch (method) {
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            case "toString" -> "StandInRepository";
+            default -> throw new UnsupportedOperationException(method + " is not available on the benchmark stand-in");
+        };
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+}
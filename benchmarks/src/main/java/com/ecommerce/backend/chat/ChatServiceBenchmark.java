@@ -0,0 +1,129 @@
+package com.ecommerce.backend.chat;
+
+import com.ecommerce.backend.benchmark.BenchmarkConfig;
+import com.ecommerce.backend.benchmark.SampleCatalog;
+import com.ecommerce.backend.benchmark.StandInRepositories;
+import com.ecommerce.backend.chat.intent.KeywordIntentClassifier;
+import com.ecommerce.backend.config.ChatProperties;
+import com.ecommerce.backend.config.DownstreamLimiter;
+import com.ecommerce.backend.config.GeminiProperties;
+import com.ecommerce.backend.config.ShopProperties;
+import com.ecommerce.backend.shop.product.CategoryDictionary;
+import com.ecommerce.backend.shop.product.ProductCache;
+import com.ecommerce.backend.shop.product.ProductRepository;
+import com.ecommerce.backend.shop.product.ProductService;
+import com.ecommerce.backend.shop.product.ShoppingQueryParser;
+import com.ecommerce.backend.shop.product.embedding.HashingEmbedder;
+import com.ecommerce.backend.shop.product.embedding.ProductVectorIndex;
+import com.ecommerce.backend.shop.product.search.ProductSearchIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Chat hot paths with Gemini stubbed out: scope classification, and prompt building (product recommendation,
+ * context formatting, cache fingerprint) on a cache miss versus a cached reply.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChatServiceBenchmark {
+    private static final int CATALOG_SIZE = 10_000;
+    private static final String STUB_REPLY = "Here are a few options from the catalog.";
+    private static final String[] MESSAGES = {
+            "Can you recommend good wireless earbuds?",
+            "where is my order ORD01HX4K2M9PQ",
+            "how many items are in my cart",
+            "what is the capital of France",
+            "suggest running shoes under rs 3000",
+            "Which payment methods do you accept? Is UPI supported?",
+            "tell me a joke about cats",
+            "show me electronics between 10k and 20k"
+    };
+
+    private ChatMessageParser messageParser;
+    private ChatService chatService;
+    private int next;
+    private long uniqueSuffix;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ShopProperties shopProperties = BenchmarkConfig.bind("shop", ShopProperties.class);
+        ChatProperties chatProperties = BenchmarkConfig.bind("chat", ChatProperties.class);
+        ProductRepository repository = StandInRepositories.products(SampleCatalog.products(CATALOG_SIZE));
+        CategoryDictionary categoryDictionary = new CategoryDictionary();
+        ShoppingQueryParser shoppingQueryParser = new ShoppingQueryParser(categoryDictionary);
+        ProductSearchIndex searchIndex = new ProductSearchIndex(repository, categoryDictionary, event -> { });
+        searchIndex.rebuild();
+        ProductVectorIndex vectorIndex = new ProductVectorIndex(repository, new HashingEmbedder(shopProperties), shopProperties);
+        vectorIndex.rebuild();
+        ProductService productService = new ProductService(
+                repository,
+                searchIndex,
+                new ProductCache(repository, shopProperties),
+                categoryDictionary,
+                shoppingQueryParser,
+                vectorIndex
+        );
+
+        messageParser = new ChatMessageParser(new KeywordIntentClassifier(chatProperties), shoppingQueryParser);
+        // The benchmarked messages never reach order tracking or cart counts, so the router needs neither service.
+        chatService = new ChatService(
+                stubGemini(),
+                productService,
+                new ChatResponseCache(chatProperties),
+                messageParser,
+                new ChatRouter(null, null, productService)
+        );
+        if (!STUB_REPLY.equals(chatService.replyTo(freshMessage(), null))) {
+            throw new IllegalStateException("Prompt benchmark message was answered without building a prompt");
+        }
+    }
+
+    @Benchmark
+    public ParsedChatMessage classifyMessage() {
+        return messageParser.parse(MESSAGES[next++ & (MESSAGES.length - 1)]);
+    }
+
+    @Benchmark
+    public String buildPromptOnCacheMiss() {
+        return chatService.replyTo(freshMessage(), null);
+    }
+
+    @Benchmark
+    public String cachedReply() {
+        return chatService.replyTo("Can you recommend good wireless earbuds?", null);
+    }
+
+    private String freshMessage() {
+        return "recommend good wireless earbuds for the gym, request " + Long.toString(uniqueSuffix++, 36);
+    }
+
+    private static GeminiClient stubGemini() {
+        GeminiProperties geminiProperties = new GeminiProperties();
+        geminiProperties.setApiKey("benchmark");
+        return new GeminiClient(RestClient.create(), geminiProperties, new ObjectMapper(), new SimpleMeterRegistry(),
+                new DownstreamLimiter("gemini", 1, Duration.ZERO)) {
+            @Override
+            public String generateReply(String userMessage) {
+                return STUB_REPLY;
+            }
+        };
+    }
+}
@@ -0,0 +1,101 @@
+package com.ecommerce.backend.chat;
+
+import com.ecommerce.backend.config.DownstreamLimiter;
+import com.ecommerce.backend.config.GeminiHttpClientPool;
+import com.ecommerce.backend.config.GeminiProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Gemini request latency per client type against a local stub that answers after a fixed delay.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(32)
+@Fork(1)
+public class GeminiClientBenchmark {
+    private static final long UPSTREAM_DELAY_MILLIS = 2;
+    private static final byte[] REPLY =
+            "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"ok\"}]}}]}".getBytes(StandardCharsets.UTF_8);
+
+    @Param({"SIMPLE", "JDK", "POOLED"})
+    GeminiProperties.ClientType clientType;
+
+    private HttpServer stub;
+    private ExecutorService stubThreads;
+    private GeminiHttpClientPool pool;
+    private GeminiClient client;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        stubThreads = Executors.newCachedThreadPool();
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.createContext("/", GeminiClientBenchmark::reply);
+        stub.setExecutor(stubThreads);
+        stub.start();
+        String baseUrl = "http://127.0.0.1:" + stub.getAddress().getPort();
+
+        GeminiProperties properties = new GeminiProperties();
+        properties.setApiKey("benchmark");
+        properties.setBaseUrl(baseUrl);
+        properties.getHttp().setClient(clientType);
+        pool = GeminiHttpClientPool.create(properties.getHttp());
+        RestClient restClient = RestClient.builder().baseUrl(baseUrl).requestFactory(pool.requestFactory()).build();
+        client = new GeminiClient(restClient, properties, new ObjectMapper(), new SimpleMeterRegistry(),
+                new DownstreamLimiter("gemini", properties.getHttp().getMaxConnections(), Duration.ofSeconds(5)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        pool.destroy();
+        stub.stop(0);
+        stubThreads.shutdownNow();
+    }
+
+    @Benchmark
+    public String generateReply() {
+        return client.generateReply("benchmark");
+    }
+
+    private static void reply(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        try {
+            Thread.sleep(UPSTREAM_DELAY_MILLIS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, REPLY.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(REPLY);
+        }
+    }
+}
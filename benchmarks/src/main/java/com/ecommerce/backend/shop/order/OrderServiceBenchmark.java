@@ -0,0 +1,62 @@
+package com.ecommerce.backend.shop.order;
+
+import com.ecommerce.backend.benchmark.BenchmarkConfig;
+import com.ecommerce.backend.benchmark.SampleCatalog;
+import com.ecommerce.backend.benchmark.StandInRepositories;
+import com.ecommerce.backend.config.ShopProperties;
+import com.ecommerce.backend.shop.order.dto.OrderResponse;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Measures {@code toResponse} mapping through {@link OrderService#listOrders}; the stand-in repository
+ * returns a pre-sorted list, so the mapping dominates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderServiceBenchmark {
+    private static final String SESSION_ID = "benchmark-session";
+
+    @Param({"10", "100"})
+    int orders;
+
+    @Param({"1", "10"})
+    int itemsPerOrder;
+
+    private OrderService orderService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        OrderRepository repository = StandInRepositories.orders(
+                SampleCatalog.orders(SESSION_ID, orders, itemsPerOrder, SampleCatalog.products(1_000)));
+        orderService = new OrderService(
+                repository,
+                null,
+                new OrderIdGenerator(BenchmarkConfig.bind("shop", ShopProperties.class)),
+                new StaticListableBeanFactory().getBeanProvider(TransactionTemplate.class)
+        );
+    }
+
+    @Benchmark
+    public List<OrderResponse> listOrders() {
+        return orderService.listOrders(SESSION_ID);
+    }
+}
@@ -0,0 +1,46 @@
+package com.ecommerce.backend.shop.product;
+
+import com.ecommerce.backend.benchmark.SampleCatalog;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductJsonBenchmark {
+    @Param({"50", "1000", "100000"})
+    int listSize;
+
+    private ObjectMapper objectMapper;
+    private List<Product> products;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Same builder Spring MVC uses for its JSON message converter.
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        products = SampleCatalog.products(listSize);
+    }
+
+    @Benchmark
+    public byte[] serializeProductList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(products);
+    }
+}
@@ -0,0 +1,68 @@
+package com.ecommerce.backend.shop.product;
+
+import com.ecommerce.backend.benchmark.BenchmarkConfig;
+import com.ecommerce.backend.benchmark.SampleCatalog;
+import com.ecommerce.backend.benchmark.StandInRepositories;
+import com.ecommerce.backend.config.ShopProperties;
+import com.ecommerce.backend.shop.product.embedding.HashingEmbedder;
+import com.ecommerce.backend.shop.product.embedding.ProductVectorIndex;
+import com.ecommerce.backend.shop.product.search.ProductSearchIndex;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ProductServiceBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    int catalogSize;
+
+    private ProductService productService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ShopProperties shopProperties = BenchmarkConfig.bind("shop", ShopProperties.class);
+        ProductRepository repository = StandInRepositories.products(SampleCatalog.products(catalogSize));
+        CategoryDictionary categoryDictionary = new CategoryDictionary();
+        ProductSearchIndex searchIndex = new ProductSearchIndex(repository, categoryDictionary, event -> { });
+        searchIndex.rebuild();
+        productService = new ProductService(
+                repository,
+                searchIndex,
+                new ProductCache(repository, shopProperties),
+                categoryDictionary,
+                new ShoppingQueryParser(categoryDictionary),
+                new ProductVectorIndex(repository, new HashingEmbedder(shopProperties), shopProperties)
+        );
+    }
+
+    @Benchmark
+    public List<Product> search() {
+        return productService.listProducts("wireless", "All");
+    }
+
+    @Benchmark
+    public List<Product> searchWithinCategory() {
+        return productService.listProducts("running shoes", "Fashion");
+    }
+
+    @Benchmark
+    public List<Product> categoryFilter() {
+        return productService.listProducts("", "Electronics");
+    }
+}
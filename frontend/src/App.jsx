@@ -132,17 +132,29 @@ function App() {
     setWishlist(Array.isArray(data) ? data : []);
   }, [requestJson, sessionId]);
 
-  const loadOrders = useCallback(async () => {
-    const data = await requestJson(`/api/orders?sessionId=${encodeURIComponent(sessionId)}`);
-    setOrders(Array.isArray(data) ? data : []);
-  }, [requestJson, sessionId]);
+  const loadSession = useCallback(async () => {
+    const data = await requestJson(`/api/session/${encodeURIComponent(sessionId)}`);
+    if (Array.isArray(data.cart)) {
+      setCart(data.cart);
+    }
+    if (Array.isArray(data.wishlist)) {
+      setWishlist(data.wishlist);
+    }
+    if (Array.isArray(data.orders?.items)) {
+      setOrders(data.orders.items);
+    }
+    const failed = Object.keys(data.errors || {});
+    if (failed.length > 0) {
+      notify('warning', `Could not load ${failed.join(', ')}. Refresh to try again.`);
+    }
+  }, [requestJson, sessionId, notify]);
 
   useEffect(() => {
-    Promise.all([loadCart(), loadWishlist(), loadOrders()]).catch((err) => {
+    loadSession().catch((err) => {
       setError(err.message);
       notify('error', err.message);
     });
-  }, [loadCart, loadWishlist, loadOrders, notify]);
+  }, [loadSession, notify]);
 
   useEffect(() => {
     const timer = setTimeout(() => {
@@ -325,36 +337,40 @@ function App() {
     }
   };
 
-  const handleChat = async () => {
+  const handleChat = () => {
     if (!chatInput.trim()) return;
     const userText = chatInput.trim();
+    const botId = `bot-${Date.now()}`;
 
-    setChatLog((prev) => [...prev, { id: `user-${Date.now()}`, from: 'user', text: userText }]);
+    setChatLog((prev) => [
+      ...prev,
+      { id: `user-${Date.now()}`, from: 'user', text: userText },
+      { id: botId, from: 'bot', text: '' }
+    ]);
     setChatInput('');
 
-    try {
-      const data = await requestJson('/api/chat', {
-        method: 'POST',
-        body: JSON.stringify({ message: userText })
-      });
+    let received = false;
+    const setBotText = (update) =>
+      setChatLog((prev) => prev.map((entry) => (entry.id === botId ? { ...entry, text: update(entry.text) } : entry)));
 
-      setChatLog((prev) => [
-        ...prev,
-        { id: `bot-${Date.now()}`, from: 'bot', text: data.reply || 'No response from assistant.' }
-      ]);
+    const source = new EventSource(`${apiBaseUrl}/api/chat/stream?message=${encodeURIComponent(userText)}&sessionId=${encodeURIComponent(sessionId)}`);
+    source.addEventListener('chunk', (event) => {
+      received = true;
+      const { text } = JSON.parse(event.data);
+      setBotText((current) => current + text);
+    });
+    source.addEventListener('done', () => {
+      source.close();
+      if (!received) setBotText(() => 'No response from assistant.');
       setError('');
-    } catch (err) {
-      setChatLog((prev) => [
-        ...prev,
-        {
-          id: `bot-error-${Date.now()}`,
-          from: 'bot',
-          text: 'Chat service is unavailable right now. Please try again.'
-        }
-      ]);
-      setError(err.message);
-      notify('error', err.message);
-    }
+    });
+    source.addEventListener('error', (event) => {
+      source.close();
+      const message = event.data ? JSON.parse(event.data).error : 'Chat stream interrupted.';
+      if (!received) setBotText(() => 'Chat service is unavailable right now. Please try again.');
+      setError(message);
+      notify('error', message);
+    });
   };
 
   const startVoiceInput = () => {